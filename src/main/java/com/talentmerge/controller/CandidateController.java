@@ -2,6 +2,7 @@ package com.talentmerge.controller;
 
 import com.talentmerge.dto.CandidateCreateRequestDTO;
 import com.talentmerge.dto.CandidateResponseDTO;
+import com.talentmerge.dto.CandidateScrollResponseDTO;
 import com.talentmerge.dto.ErrorResponse;
 import com.talentmerge.service.CandidateService;
 import jakarta.validation.Valid;
@@ -50,7 +51,8 @@ public class CandidateController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
         
         log.info("Retrieving candidates - page: {}, size: {}, sortBy: {}, sortDir: {}, search: {}", 
                 page, size, sortBy, sortDir, search);
@@ -71,7 +73,7 @@ public class CandidateController {
         
         // Get candidates (optimized summary for list view)
         boolean includeDetails = false;
-        Page<?> candidates = candidateService.getAllCandidates(pageable, includeDetails);
+        Page<?> candidates = candidateService.getAllCandidates(pageable, includeDetails, search, estimateTotal);
         
         log.info("Retrieved {} candidates out of {} total", 
                 candidates.getNumberOfElements(), candidates.getTotalElements());
@@ -79,6 +81,28 @@ public class CandidateController {
         return ResponseEntity.ok(candidates);
     }
 
+    /**
+     * Get candidates page by page with keyset pagination: pass the nextCursor of a page to get the
+     * next one. Deep pages are as fast as the first, and the total is only counted on request.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CandidateScrollResponseDTO> scrollCandidates(
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("Scrolling candidates - size: {}, sortBy: {}, sortDir: {}, cursor: {}", size, sortBy, sortDir, cursor);
+
+        if (size < 1) size = 10;
+        if (size > 100) size = 100;
+
+        CandidateScrollResponseDTO candidates = candidateService.scrollCandidates(
+                validateSortField(sortBy), sortDir.equalsIgnoreCase("desc"), size, cursor, includeTotal);
+        return ResponseEntity.ok(candidates);
+    }
+
     /**
      * Get candidate by ID
      */
@@ -204,10 +228,8 @@ public class CandidateController {
     public ResponseEntity<CandidateStatsResponse> getCandidateStats() {
         log.info("Retrieving candidate statistics");
         
-        // Get total count by requesting first page
-        Page<?> firstPage = candidateService.getAllCandidates(PageRequest.of(0, 1), false);
-        long totalCandidates = firstPage.getTotalElements();
-        
+        long totalCandidates = candidateService.countCandidates();
+
         CandidateStatsResponse stats = new CandidateStatsResponse(totalCandidates);
         return ResponseEntity.ok(stats);
     }
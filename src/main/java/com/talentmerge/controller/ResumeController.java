@@ -5,13 +5,16 @@ import com.talentmerge.dto.EducationDTO;
 import com.talentmerge.dto.WorkExperienceDTO;
 import com.talentmerge.model.Candidate;
 import com.talentmerge.repository.CandidateRepository;
+import com.talentmerge.service.CandidateDocumentService;
 import com.talentmerge.service.FileStorageService;
 import com.talentmerge.service.IToolParsingService;
 import com.talentmerge.service.IParsingService;
 import com.talentmerge.service.AiParsingService;
 import com.talentmerge.service.HybridAnonymizationService;
+import com.talentmerge.service.IncrementalReparseService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -31,19 +34,28 @@ public class ResumeController {
     private final IParsingService parsingService;
     private final HybridAnonymizationService anonymizationService;
     private final CandidateRepository candidateRepository;
+    private final IncrementalReparseService incrementalReparseService;
+    private final CandidateDocumentService candidateDocumentService;
 
     @Autowired
     public ResumeController(
             FileStorageService fileStorageService,
             IToolParsingService IToolParsingService,
             @Qualifier("ai") IParsingService parsingService,
+            @Qualifier("ai-sections") IParsingService sectionedParsingService,
+            @Value("${app.ai.parsing-mode:full}") String parsingMode,
             HybridAnonymizationService anonymizationService,
-            CandidateRepository candidateRepository) {
+            CandidateRepository candidateRepository,
+            IncrementalReparseService incrementalReparseService,
+            CandidateDocumentService candidateDocumentService) {
         this.fileStorageService = fileStorageService;
         this.IToolParsingService = IToolParsingService;
-        this.parsingService = parsingService;
+        // "sections" issues one concurrent prompt per resume section instead of one full-document prompt
+        this.parsingService = "sections".equalsIgnoreCase(parsingMode) ? sectionedParsingService : parsingService;
         this.anonymizationService = anonymizationService;
         this.candidateRepository = candidateRepository;
+        this.incrementalReparseService = incrementalReparseService;
+        this.candidateDocumentService = candidateDocumentService;
     }
 
     @PostMapping("/upload")
@@ -66,9 +78,11 @@ public class ResumeController {
             // 3. Extract structured data into a Candidate object
             Candidate candidate = parsingService.parseCandidateFromText(rawText);
             candidate.setOriginalFilePath(filePathString);
+            incrementalReparseService.recordSectionHashes(candidate, rawText);
 
             // 4. Save the candidate to the database
             Candidate savedCandidate = candidateRepository.save(candidate);
+            candidateDocumentService.saveText(savedCandidate, rawText, IToolParsingService.extractorVersion());
 
             // 5. Return the structured data as a DTO
             List<WorkExperienceDTO> workExperienceDTOs = savedCandidate.getWorkExperiences().stream()
@@ -100,7 +114,41 @@ public class ResumeController {
         }
     }
 
+    @PostMapping("/{candidateId}/upload")
+    public ResponseEntity<?> uploadNewResumeVersion(@PathVariable Long candidateId,
+                                                    @RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body("Please select a file to upload.");
+        }
+
+        if (!candidateRepository.existsById(candidateId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        try {
+            // 1. Store the new version
+            String storedFileName = fileStorageService.storeFile(file);
+            String filePathString = fileStorageService.getFile(storedFileName).toString();
+
+            // 2. Parse the resume content
+            String rawText = IToolParsingService.parseResume(file.getInputStream(), file.getContentType());
+            if (rawText.startsWith("Unsupported file type") || rawText.startsWith("Error parsing resume")) {
+                return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(rawText);
+            }
+
+            // 3. Only re-send the sections that changed since the previous version, and save the
+            //    candidate; unchanged experience/education rows are left untouched
+            return incrementalReparseService
+                    .reparseAndSave(candidateId, rawText, filePathString, IToolParsingService.extractorVersion())
+                    .<ResponseEntity<?>>map(savedCandidate -> buildCandidateResponse(savedCandidate, rawText))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
 
+        } catch (IOException e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Could not process the file: " + e.getMessage());
+        }
+    }
 
     private ResponseEntity<CandidateResponseDTO> buildCandidateResponse(Candidate savedCandidate, String rawText) {
         List<WorkExperienceDTO> workExperienceDTOs = savedCandidate.getWorkExperiences().stream()
@@ -0,0 +1,35 @@
+package com.talentmerge.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Shape of the JSON object the LLM returns for a resume, bound directly by Jackson.
+ * Dates stay as strings so that values the model got wrong can be detected and re-asked.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AiCandidateResponse(
+        String name,
+        String email,
+        String phone,
+        String skills,
+        List<WorkExperienceItem> workExperiences,
+        List<EducationItem> educations) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record WorkExperienceItem(
+            String jobTitle,
+            String company,
+            String startDate,
+            String endDate,
+            String description) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record EducationItem(
+            String institution,
+            String degree,
+            String graduationDate) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.talentmerge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateScrollResponseDTO {
+    private List<CandidateListItemDTO> content;
+    private int size;
+    private boolean hasNext;
+    // Opaque token for the next page, null on the last page
+    private String nextCursor;
+    // Only counted when requested
+    private Long totalElements;
+}
@@ -0,0 +1,11 @@
+package com.talentmerge.exception;
+
+/**
+ * Thrown when a regular expression runs past its time budget on user-supplied text
+ */
+public class RegexTimeoutException extends RuntimeException {
+
+    public RegexTimeoutException(String message) {
+        super(message);
+    }
+}
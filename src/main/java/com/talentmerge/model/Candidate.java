@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Table(name = "candidates")
@@ -30,6 +32,10 @@ public class Candidate {
 
     private String originalFilePath;
 
+    // Version of the parsing dictionaries used by the rule-based parser, null for AI parsing
+    @Column(length = 64)
+    private String dictionaryVersion;
+
     @OneToMany(mappedBy = "candidate", cascade = CascadeType.ALL, orphanRemoval = true)
     @BatchSize(size = 50)
     private List<WorkExperience> workExperiences = new ArrayList<>();
@@ -38,6 +44,13 @@ public class Candidate {
     @BatchSize(size = 50)
     private List<Education> educations = new ArrayList<>();
 
+    // Content hash per resume section of the last parsed version, used for incremental reparse
+    @ElementCollection
+    @CollectionTable(name = "candidate_section_hashes", joinColumns = @JoinColumn(name = "candidate_id"))
+    @MapKeyColumn(name = "section_key")
+    @Column(name = "content_hash", length = 64)
+    private Map<String, String> sectionHashes = new HashMap<>();
+
     // Helper methods to sync both sides of the relationship
     public void addWorkExperience(WorkExperience workExperience) {
         workExperiences.add(workExperience);
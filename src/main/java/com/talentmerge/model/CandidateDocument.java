@@ -0,0 +1,49 @@
+package com.talentmerge.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * Text extracted from a candidate's latest resume, kept for reparsing, re-anonymization and indexing
+ * without extracting the file again. It lives in its own table that Candidate does not map, so
+ * candidate list and detail queries never read it.
+ */
+@Entity
+@Table(name = "candidate_document")
+@Data
+@NoArgsConstructor
+public class CandidateDocument {
+
+    @Id
+    private Long candidateId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "candidate_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    private Candidate candidate;
+
+    // Deflate-compressed UTF-8 text
+    @Column(nullable = false, columnDefinition = "bytea")
+    @ToString.Exclude
+    private byte[] compressedText;
+
+    // Length of the uncompressed text in characters
+    private int textLength;
+
+    // SHA-256 of the uncompressed text
+    @Column(length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(length = 64, nullable = false)
+    private String extractorVersion;
+
+    private Instant extractedAt;
+}
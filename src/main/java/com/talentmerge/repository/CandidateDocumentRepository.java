@@ -0,0 +1,27 @@
+package com.talentmerge.repository;
+
+import com.talentmerge.model.CandidateDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+@Repository
+public interface CandidateDocumentRepository extends JpaRepository<CandidateDocument, Long> {
+
+    /**
+     * Stream every document through a server-side cursor, 50 rows per round trip.
+     * Must be consumed and closed inside a transaction; PostgreSQL only uses a cursor when
+     * auto-commit is off, and otherwise reads the whole result at once.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "50"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select d from CandidateDocument d order by d.candidateId")
+    Stream<CandidateDocument> streamAll();
+}
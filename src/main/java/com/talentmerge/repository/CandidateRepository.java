@@ -1,6 +1,10 @@
 package com.talentmerge.repository;
 
+import com.talentmerge.dto.CandidateListItemDTO;
 import com.talentmerge.model.Candidate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,7 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CandidateRepository extends JpaRepository<Candidate, Long> {
+public interface CandidateRepository extends JpaRepository<Candidate, Long>, CandidateRepositoryCustom {
     
     /**
      * Find candidate by email (case-insensitive)
@@ -22,6 +26,23 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
      */
     boolean existsByEmail(String email);
 
+    // List items straight from one query: no entities are loaded, and the counts are correlated subqueries
+    String LIST_ITEMS = "select new com.talentmerge.dto.CandidateListItemDTO(c.id, c.name, c.email, c.phone, c.skills, "
+            + "(select count(we) from WorkExperience we where we.candidate = c), "
+            + "(select count(e) from Education e where e.candidate = c)) from Candidate c";
+
+    /**
+     * A page of list items
+     */
+    @Query(value = LIST_ITEMS, countQuery = "select count(c) from Candidate c")
+    Page<CandidateListItemDTO> findListItems(Pageable pageable);
+
+    /**
+     * A page of list items without a count(*)
+     */
+    @Query(LIST_ITEMS)
+    Slice<CandidateListItemDTO> findListItemSlice(Pageable pageable);
+
     /**
      * Fetch candidates with work experiences in a single query
      */
@@ -33,4 +54,14 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
      */
     @Query("select distinct c from Candidate c left join fetch c.educations where c.id in :ids")
     List<Candidate> findWithEducationsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Full-text search over the trigger-maintained search_vector column, best matches first.
+     * The query is a to_tsquery expression in the "simple" configuration; the pageable must be unsorted.
+     */
+    @Query(value = "select c.* from candidates c where c.search_vector @@ to_tsquery('simple', :query) "
+            + "order by ts_rank_cd(c.search_vector, to_tsquery('simple', :query)) desc, c.id desc",
+            countQuery = "select count(*) from candidates c where c.search_vector @@ to_tsquery('simple', :query)",
+            nativeQuery = true)
+    Page<Candidate> search(@Param("query") String query, Pageable pageable);
 }
@@ -0,0 +1,17 @@
+package com.talentmerge.repository;
+
+import com.talentmerge.dto.CandidateListItemDTO;
+
+import java.util.List;
+
+public interface CandidateRepositoryCustom {
+
+    /**
+     * Keyset page of candidate list items ordered by a sort field then id, both in the same direction.
+     * Null values of the sort field sort as empty strings.
+     * @param sortField "id", "name", "email" or "phone"
+     * @param afterKey Sort field value of the last row of the previous page, ignored when sorting by id
+     * @param afterId Id of the last row of the previous page, or null for the first page
+     */
+    List<CandidateListItemDTO> findListItemsAfter(String sortField, boolean descending, String afterKey, Long afterId, int limit);
+}
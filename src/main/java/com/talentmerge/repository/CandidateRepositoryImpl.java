@@ -0,0 +1,53 @@
+package com.talentmerge.repository;
+
+import com.talentmerge.dto.CandidateListItemDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keyset (seek) pagination: each page starts right after the (sort key, id) of the previous one,
+ * with a row value comparison that an index on (sort key, id) answers directly, so a deep page costs
+ * the same as the first one.
+ */
+public class CandidateRepositoryImpl implements CandidateRepositoryCustom {
+
+    private static final Set<String> KEYSET_FIELDS = Set.of("name", "email", "phone");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CandidateListItemDTO> findListItemsAfter(String sortField, boolean descending, String afterKey, Long afterId, int limit) {
+        boolean byId = "id".equals(sortField);
+        if (!byId && !KEYSET_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+        }
+        // Matches the expression indexes created by CandidateSearchSchemaInitializer
+        String key = byId ? null : "coalesce(c." + sortField + ", '')";
+        String direction = descending ? " desc" : " asc";
+        String after = descending ? " < " : " > ";
+
+        StringBuilder jpql = new StringBuilder(CandidateRepository.LIST_ITEMS);
+        if (afterId != null) {
+            jpql.append(byId ? " where c.id" + after + ":afterId" : " where (" + key + ", c.id)" + after + "(:afterKey, :afterId)");
+        }
+        jpql.append(" order by ");
+        if (!byId) {
+            jpql.append(key).append(direction).append(", ");
+        }
+        jpql.append("c.id").append(direction);
+
+        TypedQuery<CandidateListItemDTO> query = entityManager.createQuery(jpql.toString(), CandidateListItemDTO.class);
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+            if (!byId) {
+                query.setParameter("afterKey", afterKey != null ? afterKey : "");
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.talentmerge.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Cheap structural repair of LLM JSON output.
+ * Strips markdown fences and surrounding prose, and when the response was cut off (max tokens,
+ * dropped connection) closes the open string and brackets at the last complete value so the
+ * fields received so far can still be used.
+ */
+final class AiJsonRepair {
+
+    private AiJsonRepair() {
+    }
+
+    /**
+     * Extracted JSON and whether it had to be truncated to become valid
+     */
+    record Repaired(String json, boolean truncated) {
+    }
+
+    /**
+     * Extract the first top-level JSON object from a response, closing it if it was cut off
+     * @param response Raw model output
+     * @return The repaired object, or null when the response contains no object at all
+     */
+    static Repaired repair(String response) {
+        if (response == null) {
+            return null;
+        }
+        String text = stripMarkdownFences(response.trim());
+        int start = text.indexOf('{');
+        if (start < 0) {
+            return null;
+        }
+
+        Deque<Character> stack = new ArrayDeque<>();
+        boolean inString = false;
+        boolean escaped = false;
+        boolean stringIsValue = false;
+        char lastSignificant = 0;
+        int safeEnd = -1;
+        String safeClosers = "";
+
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                    lastSignificant = c;
+                    if (stringIsValue) {
+                        safeEnd = i + 1;
+                        safeClosers = closers(stack);
+                    }
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    Character top = stack.peek();
+                    stringIsValue = (top != null && top == '[') || lastSignificant == ':';
+                }
+                case '{', '[' -> {
+                    stack.push(c);
+                    safeEnd = i + 1;
+                    safeClosers = closers(stack);
+                }
+                case '}', ']' -> {
+                    stack.poll();
+                    if (stack.isEmpty()) {
+                        // Anything after the top-level object is prose
+                        return new Repaired(text.substring(start, i + 1), false);
+                    }
+                    safeEnd = i + 1;
+                    safeClosers = closers(stack);
+                }
+                case ',' -> {
+                    safeEnd = i;
+                    safeClosers = closers(stack);
+                }
+                default -> {
+                }
+            }
+            if (!Character.isWhitespace(c)) {
+                lastSignificant = c;
+            }
+        }
+
+        // Cut off inside a string value: keep what was received of it
+        if (inString && stringIsValue) {
+            String partial = text.substring(start, escaped ? text.length() - 1 : text.length());
+            return new Repaired(partial + '"' + closers(stack), true);
+        }
+        if (safeEnd < 0) {
+            return null;
+        }
+        return new Repaired(text.substring(start, safeEnd) + safeClosers, true);
+    }
+
+    private static String stripMarkdownFences(String text) {
+        String cleaned = text;
+        if (cleaned.startsWith("```json")) {
+            cleaned = cleaned.substring(7);
+        }
+        if (cleaned.startsWith("```")) {
+            cleaned = cleaned.substring(3);
+        }
+        if (cleaned.endsWith("```")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 3);
+        }
+        return cleaned;
+    }
+
+    private static String closers(Deque<Character> stack) {
+        StringBuilder closers = new StringBuilder(stack.size());
+        for (char open : stack) {
+            closers.append(open == '{' ? '}' : ']');
+        }
+        return closers.toString();
+    }
+}
@@ -1,35 +1,79 @@
 package com.talentmerge.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.talentmerge.dto.AiCandidateResponse;
 import com.talentmerge.model.Candidate;
 import com.talentmerge.model.Education;
 import com.talentmerge.model.WorkExperience;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 @Service
 @Qualifier("ai")
 public class AiParsingService implements IParsingService {
     
     private static final Logger logger = LoggerFactory.getLogger(AiParsingService.class);
+
+    private static final Pattern YEAR_MONTH_PATTERN = Pattern.compile("\\d{4}-\\d{2}");
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+    // End dates the model sometimes writes instead of null; not worth a follow-up
+    private static final Set<String> ONGOING_DATE_WORDS = Set.of("present", "current", "now", "ongoing",
+            "aujourd'hui", "en cours", "actuel");
+
     private final ChatModel chatModel;
     private final PromptService promptService;
+    private final PromptCompactionService promptCompactionService;
+    private final SectionSplittingService sectionSplittingService;
+    private final ModelRoutingService modelRoutingService;
+    private final LlmUsageService llmUsageService;
     private final ObjectMapper objectMapper;
+    private final ObjectReader responseReader;
+    private final ObjectReader followUpReader;
+
+    @Value("${app.ai.follow-up.enabled:true}")
+    private boolean followUpEnabled;
 
-    public AiParsingService(ChatModel chatModel, PromptService promptService) {
+    public AiParsingService(ChatModel chatModel, PromptService promptService,
+                            PromptCompactionService promptCompactionService,
+                            SectionSplittingService sectionSplittingService,
+                            ModelRoutingService modelRoutingService, LlmUsageService llmUsageService,
+                            ObjectMapper objectMapper) {
         this.chatModel = chatModel;
         this.promptService = promptService;
-        this.objectMapper = new ObjectMapper();
+        this.promptCompactionService = promptCompactionService;
+        this.sectionSplittingService = sectionSplittingService;
+        this.modelRoutingService = modelRoutingService;
+        this.llmUsageService = llmUsageService;
+        this.objectMapper = objectMapper;
+        // Models often leave a trailing comma or a raw newline inside a description
+        this.responseReader = objectMapper.readerFor(AiCandidateResponse.class)
+                .with(JsonReadFeature.ALLOW_TRAILING_COMMA)
+                .with(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS);
+        this.followUpReader = objectMapper.readerFor(new TypeReference<Map<String, JsonNode>>() {})
+                .with(JsonReadFeature.ALLOW_TRAILING_COMMA)
+                .with(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS);
     }
 
     @Override
@@ -37,16 +81,26 @@ public class AiParsingService implements IParsingService {
         try {
             logger.info("Starting AI parsing for resume text of length: {}", text.length());
             
-            // Create prompt for resume parsing
-            String prompt = promptService.createResumeParsingPrompt(text);
+            // Compact the text to cut prompt tokens before the LLM call
+            PromptCompactionService.CompactionResult compaction = promptCompactionService.compact(text);
+
+            // Static instructions as the system message, resume text as the user message
+            List<Message> messages = promptService.createResumeParsingMessages(compaction.text);
             
             // Call OpenRouter via Spring AI
             logger.debug("Sending request to OpenRouter...");
-            String aiResponse = chatModel.call(prompt);
+            String aiResponse = call(messages, compaction.text);
+            logger.info("Compaction saved ~{} prompt tokens", compaction.getTokensSaved());
             logger.debug("Received response from OpenRouter: {}", aiResponse.substring(0, Math.min(200, aiResponse.length())));
             
-            // Parse the JSON response
-            return parseAiResponseToCandidate(aiResponse);
+            // Bind the JSON response, then ask only for what is missing or unreadable
+            BoundResponse bound = readAiResponse(aiResponse);
+            AiCandidateResponse response = bound.response();
+            List<String> incompleteFields = findIncompleteFields(response, bound.truncated());
+            if (!incompleteFields.isEmpty() && followUpEnabled) {
+                response = completeWithFollowUp(response, incompleteFields, compaction.text);
+            }
+            return toCandidate(response);
             
         } catch (Exception e) {
             logger.error("Error during AI parsing: {}", e.getMessage(), e);
@@ -55,100 +109,246 @@ public class AiParsingService implements IParsingService {
     }
     
 
-    private Candidate parseAiResponseToCandidate(String aiResponse) {
+    private String call(List<Message> messages, String routedText) {
+        long callStart = System.currentTimeMillis();
+        ChatResponse chatResponse = chatModel.call(modelRoutingService.routedPrompt(messages, routedText));
+        llmUsageService.record(chatResponse, System.currentTimeMillis() - callStart);
+        return chatResponse.getResult().getOutput().getText();
+    }
+
+    Candidate parseAiResponseToCandidate(String aiResponse) {
+        return toCandidate(readAiResponse(aiResponse).response());
+    }
+
+    /**
+     * Bind the model output straight into the response record, repairing truncated JSON first
+     */
+    private BoundResponse readAiResponse(String aiResponse) {
         try {
-            // Clean the response in case it contains markdown or extra text
-            String jsonResponse = extractJsonFromResponse(aiResponse);
-            
-            // Parse JSON response
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-            
-            // Create candidate object
-            Candidate candidate = new Candidate();
-            candidate.setName(getStringValue(rootNode, "name"));
-            candidate.setEmail(getStringValue(rootNode, "email"));
-            candidate.setPhone(getStringValue(rootNode, "phone"));
-            candidate.setSkills(getStringValue(rootNode, "skills"));
-            
-            // Parse work experiences
-            if (rootNode.has("workExperiences") && rootNode.get("workExperiences").isArray()) {
-                List<WorkExperience> workExperiences = new ArrayList<>();
-                for (JsonNode workNode : rootNode.get("workExperiences")) {
-                    WorkExperience work = new WorkExperience();
-                    work.setJobTitle(getStringValue(workNode, "jobTitle"));
-                    work.setCompany(getStringValue(workNode, "company"));
-                    work.setDescription(getStringValue(workNode, "description"));
-                    work.setStartDate(parseDate(getStringValue(workNode, "startDate")));
-                    work.setEndDate(parseDate(getStringValue(workNode, "endDate")));
-                    candidate.addWorkExperience(work);
-                }
+            AiJsonRepair.Repaired repaired = AiJsonRepair.repair(aiResponse);
+            if (repaired == null) {
+                throw new IllegalArgumentException("No JSON object found in AI response");
             }
-            
-            // Parse educations
-            if (rootNode.has("educations") && rootNode.get("educations").isArray()) {
-                List<Education> educations = new ArrayList<>();
-                for (JsonNode eduNode : rootNode.get("educations")) {
-                    Education education = new Education();
-                    education.setInstitution(getStringValue(eduNode, "institution"));
-                    education.setDegree(getStringValue(eduNode, "degree"));
-                    education.setGraduationDate(parseDate(getStringValue(eduNode, "graduationDate")));
-                    candidate.addEducation(education);
-                }
+            if (repaired.truncated()) {
+                logger.warn("AI response was truncated, closed it after the last complete value");
             }
-            
-            logger.info("Successfully parsed candidate: {} with {} work experiences and {} educations", 
-                       candidate.getName(), candidate.getWorkExperiences().size(), candidate.getEducations().size());
-            
-            return candidate;
-            
+            AiCandidateResponse response = responseReader.readValue(repaired.json());
+            return new BoundResponse(response, repaired.truncated());
+
         } catch (Exception e) {
             logger.error("Error parsing AI response to candidate: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to parse AI response: " + e.getMessage(), e);
         }
     }
-    
-    private String extractJsonFromResponse(String response) {
-        // Remove markdown code blocks if present
-        String cleaned = response.trim();
-        if (cleaned.startsWith("```json")) {
-            cleaned = cleaned.substring(7);
+
+    /**
+     * Fields worth a follow-up question: top-level fields lost to truncation, the rest of the array
+     * the truncation cut, and dates the model returned in a format that cannot be read.
+     * The rest of an array is asked as "workExperiences[i:]", from its last received entry on, since
+     * that entry may itself have been cut.
+     */
+    List<String> findIncompleteFields(AiCandidateResponse response, boolean truncated) {
+        List<String> fields = new ArrayList<>();
+        if (truncated) {
+            if (response.name() == null) fields.add("name");
+            if (response.email() == null) fields.add("email");
+            if (response.phone() == null) fields.add("phone");
+            if (response.skills() == null) fields.add("skills");
+            if (response.workExperiences() == null) fields.add("workExperiences");
+            if (response.educations() == null) fields.add("educations");
+            // Arrays come last in the output, so the cut fell in the last one that has entries
+            if (!nullToEmpty(response.educations()).isEmpty()) {
+                fields.add("educations[" + (response.educations().size() - 1) + ":]");
+            } else if (!nullToEmpty(response.workExperiences()).isEmpty()) {
+                fields.add("workExperiences[" + (response.workExperiences().size() - 1) + ":]");
+            }
         }
-        if (cleaned.startsWith("```")) {
-            cleaned = cleaned.substring(3);
+        List<AiCandidateResponse.WorkExperienceItem> workExperiences = nullToEmpty(response.workExperiences());
+        for (int i = 0; i < workExperiences.size(); i++) {
+            if (isInvalidDate(workExperiences.get(i).startDate())) fields.add("workExperiences[" + i + "].startDate");
+            if (isInvalidDate(workExperiences.get(i).endDate())) fields.add("workExperiences[" + i + "].endDate");
         }
-        if (cleaned.endsWith("```")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 3);
+        List<AiCandidateResponse.EducationItem> educations = nullToEmpty(response.educations());
+        for (int i = 0; i < educations.size(); i++) {
+            if (isInvalidDate(educations.get(i).graduationDate())) fields.add("educations[" + i + "].graduationDate");
         }
-        
-        // Find the first { and last } to extract just the JSON
-        int firstBrace = cleaned.indexOf('{');
-        int lastBrace = cleaned.lastIndexOf('}');
-        
-        if (firstBrace >= 0 && lastBrace > firstBrace) {
-            cleaned = cleaned.substring(firstBrace, lastBrace + 1);
+        return fields;
+    }
+
+    /**
+     * Ask the model only for the missing or invalid fields and merge its answer into the response.
+     * A failed follow-up keeps the response as it is rather than failing the whole parse.
+     */
+    private AiCandidateResponse completeWithFollowUp(AiCandidateResponse response, List<String> fields,
+                                                     String resumeText) {
+        logger.info("Asking follow-up for {} incomplete field(s): {}", fields.size(), fields);
+        try {
+            String followUpText = followUpText(fields, resumeText);
+            String answer = call(promptService.createFollowUpMessages(followUpText, fields), followUpText);
+            AiJsonRepair.Repaired repaired = AiJsonRepair.repair(answer);
+            if (repaired == null) {
+                logger.warn("Follow-up answer contained no JSON object, keeping the original response");
+                return response;
+            }
+            Map<String, JsonNode> answers = followUpReader.readValue(repaired.json());
+            return merge(response, answers);
+
+        } catch (Exception e) {
+            logger.warn("Follow-up for incomplete fields failed, keeping the original response: {}", e.getMessage());
+            return response;
         }
-        
-        return cleaned.trim();
     }
-    
-    private String getStringValue(JsonNode node, String fieldName) {
-        if (node.has(fieldName) && !node.get(fieldName).isNull()) {
-            String value = node.get(fieldName).asText();
-            return value.isEmpty() ? null : value;
+
+    /**
+     * Only the resume sections the fields belong to, or the whole text when a field is not in a
+     * section (name, contact details, skills) or none of the sections is found
+     */
+    private String followUpText(List<String> fields, String resumeText) {
+        Set<String> needed = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field.startsWith("workExperiences")) {
+                needed.add("experience");
+            } else if (field.startsWith("educations")) {
+                needed.add("education");
+            } else {
+                return resumeText;
+            }
+        }
+        Map<String, String> sections = sectionSplittingService.splitTextIntoSections(resumeText);
+        StringBuilder text = new StringBuilder();
+        for (String section : needed) {
+            String sectionText = sections.getOrDefault(section, "").strip();
+            if (!sectionText.isEmpty()) {
+                if (text.length() > 0) text.append("\n\n");
+                text.append(section.toUpperCase(Locale.ROOT)).append('\n').append(sectionText);
+            }
         }
-        return null;
+        return text.length() > 0 ? text.toString() : resumeText;
     }
-    
+
+    private AiCandidateResponse merge(AiCandidateResponse response, Map<String, JsonNode> answers) {
+        List<AiCandidateResponse.WorkExperienceItem> workExperiences = answers.containsKey("workExperiences")
+                ? objectMapper.convertValue(answers.get("workExperiences"), new TypeReference<>() {})
+                : new ArrayList<>(nullToEmpty(response.workExperiences()));
+        workExperiences = mergeRest(workExperiences, "workExperiences", answers, new TypeReference<>() {});
+        for (int i = 0; i < workExperiences.size(); i++) {
+            AiCandidateResponse.WorkExperienceItem work = workExperiences.get(i);
+            workExperiences.set(i, new AiCandidateResponse.WorkExperienceItem(work.jobTitle(), work.company(),
+                    answerOr(answers, "workExperiences[" + i + "].startDate", work.startDate()),
+                    answerOr(answers, "workExperiences[" + i + "].endDate", work.endDate()),
+                    work.description()));
+        }
+
+        List<AiCandidateResponse.EducationItem> educations = answers.containsKey("educations")
+                ? objectMapper.convertValue(answers.get("educations"), new TypeReference<>() {})
+                : new ArrayList<>(nullToEmpty(response.educations()));
+        educations = mergeRest(educations, "educations", answers, new TypeReference<>() {});
+        for (int i = 0; i < educations.size(); i++) {
+            AiCandidateResponse.EducationItem education = educations.get(i);
+            educations.set(i, new AiCandidateResponse.EducationItem(education.institution(), education.degree(),
+                    answerOr(answers, "educations[" + i + "].graduationDate", education.graduationDate())));
+        }
+
+        return new AiCandidateResponse(
+                answerOr(answers, "name", response.name()),
+                answerOr(answers, "email", response.email()),
+                answerOr(answers, "phone", response.phone()),
+                answerOr(answers, "skills", response.skills()),
+                workExperiences,
+                educations);
+    }
+
+    /**
+     * Replace the entries of an array from index i on with the answer to "name[i:]", if any
+     */
+    private <T> List<T> mergeRest(List<T> items, String name, Map<String, JsonNode> answers,
+                                  TypeReference<List<T>> type) {
+        for (Map.Entry<String, JsonNode> answer : answers.entrySet()) {
+            String key = answer.getKey();
+            if (key.startsWith(name + "[") && key.endsWith(":]") && answer.getValue().isArray()) {
+                int from = Math.min(items.size(), Integer.parseInt(key.substring(name.length() + 1, key.length() - 2)));
+                List<T> merged = new ArrayList<>(items.subList(0, from));
+                merged.addAll(objectMapper.convertValue(answer.getValue(), type));
+                return merged;
+            }
+        }
+        return items;
+    }
+
+    private Candidate toCandidate(AiCandidateResponse response) {
+        Candidate candidate = new Candidate();
+        candidate.setName(emptyToNull(response.name()));
+        candidate.setEmail(emptyToNull(response.email()));
+        candidate.setPhone(emptyToNull(response.phone()));
+        candidate.setSkills(emptyToNull(response.skills()));
+
+        for (AiCandidateResponse.WorkExperienceItem item : nullToEmpty(response.workExperiences())) {
+            WorkExperience work = new WorkExperience();
+            work.setJobTitle(emptyToNull(item.jobTitle()));
+            work.setCompany(emptyToNull(item.company()));
+            work.setDescription(emptyToNull(item.description()));
+            work.setStartDate(parseDate(item.startDate()));
+            work.setEndDate(parseDate(item.endDate()));
+            candidate.addWorkExperience(work);
+        }
+
+        for (AiCandidateResponse.EducationItem item : nullToEmpty(response.educations())) {
+            Education education = new Education();
+            education.setInstitution(emptyToNull(item.institution()));
+            education.setDegree(emptyToNull(item.degree()));
+            education.setGraduationDate(parseDate(item.graduationDate()));
+            candidate.addEducation(education);
+        }
+
+        logger.info("Successfully parsed candidate: {} with {} work experiences and {} educations",
+                   candidate.getName(), candidate.getWorkExperiences().size(), candidate.getEducations().size());
+        return candidate;
+    }
+
+    private String answerOr(Map<String, JsonNode> answers, String field, String fallback) {
+        JsonNode node = answers.get(field);
+        return node == null || node.isNull() ? fallback : node.asText();
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    private boolean isInvalidDate(String dateString) {
+        if (isBlankDate(dateString) || ONGOING_DATE_WORDS.contains(dateString.trim().toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        return parseDate(dateString) == null;
+    }
+
+    private boolean isBlankDate(String dateString) {
+        return dateString == null || dateString.trim().isEmpty() || "null".equals(dateString);
+    }
+
     private LocalDate parseDate(String dateString) {
-        if (dateString == null || dateString.trim().isEmpty() || "null".equals(dateString)) {
+        if (isBlankDate(dateString)) {
             return null;
         }
-        
+
+        String value = dateString.trim();
         try {
-            return LocalDate.parse(dateString, DateTimeFormatter.ISO_LOCAL_DATE);
+            if (YEAR_MONTH_PATTERN.matcher(value).matches()) {
+                return YearMonth.parse(value).atDay(1);
+            }
+            if (YEAR_PATTERN.matcher(value).matches()) {
+                return LocalDate.of(Integer.parseInt(value), 1, 1);
+            }
+            return LocalDate.parse(value, DateTimeFormatter.ISO_LOCAL_DATE);
         } catch (DateTimeParseException e) {
             logger.warn("Failed to parse date '{}': {}", dateString, e.getMessage());
             return null;
         }
     }
+
+    private record BoundResponse(AiCandidateResponse response, boolean truncated) {
+    }
 }
@@ -1,11 +1,24 @@
 package com.talentmerge.service;
 
 import com.talentmerge.model.Candidate;
+import com.talentmerge.text.PiiScanner;
+import com.talentmerge.text.ResumeText;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class AnonymizationService {
 
+    private static final Map<PiiScanner.Type, String> PLACEHOLDERS = Map.of(
+            PiiScanner.Type.NAME, "[NAME]",
+            PiiScanner.Type.EMAIL, "[EMAIL]",
+            PiiScanner.Type.PHONE, "[PHONE]",
+            PiiScanner.Type.LINKEDIN, "[LINKEDIN]");
+
     private final PersonalInfoDetectionService personalInfoDetectionService;
 
     public AnonymizationService(PersonalInfoDetectionService personalInfoDetectionService) {
@@ -17,36 +30,18 @@ public class AnonymizationService {
             return "";
         }
 
-        String anonymizedText = resumeText;
+        // One scan finds every email, phone and LinkedIn profile; the name is the detected one
+        List<PiiScanner.Span> spans = new ArrayList<>(PiiScanner.scan(resumeText));
+        Candidate personalInfo = personalInfoDetectionService.detectPersonalInfo(ResumeText.of(resumeText), spans);
 
-        Candidate personalInfo = personalInfoDetectionService.detectPersonalInfo(resumeText);
-
-        // Anonymize name
         String name = personalInfo.getName();
         if (name != null && !name.isEmpty()) {
-            anonymizedText = anonymizedText.replace(name, "[NAME]");
-        }
-
-        // Anonymize email
-        String email = personalInfo.getEmail();
-        if (email != null && !email.isEmpty()) {
-            anonymizedText = anonymizedText.replace(email, "[EMAIL]");
-        }
-
-        // Anonymize phone
-        String phone = personalInfo.getPhone();
-        if (phone != null && !phone.isEmpty()) {
-            anonymizedText = anonymizedText.replace(phone, "[PHONE]");
-        }
-        
-        // Anonymize LinkedIn URL
-        String linkedInUrl = personalInfoDetectionService.extractLinkedInUrl(resumeText);
-        if (linkedInUrl != null && !linkedInUrl.isEmpty()) {
-            // The extracted URL includes "https://www."
-            String rawLinkedInUrl = linkedInUrl.substring("https://www.".length());
-            anonymizedText = anonymizedText.replace(rawLinkedInUrl, "[LINKEDIN]");
+            for (int at = resumeText.indexOf(name); at >= 0; at = resumeText.indexOf(name, at + name.length())) {
+                spans.add(new PiiScanner.Span(PiiScanner.Type.NAME, at, at + name.length()));
+            }
+            spans.sort(Comparator.comparingInt(PiiScanner.Span::start));
         }
 
-        return anonymizedText;
+        return PiiScanner.redact(resumeText, spans, PLACEHOLDERS);
     }
 }
@@ -0,0 +1,175 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs the rule-based parser over many documents at once, for reprocessing stored resumes.
+ * Documents are parsed on a dedicated work-stealing fork-join pool while results come back in
+ * input order as soon as they are ready. Only a bounded window of documents is in flight, so an
+ * archive of any size can be streamed through without holding it in memory.
+ */
+@Service
+public class BatchParsingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchParsingService.class);
+
+    // Documents queued per worker thread, enough to keep every worker busy while the caller consumes results
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+
+    private final ManualParsingService manualParsingService;
+    private final ForkJoinPool pool;
+    private final int maxInFlight;
+
+    private final AtomicLong documentsParsed = new AtomicLong();
+    private final AtomicLong documentsFailed = new AtomicLong();
+    private volatile double lastThroughput;
+
+    public BatchParsingService(ManualParsingService manualParsingService,
+                               @Value("${app.parsing.batch.parallelism:0}") int parallelism) {
+        this.manualParsingService = manualParsingService;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("batch-parse-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.maxInFlight = threads * IN_FLIGHT_PER_THREAD;
+    }
+
+    /**
+     * The outcome of one document: its position in the input, and the parsed candidate or the error
+     */
+    public record BatchResult(long index, Candidate candidate, String error) {
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    /**
+     * Parse documents in parallel; the returned stream is lazy, ordered like the input, and pulls
+     * documents from it only as results are consumed. A document that fails to parse gives a result
+     * with its error instead of ending the stream.
+     */
+    public Stream<BatchResult> parseAll(Stream<String> documents) {
+        Iterator<BatchResult> results = new OrderedResults(documents.iterator());
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(documents::close);
+    }
+
+    /**
+     * Parse a list of documents in parallel; results are in the order of the list
+     */
+    public List<BatchResult> parseBatch(List<String> documents) {
+        try (Stream<BatchResult> results = parseAll(documents.stream())) {
+            return results.toList();
+        }
+    }
+
+    public long getDocumentsParsed() {
+        return documentsParsed.get();
+    }
+
+    public long getDocumentsFailed() {
+        return documentsFailed.get();
+    }
+
+    /**
+     * Documents per second of the last batch that ran to the end
+     */
+    public double getLastThroughput() {
+        return lastThroughput;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private BatchResult parse(long index, String text) {
+        try {
+            Candidate candidate = manualParsingService.parseCandidateFromText(text);
+            documentsParsed.incrementAndGet();
+            return new BatchResult(index, candidate, null);
+        } catch (RuntimeException e) {
+            documentsFailed.incrementAndGet();
+            logger.warn("Failed to parse document {} of the batch: {}", index, e.getMessage());
+            return new BatchResult(index, null, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Keeps up to maxInFlight documents submitted to the pool and hands back the oldest one's result,
+     * waiting for it if needed; later documents keep being parsed meanwhile
+     */
+    private class OrderedResults implements Iterator<BatchResult> {
+        private final Iterator<String> documents;
+        private final ArrayDeque<ForkJoinTask<BatchResult>> inFlight = new ArrayDeque<>();
+        private final long startNanos = System.nanoTime();
+        private long submitted;
+        private boolean finished;
+
+        OrderedResults(Iterator<String> documents) {
+            this.documents = documents;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            if (inFlight.isEmpty()) {
+                finish();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public BatchResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return inFlight.poll().join();
+        }
+
+        private void fill() {
+            while (inFlight.size() < maxInFlight && documents.hasNext()) {
+                long index = submitted++;
+                String text = documents.next();
+                inFlight.add(pool.submit(() -> parse(index, text)));
+            }
+        }
+
+        private void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            double seconds = Math.max(System.nanoTime() - startNanos, 1) / 1e9;
+            lastThroughput = submitted / seconds;
+            logger.info("Batch parsing finished: {} documents in {} ms ({} docs/sec on {} threads)",
+                    submitted, Math.round(seconds * 1000), Math.round(lastThroughput), pool.getParallelism());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.talentmerge.service;
+
+import com.talentmerge.repository.CandidateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Candidate totals for the list and the stats. The exact total is a count(*) cached for a short time,
+ * so it is counted at most once per TTL however many requests ask for it, and writes share no counter
+ * row to contend on. The estimate comes from the planner statistics in pg_class, which costs nothing
+ * however large the table is; without PostgreSQL statistics it falls back to the exact total.
+ */
+@Service
+public class CandidateCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateCountService.class);
+
+    // reltuples is -1 until the table is first analyzed or vacuumed
+    private static final String ESTIMATE_QUERY = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('candidates')";
+
+    private final CandidateRepository candidateRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+
+    private volatile CachedCount exact;
+    private volatile CachedCount estimate;
+
+    private record CachedCount(long value, long expiresAtNanos) {
+    }
+
+    public CandidateCountService(CandidateRepository candidateRepository, JdbcTemplate jdbcTemplate,
+                                 @Value("${app.candidates.count-cache-seconds:5}") long ttlSeconds) {
+        this.candidateRepository = candidateRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * Number of candidates, at most the cache TTL old. Runs outside the caller's transaction, so a
+     * failed query cannot abort it.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long countCandidates() {
+        CachedCount cached = exact;
+        if (cached == null || System.nanoTime() - cached.expiresAtNanos() > 0) {
+            cached = new CachedCount(candidateRepository.count(), System.nanoTime() + ttlNanos);
+            exact = cached;
+        }
+        return cached.value();
+    }
+
+    /**
+     * Approximate number of candidates from the planner statistics, for totals that need not be exact
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long estimateCandidates() {
+        CachedCount cached = estimate;
+        if (cached == null || System.nanoTime() - cached.expiresAtNanos() > 0) {
+            long value = queryOrElse(ESTIMATE_QUERY, () -> -1);
+            cached = new CachedCount(value >= 0 ? value : countCandidates(), System.nanoTime() + ttlNanos);
+            estimate = cached;
+        }
+        return cached.value();
+    }
+
+    private long queryOrElse(String sql, LongSupplier fallback) {
+        try {
+            List<Long> values = jdbcTemplate.queryForList(sql, Long.class);
+            if (!values.isEmpty() && values.get(0) != null) {
+                return values.get(0);
+            }
+        } catch (DataAccessException e) {
+            logger.debug("Count query failed, falling back: {}", e.getMessage());
+        }
+        return fallback.getAsLong();
+    }
+}
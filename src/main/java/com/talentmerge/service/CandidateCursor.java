@@ -0,0 +1,37 @@
+package com.talentmerge.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last candidate of a keyset page: the sort it belongs to, and the sort key and
+ * id of that candidate. Clients get it as an opaque URL-safe token and send it back unchanged.
+ */
+record CandidateCursor(String sortField, boolean descending, String key, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String plain = sortField + SEPARATOR + (descending ? "desc" : "asc") + SEPARATOR + id + SEPARATOR
+                + (key != null ? key : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException for a token that was not produced by encode
+     */
+    static CandidateCursor decode(String token) {
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The key comes last, as it may contain the separator
+            String[] parts = plain.split("\\|", 4);
+            if (parts.length != 4 || !(parts[1].equals("asc") || parts[1].equals("desc"))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new CandidateCursor(parts[0], parts[1].equals("desc"), parts[3], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Also covers bad Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
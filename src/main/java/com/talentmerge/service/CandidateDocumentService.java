@@ -0,0 +1,108 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import com.talentmerge.model.CandidateDocument;
+import com.talentmerge.repository.CandidateDocumentRepository;
+import com.talentmerge.text.CompressedText;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the extracted text of each candidate's latest resume, compressed, with its hash and the
+ * version of the extractor that produced it. Batch jobs read it back through a cursor, one
+ * document at a time.
+ */
+@Service
+public class CandidateDocumentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateDocumentService.class);
+
+    private final CandidateDocumentRepository documentRepository;
+    private final EntityManager entityManager;
+
+    public CandidateDocumentService(CandidateDocumentRepository documentRepository, EntityManager entityManager) {
+        this.documentRepository = documentRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Text of a stored document, for batch jobs that read it as it streams
+     */
+    public record DocumentText(Long candidateId, String contentHash, String extractorVersion, String text) {
+    }
+
+    /**
+     * Store the extracted text of a saved candidate; the row is left untouched when the same
+     * extractor already stored the same text
+     * @return whether the stored text changed
+     */
+    @Transactional
+    public boolean saveText(Candidate candidate, String text, String extractorVersion) {
+        String hash = sha256(text);
+        CandidateDocument document = documentRepository.findById(candidate.getId()).orElse(null);
+        if (document != null && hash.equals(document.getContentHash())
+                && extractorVersion.equals(document.getExtractorVersion())) {
+            return false;
+        }
+        if (document == null) {
+            document = new CandidateDocument();
+            document.setCandidate(candidate);
+        }
+        document.setCompressedText(CompressedText.compress(text));
+        document.setTextLength(text.length());
+        document.setContentHash(hash);
+        document.setExtractorVersion(extractorVersion);
+        document.setExtractedAt(Instant.now());
+        documentRepository.save(document);
+        logger.debug("Stored {} characters of text for candidate {} in {} bytes",
+                text.length(), candidate.getId(), document.getCompressedText().length);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> findText(Long candidateId) {
+        return documentRepository.findById(candidateId)
+                .map(document -> CompressedText.decompress(document.getCompressedText()));
+    }
+
+    /**
+     * Pass every stored document to an action, in candidate id order. Rows come from a server-side
+     * cursor and are evicted from the persistence context once handled, so memory stays flat
+     * however many documents there are.
+     * @return the number of documents handled
+     */
+    @Transactional(readOnly = true)
+    public long forEachText(Consumer<DocumentText> action) {
+        long count = 0;
+        try (Stream<CandidateDocument> documents = documentRepository.streamAll()) {
+            for (CandidateDocument document : (Iterable<CandidateDocument>) documents::iterator) {
+                action.accept(new DocumentText(document.getCandidateId(), document.getContentHash(),
+                        document.getExtractorVersion(), CompressedText.decompress(document.getCompressedText())));
+                entityManager.detach(document);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.talentmerge.service;
 import com.talentmerge.dto.CandidateCreateRequestDTO;
 import com.talentmerge.dto.CandidateResponseDTO;
 import com.talentmerge.dto.CandidateListItemDTO;
+import com.talentmerge.dto.CandidateScrollResponseDTO;
 import com.talentmerge.dto.EducationCreateDTO;
 import com.talentmerge.dto.EducationDTO;
 import com.talentmerge.dto.WorkExperienceCreateDTO;
@@ -18,7 +19,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +42,10 @@ public class CandidateService {
     private final CandidateRepository candidateRepository;
     private final WorkExperienceRepository workExperienceRepository;
     private final EducationRepository educationRepository;
+    private final CandidateCountService candidateCountService;
+
+    // Words of a search used in the full-text query; more rarely narrow the results and slow the query
+    private static final int MAX_SEARCH_TERMS = 8;
 
     /**
      * Create a new candidate manually
@@ -115,43 +123,102 @@ public class CandidateService {
      */
     @Transactional(readOnly = true)
     public Page<?> getAllCandidates(Pageable pageable, boolean includeDetails) {
+        return getAllCandidates(pageable, includeDetails, null);
+    }
+
+    /**
+     * Get candidates matching a full-text search, best matches first, or all candidates in the
+     * pageable's order when the search has no words
+     */
+    @Transactional(readOnly = true)
+    public Page<?> getAllCandidates(Pageable pageable, boolean includeDetails, String search) {
+        return getAllCandidates(pageable, includeDetails, search, false);
+    }
+
+    /**
+     * Get candidates with pagination, optionally with an estimated total instead of a count(*) per
+     * request; the estimate only applies to list items without a search
+     */
+    @Transactional(readOnly = true)
+    public Page<?> getAllCandidates(Pageable pageable, boolean includeDetails, String search, boolean estimateTotal) {
         log.info("Retrieving all candidates with pagination: {}", pageable);
-        
-        Page<Candidate> pageResult = candidateRepository.findAll(pageable);
 
-        if (!includeDetails) {
-            List<Long> ids = pageResult.getContent().stream().map(Candidate::getId).toList();
+        String query = toPrefixQuery(search);
+        if (query != null) {
+            // Results are ordered by rank, so the requested sort does not apply
+            Page<Candidate> pageResult = candidateRepository.search(query,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+            return includeDetails ? toDetailPage(pageResult) : new PageImpl<>(toListItems(pageResult.getContent()),
+                    pageResult.getPageable(), pageResult.getTotalElements());
+        }
+        if (includeDetails) {
+            return toDetailPage(candidateRepository.findAll(pageable));
+        }
+
+        // List items come straight from one projection query, without loading entities
+        if (!estimateTotal) {
+            return candidateRepository.findListItems(pageable);
+        }
+        Slice<CandidateListItemDTO> slice = candidateRepository.findListItemSlice(pageable);
+        // The last page knows the exact total from the rows it found
+        long total = slice.hasNext()
+                ? Math.max(candidateCountService.estimateCandidates(), pageable.getOffset() + pageable.getPageSize() + 1)
+                : pageable.getOffset() + slice.getNumberOfElements();
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
 
-            // Batch count associated rows in two queries
-            var weCounts = workExperienceRepository.countByCandidateIds(ids);
-            var edCounts = educationRepository.countByCandidateIds(ids);
+    /**
+     * Map a page of candidates to full detail DTOs, preloading associations to avoid N+1
+     */
+    private Page<CandidateResponseDTO> toDetailPage(Page<Candidate> pageResult) {
+        List<Long> ids = pageResult.getContent().stream().map(Candidate::getId).toList();
+        if (!ids.isEmpty()) {
+            candidateRepository.findWithWorkExperiencesByIdIn(ids);
+            candidateRepository.findWithEducationsByIdIn(ids);
+            pageResult.getContent().forEach(c -> {
+                c.getWorkExperiences().size();
+                c.getEducations().size();
+            });
+        }
+        return pageResult.map(this::convertToResponseDTO);
+    }
 
-            Map<Long, Long> weMap = new HashMap<>();
-            for (Object[] row : weCounts) {
-                weMap.put((Long) row[0], (Long) row[1]);
-            }
-            Map<Long, Long> edMap = new HashMap<>();
-            for (Object[] row : edCounts) {
-                edMap.put((Long) row[0], (Long) row[1]);
-            }
+    /**
+     * Get a keyset page of candidates: the page after the cursor, or the first page without one.
+     * Pages cost the same however deep they are, and the total is only counted when asked for.
+     * @throws IllegalArgumentException for an invalid cursor or one from another sort
+     */
+    @Transactional(readOnly = true)
+    public CandidateScrollResponseDTO scrollCandidates(String sortField, boolean descending, int size,
+                                                       String cursor, boolean includeTotal) {
+        CandidateCursor after = cursor != null && !cursor.isBlank() ? CandidateCursor.decode(cursor) : null;
+        if (after != null && (!after.sortField().equals(sortField) || after.descending() != descending)) {
+            throw new IllegalArgumentException("Cursor does not belong to this sort");
+        }
 
-            return pageResult.map(c -> new CandidateListItemDTO(
-                c.getId(), c.getName(), c.getEmail(), c.getPhone(), c.getSkills(),
-                weMap.getOrDefault(c.getId(), 0L), edMap.getOrDefault(c.getId(), 0L)
-            ));
-        } else {
-            // Preload associations to avoid N+1 and map full detail DTOs
-            List<Long> ids = pageResult.getContent().stream().map(Candidate::getId).toList();
-            if (!ids.isEmpty()) {
-                candidateRepository.findWithWorkExperiencesByIdIn(ids);
-                candidateRepository.findWithEducationsByIdIn(ids);
-                pageResult.getContent().forEach(c -> {
-                    c.getWorkExperiences().size();
-                    c.getEducations().size();
-                });
-            }
-            return pageResult.map(this::convertToResponseDTO);
+        // One extra row tells whether there is a next page, without counting
+        List<CandidateListItemDTO> items = candidateRepository.findListItemsAfter(sortField, descending,
+                after != null ? after.key() : null, after != null ? after.id() : null, size + 1);
+        boolean hasNext = items.size() > size;
+        if (hasNext) {
+            items = items.subList(0, size);
         }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CandidateListItemDTO last = items.get(items.size() - 1);
+            nextCursor = new CandidateCursor(sortField, descending, sortKey(last, sortField), last.getId()).encode();
+        }
+        Long total = includeTotal ? candidateCountService.countCandidates() : null;
+        return new CandidateScrollResponseDTO(items, items.size(), hasNext, nextCursor, total);
+    }
+
+    /**
+     * Total number of candidates, counted and cached for a few seconds
+     */
+    @Transactional(readOnly = true)
+    public long countCandidates() {
+        return candidateCountService.countCandidates();
     }
 
     /**
@@ -350,4 +417,70 @@ public class CandidateService {
                 educationDTOs
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Map search results to list items, counting their experiences and educations in two queries
+     */
+    private List<CandidateListItemDTO> toListItems(List<Candidate> candidates) {
+        List<Long> ids = candidates.stream().map(Candidate::getId).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Batch count associated rows in two queries
+        var weCounts = workExperienceRepository.countByCandidateIds(ids);
+        var edCounts = educationRepository.countByCandidateIds(ids);
+
+        Map<Long, Long> weMap = new HashMap<>();
+        for (Object[] row : weCounts) {
+            weMap.put((Long) row[0], (Long) row[1]);
+        }
+        Map<Long, Long> edMap = new HashMap<>();
+        for (Object[] row : edCounts) {
+            edMap.put((Long) row[0], (Long) row[1]);
+        }
+
+        return candidates.stream().map(c -> new CandidateListItemDTO(
+            c.getId(), c.getName(), c.getEmail(), c.getPhone(), c.getSkills(),
+            weMap.getOrDefault(c.getId(), 0L), edMap.getOrDefault(c.getId(), 0L)
+        )).toList();
+    }
+
+    private static String sortKey(CandidateListItemDTO item, String sortField) {
+        return switch (sortField) {
+            case "name" -> item.getName();
+            case "email" -> item.getEmail();
+            case "phone" -> item.getPhone();
+            default -> null;
+        };
+    }
+
+    /**
+     * A to_tsquery expression matching candidates that have every word of the search as a word
+     * prefix, or null without words. Only letters and digits are kept, so user input never reaches
+     * the tsquery syntax.
+     */
+    static String toPrefixQuery(String search) {
+        if (search == null) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        int terms = 0;
+        int i = 0;
+        while (i < search.length() && terms < MAX_SEARCH_TERMS) {
+            int start = i;
+            while (i < search.length() && Character.isLetterOrDigit(search.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                if (terms++ > 0) {
+                    query.append(" & ");
+                }
+                query.append(search.substring(start, i).toLowerCase()).append(":*");
+            } else {
+                i++;
+            }
+        }
+        return terms == 0 ? null : query.toString();
+    }
+}
@@ -0,0 +1,362 @@
+package com.talentmerge.service;
+
+import com.talentmerge.text.KeywordMatcher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Tells professional content from personal details in lines and sentences of free text.
+ * Every indicator vocabulary is compiled into one keyword automaton whose keywords carry feature
+ * bits, and digit shapes (phone numbers, date ranges) are read in the same walk over the text, so a
+ * line or a sentence is reduced to a bitmask in one scan and the keep/drop rules are bit tests.
+ * Summaries are split into sentences as they are read, so whole texts and chunked streams share
+ * one splitter.
+ * Immutable and safe to share between threads.
+ */
+final class ContentClassifier {
+
+    // Keyword features
+    static final int PERSONAL_LINE = 1;
+    static final int PROFESSIONAL_LINE = 1 << 1;
+    static final int PERSONAL_SENTENCE = 1 << 2;
+    static final int PROFESSIONAL_SENTENCE = 1 << 3;
+    static final int EXPERIENCE = 1 << 4;
+    static final int YEARS = 1 << 5;
+    static final int HEADER_WORD = 1 << 6;
+
+    // Features of the whole text
+    /** A header word and nothing else */
+    static final int HEADER_ONLY = 1 << 8;
+    /** Two words of ASCII letters and nothing else, such as a first and last name */
+    static final int NAME_ONLY = 1 << 9;
+    /** A digit followed by at least 6 digits, spaces, dashes or parentheses */
+    static final int DIGIT_RUN_7 = 1 << 10;
+    /** A digit followed by at least 8 of them: a phone number in a line */
+    static final int DIGIT_RUN_9 = 1 << 11;
+    /** "2018 - 2020", "2018–present", "2018 - current" */
+    static final int DATE_RANGE = 1 << 12;
+    /** "years" after a digit, as in "8+ years" */
+    static final int YEARS_AFTER_DIGIT = 1 << 13;
+
+    private static final int LINE_REJECT = PERSONAL_LINE | DIGIT_RUN_9 | NAME_ONLY | HEADER_ONLY;
+    private static final int LINE_ACCEPT = PROFESSIONAL_LINE | DATE_RANGE;
+    private static final int LINE_EXPERIENCE_YEARS = EXPERIENCE | YEARS_AFTER_DIGIT;
+    private static final int SENTENCE_REJECT = PERSONAL_SENTENCE | DIGIT_RUN_7;
+
+    private static final int MIN_LINE_LENGTH = 5;
+    private static final int MIN_SENTENCE_LENGTH = 10;
+
+    // Personal details in a line: contact, age, location and private life
+    private static final List<String> PERSONAL_LINE_PHRASES = List.of(
+            "@", "linkedin", "years old", "born", "live in", "based in", "living in",
+            "love hiking", "love playing", "free time", "hobbies", "guitar", "photography");
+    // Job titles, work, education, technical skills, company context and their French equivalents
+    private static final List<String> PROFESSIONAL_LINE_KEYWORDS = List.of(
+            "engineer", "developer", "manager", "analyst", "director", "consultant", "senior", "lead",
+            "developed", "led", "managed", "implemented", "microservices", "team",
+            "university", "college", "degree", "bachelor", "master", "phd", "gpa", "mit", "computer science",
+            "java", "python", "javascript", "react", "spring", "aws", "docker", "sql",
+            "corp", "inc", "ltd", "llc", "tech corp",
+            "ingénieur", "développeur", "université", "diplôme", "sarl", "sas");
+    private static final List<String> PERSONAL_SENTENCE_PHRASES = List.of(
+            "years old", "born", "married", "live in", "based in", "from", "@");
+    private static final List<String> PROFESSIONAL_SENTENCE_KEYWORDS = List.of(
+            "experience", "skilled", "expertise", "developer", "engineer", "manager",
+            "professional", "specializ", "focus");
+    private static final List<String> HEADER_WORDS = List.of(
+            "summary", "profile", "experience", "education", "skills", "about");
+
+    /**
+     * A trimmed sentence and whether it is professional rather than personal
+     */
+    record Sentence(String text, boolean professional) {
+    }
+
+    private static final Sentence EMPTY_SENTENCE = new Sentence("", false);
+
+    private final KeywordMatcher matcher;
+    private final int[] keywordFeatures;
+
+    ContentClassifier() {
+        // A keyword in several vocabularies gets one id with all their bits
+        Map<String, Integer> features = new LinkedHashMap<>();
+        PERSONAL_LINE_PHRASES.forEach(word -> features.merge(word, PERSONAL_LINE, (a, b) -> a | b));
+        PROFESSIONAL_LINE_KEYWORDS.forEach(word -> features.merge(word, PROFESSIONAL_LINE, (a, b) -> a | b));
+        PERSONAL_SENTENCE_PHRASES.forEach(word -> features.merge(word, PERSONAL_SENTENCE, (a, b) -> a | b));
+        PROFESSIONAL_SENTENCE_KEYWORDS.forEach(word -> features.merge(word, PROFESSIONAL_SENTENCE, (a, b) -> a | b));
+        HEADER_WORDS.forEach(word -> features.merge(word, HEADER_WORD, (a, b) -> a | b));
+        features.merge("experience", EXPERIENCE, (a, b) -> a | b);
+        features.merge("years", YEARS, (a, b) -> a | b);
+
+        // Indicators match anywhere, even inside words, as String.contains did
+        KeywordMatcher.Builder builder = KeywordMatcher.builder();
+        features.keySet().forEach(builder::addSubstring);
+        this.matcher = builder.build();
+        this.keywordFeatures = features.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Whether a line holds professional content worth keeping from unstructured text
+     */
+    boolean isProfessionalLine(CharSequence line) {
+        if (line.length() < MIN_LINE_LENGTH) {
+            return false;
+        }
+        int features = features(line);
+        if ((features & LINE_REJECT) != 0) {
+            return false;
+        }
+        return (features & LINE_ACCEPT) != 0 || (features & LINE_EXPERIENCE_YEARS) == LINE_EXPERIENCE_YEARS;
+    }
+
+    /**
+     * Whether a trimmed sentence of a summary is professional rather than personal
+     */
+    boolean isProfessionalSentence(CharSequence sentence) {
+        return sentence.length() >= MIN_SENTENCE_LENGTH && isProfessional(features(sentence));
+    }
+
+    /**
+     * Split a text into sentences at runs of '.', '!' and '?' as {@code split("[.!?]+")} would, and
+     * classify them
+     */
+    List<Sentence> classifySentences(CharSequence text) {
+        SentenceSplitter splitter = sentenceSplitter();
+        List<Sentence> sentences = splitter.append(text);
+        sentences.addAll(splitter.finish());
+        return sentences;
+    }
+
+    /**
+     * A splitter to feed with a text one chunk at a time
+     */
+    SentenceSplitter sentenceSplitter() {
+        return new SentenceSplitter();
+    }
+
+    /**
+     * Feature bits of a whole text
+     */
+    int features(CharSequence text) {
+        int length = text.length();
+        int features = shapeFeatures(text, 0, length);
+        int firstDigit = firstDigit(text, 0, length);
+        int[] found = {features};
+        matcher.scan(text, (id, start, end) -> {
+            int bits = keywordFeatures[id];
+            if ((bits & HEADER_WORD) != 0 && start == 0 && end == length) {
+                found[0] |= HEADER_ONLY;
+            }
+            if ((bits & YEARS) != 0 && firstDigit >= 0 && firstDigit < start) {
+                found[0] |= YEARS_AFTER_DIGIT;
+            }
+            found[0] |= bits;
+        });
+        return found[0];
+    }
+
+    private static boolean isProfessional(int sentenceFeatures) {
+        return (sentenceFeatures & SENTENCE_REJECT) == 0 && (sentenceFeatures & PROFESSIONAL_SENTENCE) != 0;
+    }
+
+    /**
+     * Digit runs, date ranges and the two-word shape of [start, end)
+     */
+    private static int shapeFeatures(CharSequence text, int start, int end) {
+        int features = 0;
+        int run = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            // Runs of digits, spaces, dashes and parentheses, counted from their first digit
+            if (run > 0 && (digit || c == ' ' || c == '-' || c == '(' || c == ')')) {
+                run++;
+            } else {
+                run = digit ? 1 : 0;
+            }
+            if (run >= 7) {
+                features |= run >= 9 ? DIGIT_RUN_7 | DIGIT_RUN_9 : DIGIT_RUN_7;
+            }
+            digits = digit ? digits + 1 : 0;
+            if (digits >= 4 && (features & DATE_RANGE) == 0 && isRangeAfterYear(text, i + 1, end)) {
+                features |= DATE_RANGE;
+            }
+        }
+        if (isTwoWords(text, start, end)) {
+            features |= NAME_ONLY;
+        }
+        return features;
+    }
+
+    /**
+     * Whether a four-digit year ending at from is followed by a dash and a year, "present" or "current"
+     */
+    private static boolean isRangeAfterYear(CharSequence text, int from, int end) {
+        int i = skipSpaces(text, from, end);
+        if (i >= end || (text.charAt(i) != '-' && text.charAt(i) != '–')) {
+            return false;
+        }
+        i = skipSpaces(text, i + 1, end);
+        if (i + 4 <= end && isDigits(text, i, i + 4)) {
+            return true;
+        }
+        return startsWithIgnoreCase(text, i, end, "present") || startsWithIgnoreCase(text, i, end, "current");
+    }
+
+    private static boolean isTwoWords(CharSequence text, int start, int end) {
+        int i = start;
+        int firstWord = i;
+        while (i < end && isAsciiLetter(text.charAt(i))) i++;
+        if (i == firstWord) return false;
+        int space = i;
+        i = skipSpaces(text, i, end);
+        if (i == space) return false;
+        int secondWord = i;
+        while (i < end && isAsciiLetter(text.charAt(i))) i++;
+        return i > secondWord && i == end;
+    }
+
+    private static int firstDigit(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipSpaces(CharSequence text, int i, int end) {
+        while (i < end && isRegexSpace(text.charAt(i))) i++;
+        return i;
+    }
+
+    private static boolean isDigits(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWithIgnoreCase(CharSequence text, int at, int end, String lowerCasePrefix) {
+        if (at + lowerCasePrefix.length() > end) {
+            return false;
+        }
+        for (int k = 0; k < lowerCasePrefix.length(); k++) {
+            if (Character.toLowerCase(text.charAt(at + k)) != lowerCasePrefix.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The \s of regular expressions
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Splits a text fed in chunks into classified sentences. A sentence ends at a run of '.', '!' or '?';
+     * the walk that finds the ends also steps the keyword automaton and counts digit runs, so each
+     * character is read once and a sentence is classified as soon as it closes. Only its text is kept,
+     * for the result.
+     */
+    final class SentenceSplitter {
+        private final StringBuilder sentence = new StringBuilder();
+        private boolean inDelimiters;
+        // Empty sentences only count when a non-empty one follows, as split drops trailing empty strings
+        private int pendingEmpty;
+
+        // Classification of the current sentence so far
+        private int state;
+        private int features;
+        private int run;
+        // A run of 7 ending in a space only counts once a later character shows the space is not trimmed
+        private boolean runBeforeSpace;
+        private final IntConsumer addKeywordFeatures = id -> features |= keywordFeatures[id];
+
+        private SentenceSplitter() {
+        }
+
+        /**
+         * Read the next chunk of the text
+         * @return the sentences the chunk completes
+         */
+        List<Sentence> append(CharSequence chunk) {
+            List<Sentence> sentences = new ArrayList<>();
+            for (int i = 0; i < chunk.length(); i++) {
+                char c = chunk.charAt(i);
+                if (c == '.' || c == '!' || c == '?') {
+                    if (!inDelimiters) {
+                        close(sentences);
+                    }
+                    inDelimiters = true;
+                } else {
+                    sentence.append(c);
+                    inDelimiters = false;
+                    read(c);
+                }
+            }
+            return sentences;
+        }
+
+        /**
+         * @return the last sentence when the text does not end with a sentence end
+         */
+        List<Sentence> finish() {
+            List<Sentence> sentences = new ArrayList<>();
+            if (sentence.length() > 0) {
+                close(sentences);
+            }
+            return sentences;
+        }
+
+        private void read(char c) {
+            state = matcher.advance(state, c);
+            matcher.forEachKeywordEndingAt(state, addKeywordFeatures);
+
+            // Runs of digits, spaces, dashes and parentheses, counted from their first digit, as shapeFeatures
+            boolean digit = c >= '0' && c <= '9';
+            if (run > 0 && (digit || c == ' ' || c == '-' || c == '(' || c == ')')) {
+                run++;
+            } else {
+                run = digit ? 1 : 0;
+            }
+            if (c > ' ') {
+                if (runBeforeSpace || run >= 7) {
+                    features |= DIGIT_RUN_7;
+                }
+                runBeforeSpace = false;
+            } else if (run >= 7) {
+                runBeforeSpace = true;
+            }
+        }
+
+        private void close(List<Sentence> sentences) {
+            if (sentence.length() == 0) {
+                pendingEmpty++;
+                return;
+            }
+            for (; pendingEmpty > 0; pendingEmpty--) {
+                sentences.add(EMPTY_SENTENCE);
+            }
+            String trimmed = sentence.toString().trim();
+            sentences.add(new Sentence(trimmed, trimmed.length() >= MIN_SENTENCE_LENGTH && isProfessional(features)));
+            sentence.setLength(0);
+            state = 0;
+            features = 0;
+            run = 0;
+            runBeforeSpace = false;
+        }
+    }
+}
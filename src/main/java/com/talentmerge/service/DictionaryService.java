@@ -0,0 +1,140 @@
+package com.talentmerge.service;
+
+import com.talentmerge.text.DictionarySnapshot;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Holds the dictionaries of the rule-based parser as one compiled {@link DictionarySnapshot}.
+ * Parsers read the current snapshot through a volatile reference and never lock; a reload compiles
+ * a new snapshot aside and swaps it in whole, so parses already running finish on the old one.
+ * Without a configured directory the classpath dictionaries are used and never change.
+ */
+@Service
+public class DictionaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DictionaryService.class);
+
+    private final Path directory;
+    private final ScheduledExecutorService watcher;
+    private volatile DictionarySnapshot current;
+    private volatile long lastModified;
+
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong failedReloads = new AtomicLong();
+
+    @Autowired
+    public DictionaryService(@Value("${app.parsing.dictionary.directory:}") String directory,
+                             @Value("${app.parsing.dictionary.reload-interval-seconds:0}") long reloadIntervalSeconds) {
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+        if (this.directory == null) {
+            this.current = DictionarySnapshot.standard();
+            this.watcher = null;
+            return;
+        }
+        this.lastModified = lastModified();
+        this.current = DictionarySnapshot.load(this.directory);
+        if (reloadIntervalSeconds > 0) {
+            this.watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dictionary-watcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watcher.scheduleWithFixedDelay(this::reloadIfModified,
+                    reloadIntervalSeconds, reloadIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            this.watcher = null;
+        }
+    }
+
+    /**
+     * The classpath dictionaries, without reloading
+     */
+    public DictionaryService() {
+        this("", 0);
+    }
+
+    /**
+     * The dictionaries to use now; a parse should read this once and keep it to the end
+     */
+    public DictionarySnapshot current() {
+        return current;
+    }
+
+    /**
+     * Compile the dictionaries of the configured directory and swap them in. On failure the current
+     * snapshot stays in place and the error is thrown.
+     */
+    public DictionarySnapshot reload() {
+        if (directory == null) {
+            return current;
+        }
+        // Files that fail to compile are not retried before they change again
+        lastModified = lastModified();
+        try {
+            DictionarySnapshot snapshot = DictionarySnapshot.load(directory);
+            current = snapshot;
+            reloads.incrementAndGet();
+            logger.info("Dictionaries reloaded from {}: version {}", directory, snapshot.version());
+            return snapshot;
+        } catch (RuntimeException e) {
+            failedReloads.incrementAndGet();
+            throw e;
+        }
+    }
+
+    public long getReloads() {
+        return reloads.get();
+    }
+
+    public long getFailedReloads() {
+        return failedReloads.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+        }
+    }
+
+    private void reloadIfModified() {
+        try {
+            if (lastModified() != lastModified) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Keeping dictionary version {}: reload from {} failed: {}",
+                    current.version(), directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Latest modification time of the files in the directory
+     */
+    private long lastModified() {
+        try (Stream<Path> files = Files.list(directory)) {
+            long latest = 0;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                latest = Math.max(latest, Files.getLastModifiedTime(file).toMillis());
+            }
+            return latest;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list dictionary directory " + directory, e);
+        }
+    }
+}
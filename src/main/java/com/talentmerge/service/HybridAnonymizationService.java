@@ -1,8 +1,15 @@
 package com.talentmerge.service;
 
+import com.talentmerge.text.BoundedLineReader;
+import com.talentmerge.text.PiiScanner;
+import com.talentmerge.text.RegexGuard;
+import com.talentmerge.text.ResumeText;
 import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.*;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -28,10 +35,29 @@ public class HybridAnonymizationService {
             "personal", "interests", "hobbies", "references"
     );
 
-    // Patterns for light anonymization within professional sections
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}\\b");
-    private static final Pattern PHONE_PATTERN = Pattern.compile("(\\+?[0-9][0-9 ().-]{7,20})");
-    private static final Pattern LINKEDIN_PATTERN = Pattern.compile("(https?://)?(www\\.)?linkedin\\.com/in/[a-zA-Z0-9-]+/?");
+    // Placeholders for personal info leaked into professional sections
+    private static final Map<PiiScanner.Type, String> LEAK_PLACEHOLDERS = Map.of(
+            PiiScanner.Type.EMAIL, "[EMAIL_REMOVED]",
+            PiiScanner.Type.PHONE, "[PHONE_REMOVED]",
+            PiiScanner.Type.LINKEDIN, "[LINKEDIN_REMOVED]");
+
+    // A lone summary section longer than this means section detection likely failed
+    static final int FALLBACK_MIN_SUMMARY_LENGTH = 200;
+
+    // Preferred section order for LLM parsing
+    static final List<String> PREFERRED_ORDER = List.of("professional_summary", "experience", "education",
+            "skills", "certifications", "projects", "achievements", "awards", "publications");
+
+    // Fallback section headers, matched against whole lines of the lower-cased, accent-free view
+    private static final List<Pattern> FALLBACK_HEADER_PATTERNS = List.of(
+            Pattern.compile("(work\\s+experience|experience|professional\\s+experience)"),
+            Pattern.compile("(education|academic\\s+background|formation)"),
+            Pattern.compile("(skills|technical\\s+skills|competences)"),
+            Pattern.compile("(summary|profile|profil|objective|about)"));
+    private static final List<String> FALLBACK_SECTION_NAMES = List.of("experience", "education", "skills", "summary");
+
+    // Professional vs personal classification of lines and summary sentences
+    private static final ContentClassifier CLASSIFIER = new ContentClassifier();
 
     public HybridAnonymizationService(SectionSplittingService sectionSplittingService, 
                                      PersonalInfoDetectionService personalInfoDetectionService) {
@@ -52,16 +78,20 @@ public class HybridAnonymizationService {
 
         AnonymizationStats stats = new AnonymizationStats();
         
-        // Step 1: Split resume into sections
-        Map<String, String> sections = sectionSplittingService.splitTextIntoSections(resumeText);
+        // Step 1: Split resume into sections, indexing its lines once for every step below
+        Map<String, ResumeText> sectionLines = sectionSplittingService.findSectionLines(ResumeText.of(resumeText));
+        Map<String, String> sections = new HashMap<>();
+        for (Map.Entry<String, ResumeText> section : sectionLines.entrySet()) {
+            sections.put(section.getKey(), section.getValue().joinTrimmedLines());
+        }
         stats.originalSections = sections.keySet();
         
         // WORKAROUND: If section splitting failed (only one section with all content), 
         // fall back to simple text-based section detection
         if (sections.size() == 1 && sections.containsKey("summary")) {
             String allContent = sections.get("summary");
-            if (allContent.length() > 200) { // Likely failed detection
-                sections = fallbackSectionDetection(allContent, stats);
+            if (allContent.length() > FALLBACK_MIN_SUMMARY_LENGTH) { // Likely failed detection
+                sections = fallbackSectionDetection(sectionLines.get("summary"), stats);
                 stats.originalSections = sections.keySet();
             }
         }
@@ -93,53 +123,51 @@ public class HybridAnonymizationService {
         return anonymize(resumeText, AnonymizationConfig.standard());
     }
 
+    /**
+     * Streaming anonymization for very large texts: reads the resume from a Reader and writes the
+     * same text as {@link #anonymize(String, AnonymizationConfig)} to a Writer, in bounded memory
+     * @return the statistics of the anonymization
+     */
+    public AnonymizationStats anonymize(Reader resume, Writer out, AnonymizationConfig config) throws IOException {
+        return anonymize(new BoundedLineReader(resume), out, config);
+    }
+
+    AnonymizationStats anonymize(BoundedLineReader lines, Writer out, AnonymizationConfig config) throws IOException {
+        try (StreamingAnonymizer anonymizer = new StreamingAnonymizer(this, sectionSplittingService, config)) {
+            return anonymizer.anonymize(lines, out);
+        }
+    }
+
     /**
      * Fallback section detection when the main SectionSplittingService fails
      * Uses simple keyword-based detection to split content
      */
-    private Map<String, String> fallbackSectionDetection(String text, AnonymizationStats stats) {
+    private Map<String, String> fallbackSectionDetection(ResumeText lines, AnonymizationStats stats) {
         Map<String, String> sections = new HashMap<>();
         
-        // Simple patterns for common section headers
-        String[] sectionPatterns = {
-            "(?i)(work\\s+experience|experience|professional\\s+experience)",
-            "(?i)(education|academic\\s+background|formation)",
-            "(?i)(skills|technical\\s+skills|comp[eé]tences)",
-            "(?i)(summary|profile|profil|objective|about)"
-        };
-        
-        String[] sectionNames = {"experience", "education", "skills", "summary"};
-        
-        String[] lines = text.split("\\r?\\n");
         StringBuilder currentSection = new StringBuilder();
         String currentSectionName = "summary"; // Default section
         
-        for (String line : lines) {
-            String trimmedLine = line.trim();
-            
+        for (int line = 0; line < lines.lineCount(); line++) {
+            if (lines.isBlank(line)) continue;
+
             // Check if this line is a section header
-            boolean isSectionHeader = false;
-            for (int i = 0; i < sectionPatterns.length; i++) {
-                if (trimmedLine.matches(sectionPatterns[i])) {
-                    // Save previous section if it has content
-                    if (currentSection.length() > 0) {
-                        sections.put(currentSectionName, currentSection.toString().trim());
-                    }
-                    
-                    // Start new section
-                    currentSectionName = sectionNames[i];
-                    currentSection = new StringBuilder();
-                    isSectionHeader = true;
-                    break;
+            String headerName = fallbackSectionName(lines.foldedLine(line));
+            boolean isSectionHeader = headerName != null;
+            if (isSectionHeader) {
+                // Save previous section if it has content
+                if (currentSection.length() > 0) {
+                    sections.put(currentSectionName, currentSection.toString().trim());
                 }
-            }
-            
-            // If not a section header, add to current section
-            if (!isSectionHeader && !trimmedLine.isEmpty()) {
+
+                // Start new section
+                currentSectionName = headerName;
+                currentSection = new StringBuilder();
+            } else {
                 if (currentSection.length() > 0) {
                     currentSection.append("\n");
                 }
-                currentSection.append(trimmedLine);
+                currentSection.append(lines.trimmedLine(line));
             }
         }
         
@@ -150,34 +178,46 @@ public class HybridAnonymizationService {
         
         // If we only found one section, try to extract at least the professional content
         if (sections.size() <= 1) {
-            sections = extractProfessionalContent(text, stats);
+            sections = extractProfessionalContent(lines, stats);
         }
         
         stats.anonymizedItems.add("FALLBACK: Used simple section detection");
         return sections;
     }
     
+    /**
+     * Fallback section a header line stands for, from its lower-cased, accent-free form, or null
+     */
+    static String fallbackSectionName(CharSequence foldedLine) {
+        for (int i = 0; i < FALLBACK_HEADER_PATTERNS.size(); i++) {
+            if (RegexGuard.matches(FALLBACK_HEADER_PATTERNS.get(i), foldedLine)) {
+                return FALLBACK_SECTION_NAMES.get(i);
+            }
+        }
+        return null;
+    }
+
     /**
      * Last resort: extract any professional content from unstructured text
      */
-    private Map<String, String> extractProfessionalContent(String text, AnonymizationStats stats) {
+    private Map<String, String> extractProfessionalContent(ResumeText lines, AnonymizationStats stats) {
         Map<String, String> sections = new HashMap<>();
         
         // Look for professional keywords and extract surrounding context
         // First, convert literal \n to actual line breaks
-        String normalizedText = text.replace("\\n", "\n");
-        String[] lines = normalizedText.split("\\r?\\n");
+        String content = lines.toString();
+        if (content.contains("\\n")) {
+            lines = ResumeText.of(content.replace("\\n", "\n"));
+        }
         StringBuilder professionalContent = new StringBuilder();
         
-        for (String line : lines) {
-            String lower = line.toLowerCase().trim();
-            
+        for (int i = 0; i < lines.lineCount(); i++) {
             // Keep lines that seem professional
-            if (isProfessionalLine(lower)) {
+            if (isProfessionalLine(lines, i)) {
                 if (professionalContent.length() > 0) {
                     professionalContent.append("\n");
                 }
-                professionalContent.append(line.trim());
+                professionalContent.append(lines.trimmedLine(i));
             }
         }
         
@@ -194,68 +234,10 @@ public class HybridAnonymizationService {
     }
     
     /**
-     * Determine if a line contains professional content
+     * Determine if line i contains professional content, reading the shared lower-cased view
      */
-    private boolean isProfessionalLine(String line) {
-        if (line.length() < 5) return false;
-        
-        String lower = line.toLowerCase().trim();
-        
-        // REJECT personal information lines
-        if (lower.matches(".*@.*") || // emails
-            lower.matches(".*\\+?[0-9][0-9 ()-]{8,}.*") || // phones (8+ digits to avoid false positives)
-            lower.matches(".*linkedin.*") || // social media
-            lower.matches(".*years old.*") || lower.matches(".*born.*") ||
-            lower.matches(".*live in.*") || lower.matches(".*based in.*") ||
-            lower.matches(".*living in.*") || 
-            lower.contains("love hiking") || lower.contains("love playing") ||
-            lower.contains("free time") || lower.contains("hobbies") ||
-            lower.contains("guitar") || lower.contains("photography") ||
-            lower.matches("^[a-zA-Z]+\\s+[a-zA-Z]+$")) { // Simple first/last name pattern
-            return false;
-        }
-        
-        // REJECT section headers (we want content, not headers)
-        if (lower.matches("^(summary|profile|experience|education|skills|about)$")) {
-            return false;
-        }
-        
-        // ACCEPT specific professional content
-        boolean isProfessional = 
-            // Job titles and roles
-            lower.contains("engineer") || lower.contains("developer") || 
-            lower.contains("manager") || lower.contains("analyst") ||
-            lower.contains("director") || lower.contains("consultant") ||
-            lower.contains("senior") || lower.contains("lead") ||
-            // Work experience indicators
-            lower.matches(".*\\d{4}\\s*[-–]\\s*\\d{4}.*") || // date ranges
-            lower.matches(".*\\d{4}\\s*[-–]\\s*(present|current).*") || // employment periods
-            lower.contains("developed") || lower.contains("led") ||
-            lower.contains("managed") || lower.contains("implemented") ||
-            lower.contains("microservices") || lower.contains("team") ||
-            // Education content
-            lower.contains("university") || lower.contains("college") ||
-            lower.contains("degree") || lower.contains("bachelor") ||
-            lower.contains("master") || lower.contains("phd") ||
-            lower.contains("gpa") || lower.contains("mit") ||
-            lower.contains("computer science") ||
-            // Technical skills
-            lower.contains("java") || lower.contains("python") ||
-            lower.contains("javascript") || lower.contains("react") ||
-            lower.contains("spring") || lower.contains("aws") ||
-            lower.contains("docker") || lower.contains("sql") ||
-            // Company names and context (keep company context)
-            lower.contains("corp") || lower.contains("inc") ||
-            lower.contains("ltd") || lower.contains("llc") ||
-            lower.contains("tech corp") ||
-            // Professional activities with years/experience
-            (lower.contains("experience") && lower.matches(".*\\d+.*years.*")) ||
-            // French equivalents
-            lower.contains("ingénieur") || lower.contains("développeur") ||
-            lower.contains("université") || lower.contains("diplôme") ||
-            lower.contains("sarl") || lower.contains("sas");
-            
-        return isProfessional;
+    boolean isProfessionalLine(ResumeText lines, int i) {
+        return CLASSIFIER.isProfessionalLine(lines.lowerCaseLine(i));
     }
 
     /**
@@ -285,7 +267,7 @@ public class HybridAnonymizationService {
     /**
      * Determine if a section should be kept based on configuration and content analysis
      */
-    private boolean shouldKeepSection(String sectionKey, AnonymizationConfig config) {
+    boolean shouldKeepSection(String sectionKey, AnonymizationConfig config) {
         // Always keep professional sections
         if (PROFESSIONAL_SECTIONS.contains(sectionKey)) {
             return true;
@@ -322,42 +304,39 @@ public class HybridAnonymizationService {
      * Clean individual section content of leaked personal information
      */
     private String cleanSectionContent(String content, AnonymizationConfig config, AnonymizationStats stats) {
-        String cleaned = content;
-        
-        // Remove emails that leaked into professional sections
+        return removeLeaks(content, leakTypes(config), stats.anonymizedItems);
+    }
+
+    /**
+     * Kinds of personal info removed from professional sections under a configuration
+     */
+    static Set<PiiScanner.Type> leakTypes(AnonymizationConfig config) {
+        Set<PiiScanner.Type> types = EnumSet.noneOf(PiiScanner.Type.class);
         if (config.removeLeakedEmails) {
-            Matcher emailMatcher = EMAIL_PATTERN.matcher(cleaned);
-            while (emailMatcher.find()) {
-                stats.anonymizedItems.add("EMAIL: " + emailMatcher.group());
-                cleaned = emailMatcher.replaceFirst("[EMAIL_REMOVED]");
-                emailMatcher = EMAIL_PATTERN.matcher(cleaned);
-            }
+            types.add(PiiScanner.Type.EMAIL);
         }
-        
-        // Remove phone numbers that leaked into professional sections
         if (config.removeLeakedPhones) {
-            Matcher phoneMatcher = PHONE_PATTERN.matcher(cleaned);
-            while (phoneMatcher.find()) {
-                String phone = phoneMatcher.group().trim();
-                if (phone.length() >= 7) { // Avoid false positives with short numbers
-                    stats.anonymizedItems.add("PHONE: " + phone);
-                    cleaned = phoneMatcher.replaceFirst("[PHONE_REMOVED]");
-                    phoneMatcher = PHONE_PATTERN.matcher(cleaned);
-                }
-            }
+            types.add(PiiScanner.Type.PHONE);
         }
-        
-        // Remove LinkedIn URLs that leaked into professional sections
         if (config.removeLeakedSocialMedia) {
-            Matcher linkedinMatcher = LINKEDIN_PATTERN.matcher(cleaned);
-            while (linkedinMatcher.find()) {
-                stats.anonymizedItems.add("LINKEDIN: " + linkedinMatcher.group());
-                cleaned = linkedinMatcher.replaceFirst("[LINKEDIN_REMOVED]");
-                linkedinMatcher = LINKEDIN_PATTERN.matcher(cleaned);
-            }
+            types.add(PiiScanner.Type.LINKEDIN);
         }
-        
-        return cleaned;
+        return types;
+    }
+
+    /**
+     * Replace emails, phone numbers and LinkedIn URLs that leaked into professional content, found in
+     * one pass, recording each removed item
+     */
+    static String removeLeaks(String content, Set<PiiScanner.Type> types, List<String> removedItems) {
+        if (types.isEmpty()) {
+            return content;
+        }
+        List<PiiScanner.Span> spans = PiiScanner.scan(content, types);
+        for (PiiScanner.Span span : spans) {
+            removedItems.add(span.type() + ": " + span.text(content));
+        }
+        return PiiScanner.redact(content, spans, LEAK_PLACEHOLDERS);
     }
 
     /**
@@ -368,42 +347,25 @@ public class HybridAnonymizationService {
             return "";
         }
         
-        String[] sentences = summaryContent.split("[.!?]+");
         StringBuilder professionalSummary = new StringBuilder();
-        
-        for (String sentence : sentences) {
-            if (isProfessionalSentence(sentence.trim())) {
+        for (ContentClassifier.Sentence sentence : CLASSIFIER.classifySentences(summaryContent)) {
+            if (sentence.professional()) {
                 if (professionalSummary.length() > 0) {
                     professionalSummary.append(". ");
                 }
-                professionalSummary.append(sentence.trim());
+                professionalSummary.append(sentence.text());
             } else {
-                stats.removedSummaryElements.add(sentence.trim());
+                stats.removedSummaryElements.add(sentence.text());
             }
         }
-        
         return professionalSummary.toString();
     }
 
     /**
-     * Determine if a sentence contains professional content vs personal content
+     * Splits a summary read in chunks into sentences classified as professional or personal
      */
-    private boolean isProfessionalSentence(String sentence) {
-        if (sentence.length() < 10) return false;
-        
-        String lower = sentence.toLowerCase();
-        
-        // Skip sentences with personal indicators
-        if (lower.contains("years old") || lower.contains("born") || lower.contains("married") ||
-            lower.contains("live in") || lower.contains("based in") || lower.contains("from") ||
-            lower.contains("@") || lower.matches(".*\\+?[0-9][0-9 ()-]{6,}.*")) {
-            return false;
-        }
-        
-        // Keep sentences with professional indicators
-        return lower.contains("experience") || lower.contains("skilled") || lower.contains("expertise") ||
-               lower.contains("developer") || lower.contains("engineer") || lower.contains("manager") ||
-               lower.contains("professional") || lower.contains("specializ") || lower.contains("focus");
+    ContentClassifier.SentenceSplitter sentenceSplitter() {
+        return CLASSIFIER.sentenceSplitter();
     }
 
     /**
@@ -412,11 +374,7 @@ public class HybridAnonymizationService {
     private String reconstructResume(Map<String, String> cleanedSections, AnonymizationConfig config) {
         StringBuilder result = new StringBuilder();
         
-        // Preferred section order for LLM parsing
-        String[] preferredOrder = {"professional_summary", "experience", "education", "skills", 
-                                 "certifications", "projects", "achievements", "awards", "publications"};
-        
-        for (String sectionName : preferredOrder) {
+        for (String sectionName : PREFERRED_ORDER) {
             if (cleanedSections.containsKey(sectionName)) {
                 String content = cleanedSections.get(sectionName).trim();
                 if (!content.isEmpty()) {
@@ -428,7 +386,7 @@ public class HybridAnonymizationService {
         
         // Add any remaining sections not in preferred order
         for (Map.Entry<String, String> entry : cleanedSections.entrySet()) {
-            if (!Arrays.asList(preferredOrder).contains(entry.getKey())) {
+            if (!PREFERRED_ORDER.contains(entry.getKey())) {
                 String content = entry.getValue().trim();
                 if (!content.isEmpty()) {
                     result.append(formatSectionHeader(entry.getKey())).append("\n");
@@ -443,7 +401,7 @@ public class HybridAnonymizationService {
     /**
      * Format section headers consistently
      */
-    private String formatSectionHeader(String sectionName) {
+    static String formatSectionHeader(String sectionName) {
         return sectionName.toUpperCase().replace("_", " ");
     }
 
@@ -4,4 +4,12 @@ import java.io.InputStream;
 
 public interface IToolParsingService {
     String parseResume(InputStream inputStream, String contentType);
-}
\ No newline at end of file
+
+    /**
+     * Identifies the extraction code and libraries, stored with the extracted text so it can be
+     * extracted again when they change
+     */
+    default String extractorVersion() {
+        return getClass().getSimpleName();
+    }
+}
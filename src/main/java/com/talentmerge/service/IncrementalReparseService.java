@@ -0,0 +1,246 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import com.talentmerge.model.Education;
+import com.talentmerge.model.WorkExperience;
+import com.talentmerge.repository.CandidateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reparses a new version of a candidate's resume section by section.
+ * Section content hashes from the previous parse are compared with the new version, and only
+ * the sections that changed are sent to the LLM. Work experience and education rows of unchanged
+ * sections are kept as they are, so an update touching one job does not rewrite the whole candidate.
+ *
+ * Changed sections always go through the per-section prompts, since sending only what changed is
+ * the point; a full reparse uses the parser selected by app.ai.parsing-mode, like a first upload.
+ *
+ * The model calls run outside any transaction, so no database connection is held for a round trip
+ * to the LLM; the candidate is only reloaded, checked and saved in a short transaction afterwards.
+ */
+@Service
+public class IncrementalReparseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalReparseService.class);
+
+    // Parses against the stored hashes before giving up on a candidate updated meanwhile
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SectionSplittingService sectionSplittingService;
+    private final SectionedAiParsingService sectionedAiParsingService;
+    private final IParsingService fullParsingService;
+    private final CandidateRepository candidateRepository;
+    private final CandidateDocumentService candidateDocumentService;
+    private final TransactionOperations transactionOperations;
+
+    public IncrementalReparseService(SectionSplittingService sectionSplittingService,
+                                     SectionedAiParsingService sectionedAiParsingService,
+                                     @Qualifier("ai") IParsingService aiParsingService,
+                                     @Value("${app.ai.parsing-mode:full}") String parsingMode,
+                                     CandidateRepository candidateRepository,
+                                     CandidateDocumentService candidateDocumentService,
+                                     TransactionOperations transactionOperations) {
+        this.sectionSplittingService = sectionSplittingService;
+        this.sectionedAiParsingService = sectionedAiParsingService;
+        this.fullParsingService = "sections".equalsIgnoreCase(parsingMode) ? sectionedAiParsingService : aiParsingService;
+        this.candidateRepository = candidateRepository;
+        this.candidateDocumentService = candidateDocumentService;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Parse the changed sections of a new resume version, then apply them to the candidate and save it
+     * with the extracted text in a short transaction. When the stored hashes changed while the model was
+     * called, another version was saved meanwhile and the parse is redone against it.
+     * @return The saved candidate with its work experiences and educations loaded, or empty when
+     * there is no candidate with this ID
+     */
+    public Optional<Candidate> reparseAndSave(Long candidateId, String resumeText, String originalFilePath,
+                                              String extractorVersion) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            Optional<Map<String, String>> previousHashes = transactionOperations.execute(status ->
+                    candidateRepository.findById(candidateId).map(candidate -> new HashMap<>(candidate.getSectionHashes())));
+            if (previousHashes.isEmpty()) {
+                return Optional.empty();
+            }
+
+            Reparse reparse = parseChanges(previousHashes.get(), resumeText);
+
+            SaveOutcome outcome = transactionOperations.execute(status -> candidateRepository.findById(candidateId)
+                    .map(candidate -> {
+                        if (!previousHashes.get().equals(candidate.getSectionHashes())) {
+                            return SaveOutcome.STALE;
+                        }
+                        apply(candidate, reparse);
+                        candidate.setOriginalFilePath(originalFilePath);
+                        Candidate saved = candidateRepository.save(candidate);
+                        candidateDocumentService.saveText(saved, resumeText, extractorVersion);
+                        // Loaded here so the caller can map them after the transaction
+                        saved.getWorkExperiences().size();
+                        saved.getEducations().size();
+                        return new SaveOutcome(saved);
+                    })
+                    .orElse(SaveOutcome.MISSING));
+            if (outcome != SaveOutcome.STALE) {
+                return Optional.ofNullable(outcome.saved);
+            }
+            logger.info("Candidate {} changed during reparse attempt {}, parsing again", candidateId, attempt);
+        }
+        throw new ConcurrencyFailureException("Candidate " + candidateId + " kept changing during reparse");
+    }
+
+    /**
+     * Remember the section hashes of the version a candidate was just parsed from
+     */
+    public void recordSectionHashes(Candidate candidate, String resumeText) {
+        candidate.setSectionHashes(new HashMap<>(sectionSplittingService.computeSectionHashes(resumeText)));
+    }
+
+    /**
+     * Apply a new resume version to an existing candidate, reparsing only changed sections
+     * @param candidate The persisted candidate parsed from a previous version
+     * @param resumeText Extracted text of the new version
+     * @return Which sections were reparsed and which were reused
+     */
+    public ReparseResult reparse(Candidate candidate, String resumeText) {
+        Reparse reparse = parseChanges(candidate.getSectionHashes(), resumeText);
+        apply(candidate, reparse);
+        return reparse.result;
+    }
+
+    /**
+     * Send the sections that changed since the previous hashes to the model; no entity is touched
+     */
+    private Reparse parseChanges(Map<String, String> previousHashes, String resumeText) {
+        Map<String, String> sections = sectionSplittingService.splitTextIntoSections(resumeText);
+        Reparse reparse = new Reparse(sectionSplittingService.computeSectionHashes(resumeText));
+        Map<String, String> newHashes = reparse.newHashes;
+
+        // Without a previous parse or recognizable sections, every section counts as changed
+        boolean fullReparse = previousHashes == null || previousHashes.isEmpty()
+                || (!sections.containsKey("experience") && !sections.containsKey("education"));
+        if (fullReparse) {
+            Candidate parsed = fullParsingService.parseCandidateFromText(resumeText);
+            reparse.profile = parsed;
+            reparse.workExperiences = parsed.getWorkExperiences();
+            reparse.educations = parsed.getEducations();
+            reparse.result.reparsedSections.add("all");
+            return reparse;
+        }
+
+        if (changed("header", previousHashes, newHashes) || changed("skills", previousHashes, newHashes)) {
+            reparse.profile = sectionedAiParsingService.parseProfileSection(
+                    sectionSplittingService.extractHeaderBlock(resumeText), sections.getOrDefault("skills", ""));
+            reparse.result.reparsedSections.add("profile");
+        } else {
+            reparse.result.reusedSections.add("profile");
+        }
+
+        if (changed("experience", previousHashes, newHashes)) {
+            String experienceText = sections.getOrDefault("experience", "");
+            reparse.workExperiences = experienceText.isEmpty()
+                    ? List.of() : sectionedAiParsingService.parseExperienceSection(experienceText);
+            reparse.result.reparsedSections.add("experience");
+        } else {
+            reparse.result.reusedSections.add("experience");
+        }
+
+        if (changed("education", previousHashes, newHashes)) {
+            String educationText = sections.getOrDefault("education", "");
+            reparse.educations = educationText.isEmpty()
+                    ? List.of() : sectionedAiParsingService.parseEducationSection(educationText);
+            reparse.result.reparsedSections.add("education");
+        } else {
+            reparse.result.reusedSections.add("education");
+        }
+        return reparse;
+    }
+
+    private void apply(Candidate candidate, Reparse reparse) {
+        if (reparse.profile != null) {
+            applyProfile(candidate, reparse.profile);
+        }
+        if (reparse.workExperiences != null) {
+            replaceWorkExperiences(candidate, reparse.workExperiences);
+        }
+        if (reparse.educations != null) {
+            replaceEducations(candidate, reparse.educations);
+        }
+        candidate.getSectionHashes().clear();
+        candidate.getSectionHashes().putAll(reparse.newHashes);
+
+        logger.info("Incremental reparse of candidate {}: reparsed {}, reused {}",
+                candidate.getId(), reparse.result.reparsedSections, reparse.result.reusedSections);
+    }
+
+    private boolean changed(String key, Map<String, String> previousHashes, Map<String, String> newHashes) {
+        return !Objects.equals(previousHashes.get(key), newHashes.get(key));
+    }
+
+    private void applyProfile(Candidate candidate, Candidate parsed) {
+        candidate.setName(parsed.getName());
+        candidate.setEmail(parsed.getEmail());
+        candidate.setPhone(parsed.getPhone());
+        candidate.setSkills(parsed.getSkills());
+    }
+
+    private void replaceWorkExperiences(Candidate candidate, List<WorkExperience> workExperiences) {
+        candidate.getWorkExperiences().clear();
+        workExperiences.forEach(candidate::addWorkExperience);
+    }
+
+    private void replaceEducations(Candidate candidate, List<Education> educations) {
+        candidate.getEducations().clear();
+        educations.forEach(candidate::addEducation);
+    }
+
+    /**
+     * What the model returned for the changed sections; null parts are reused as stored
+     */
+    private static final class Reparse {
+        final Map<String, String> newHashes;
+        final ReparseResult result = new ReparseResult();
+        Candidate profile;
+        List<WorkExperience> workExperiences;
+        List<Education> educations;
+
+        Reparse(Map<String, String> newHashes) {
+            this.newHashes = newHashes;
+        }
+    }
+
+    /**
+     * The saved candidate, or why none was saved
+     */
+    private static final class SaveOutcome {
+        static final SaveOutcome MISSING = new SaveOutcome(null);
+        static final SaveOutcome STALE = new SaveOutcome(null);
+
+        final Candidate saved;
+
+        SaveOutcome(Candidate saved) {
+            this.saved = saved;
+        }
+    }
+
+    /**
+     * Outcome of an incremental reparse
+     */
+    public static class ReparseResult {
+        public final List<String> reparsedSections = new ArrayList<>();
+        public final List<String> reusedSections = new ArrayList<>();
+    }
+}
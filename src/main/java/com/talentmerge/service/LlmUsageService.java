@@ -0,0 +1,95 @@
+package com.talentmerge.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accumulates the token usage reported by the provider for every LLM call, including the prompt
+ * tokens served from the provider's prompt cache.
+ */
+@Service
+public class LlmUsageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmUsageService.class);
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong promptTokens = new AtomicLong();
+    private final AtomicLong cachedPromptTokens = new AtomicLong();
+    private final AtomicLong completionTokens = new AtomicLong();
+    private final AtomicLong latencyMillis = new AtomicLong();
+
+    /**
+     * Record the usage of one call
+     * @param response The provider response, usage metadata may be missing
+     * @param latencyMs Wall-clock duration of the call
+     */
+    public void record(ChatResponse response, long latencyMs) {
+        calls.incrementAndGet();
+        latencyMillis.addAndGet(latencyMs);
+
+        Usage usage = response == null || response.getMetadata() == null ? null : response.getMetadata().getUsage();
+        if (usage == null) {
+            return;
+        }
+        int prompt = valueOf(usage.getPromptTokens());
+        int cached = cachedTokens(usage);
+        int completion = valueOf(usage.getCompletionTokens());
+        promptTokens.addAndGet(prompt);
+        cachedPromptTokens.addAndGet(cached);
+        completionTokens.addAndGet(completion);
+
+        logger.info("LLM call took {} ms: {} prompt tokens ({} from prompt cache), {} completion tokens; "
+                        + "cache hit ratio so far {}%",
+                latencyMs, prompt, cached, completion, Math.round(getCacheHitRatio() * 100));
+    }
+
+    /**
+     * Cached prompt tokens from the provider-specific usage (OpenAI-compatible prompt_tokens_details)
+     */
+    static int cachedTokens(Usage usage) {
+        if (usage.getNativeUsage() instanceof OpenAiApi.Usage openAiUsage
+                && openAiUsage.promptTokensDetails() != null) {
+            return valueOf(openAiUsage.promptTokensDetails().cachedTokens());
+        }
+        return 0;
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getPromptTokens() {
+        return promptTokens.get();
+    }
+
+    public long getCachedPromptTokens() {
+        return cachedPromptTokens.get();
+    }
+
+    public long getCompletionTokens() {
+        return completionTokens.get();
+    }
+
+    public double getAverageLatencyMillis() {
+        long count = calls.get();
+        return count == 0 ? 0.0 : (double) latencyMillis.get() / count;
+    }
+
+    /**
+     * Share of prompt tokens served from the provider's cache
+     */
+    public double getCacheHitRatio() {
+        long prompt = promptTokens.get();
+        return prompt == 0 ? 0.0 : (double) cachedPromptTokens.get() / prompt;
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -3,6 +3,12 @@ package com.talentmerge.service;
 import com.talentmerge.model.Candidate;
 import com.talentmerge.model.Education;
 import com.talentmerge.model.WorkExperience;
+import com.talentmerge.text.DateLexicon;
+import com.talentmerge.text.DateScanner;
+import com.talentmerge.text.DateScanner.ScannedDate;
+import com.talentmerge.text.DictionarySnapshot;
+import com.talentmerge.text.Lexicon;
+import com.talentmerge.text.ResumeText;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
@@ -10,12 +16,11 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 /**
  * Manual parsing service that uses rule-based algorithms to extract candidate information
@@ -28,177 +33,169 @@ public class ManualParsingService implements IParsingService{
     private final SectionSplittingService sectionSplittingService;
     private final WorkExperienceParsingService workExperienceParsingService;
     private final PersonalInfoDetectionService personalInfoDetectionService;
-
-    private static final List<String> SKILL_DICTIONARY = List.of(
-            "Java", "Python", "JavaScript", "C++", "C#", "Ruby", "Go", "TypeScript", "PHP", "Swift",
-            "React", "Angular", "Vue.js", "Node.js", "Spring Boot", "Django", "Flask", "Ruby on Rails",
-            "SQL", "PostgreSQL", "MySQL", "MongoDB", "Redis", "Oracle",
-            "AWS", "Azure", "Google Cloud", "Docker", "Kubernetes",
-            "HTML", "CSS", "Sass", "Less",
-            "Agile", "Scrum", "JIRA", "Git", "Jenkins"
-    );
+    // Skills, job titles, company indicators and graduation prefixes, reloadable as one snapshot
+    private final DictionaryService dictionaryService;
 
     public ManualParsingService(SectionSplittingService sectionSplittingService, 
                                WorkExperienceParsingService workExperienceParsingService, 
-                               PersonalInfoDetectionService personalInfoDetectionService) {
+                               PersonalInfoDetectionService personalInfoDetectionService,
+                               DictionaryService dictionaryService) {
         this.sectionSplittingService = sectionSplittingService;
         this.workExperienceParsingService = workExperienceParsingService;
         this.personalInfoDetectionService = personalInfoDetectionService;
+        this.dictionaryService = dictionaryService;
     }
 
     /**
      * Parse candidate information from text using manual/rule-based parsing
      */
     public Candidate parseCandidateFromText(String text) {
-        Candidate candidate = personalInfoDetectionService.detectPersonalInfo(text);
-
-        Map<String, String> sections = sectionSplittingService.splitTextIntoSections(text);
-
-        List<WorkExperience> experiences = workExperienceParsingService.parseWorkExperience(sections.getOrDefault("experience", ""));
+        // Every step below uses the same dictionaries, even if they are reloaded meanwhile
+        DictionarySnapshot dictionaries = dictionaryService.current();
+        // Lines are indexed once and every step below reads the same index
+        ResumeText resume = ResumeText.of(text);
+        Candidate candidate = personalInfoDetectionService.detectPersonalInfo(resume);
+        candidate.setDictionaryVersion(dictionaries.version());
+
+        Map<String, ResumeText> sections = sectionSplittingService.findSectionLines(resume, dictionaries.lexicon());
+        ResumeText none = resume.lines(0, 0);
+
+        List<WorkExperience> experiences = workExperienceParsingService.parseWorkExperience(
+                sections.getOrDefault("experience", none), dictionaries.lexicon());
         experiences.forEach(candidate::addWorkExperience);
 
-        List<Education> educations = parseEducation(sections.getOrDefault("education", ""));
+        List<Education> educations = parseEducation(sections.getOrDefault("education", none), dictionaries.lexicon());
         educations.forEach(candidate::addEducation);
 
-        String skillsSection = sections.getOrDefault("skills", "");
-        String skills = parseSkills(skillsSection);
+        ResumeText skillsSection = sections.getOrDefault("skills", none);
+        String skills = skillsSection.isBlank() ? "" : dictionaries.skills().find(skillsSection.content());
         if (skills.isEmpty()) {
-            skills = parseSkills(text); // Fallback to searching the whole text
+            skills = dictionaries.skills().find(text); // Fallback to searching the whole text
         }
         candidate.setSkills(skills);
 
         return candidate;
     }
 
-    private List<Education> parseEducation(String text) {
+    /**
+     * Education entries as three consecutive lines: degree, institution, then a line starting with
+     * the graduation date ("Graduated: " / "Obtenu en " prefix allowed). Lines that do not start such
+     * a block are details of the previous entry. Runs in one pass over the lines, without backtracking.
+     */
+    List<Education> parseEducation(String text) {
+        return parseEducation(ResumeText.of(text));
+    }
+
+    /**
+     * Education entries from the non-blank lines of the education section
+     */
+    List<Education> parseEducation(ResumeText section) {
+        return parseEducation(section, dictionaryService.current().lexicon());
+    }
+
+    /**
+     * Education entries, with the graduation prefixes ("Graduated:", "Obtenu en"...) and month names
+     * of the lexicon in use
+     */
+    private List<Education> parseEducation(ResumeText section, Lexicon lexicon) {
+        List<String> graduationPrefixes = lexicon.entries(Lexicon.GRADUATION_PREFIX);
+        DateLexicon dates = lexicon.dates();
         List<Education> educations = new ArrayList<>();
-        // This regex is adapted for both English and French formats.
-        Pattern eduPattern = Pattern.compile(
-                "(?<degree>.+?)\\n"
-                        + "(?<institution>.+?)\\n"
-                        + "(?:Graduated: |Obtenu en )?(?<gradDate>\\b(?:Jan|Feb|Mar|Apr|May|Jun|Jul|Aug|Sep|Oct|Nov|Dec|janv|févr|mars|avr|mai|juin|juil|août|sept|oct|nov|déc)[a-z.]*\\s+\\d{4}|\\d{2}/\\d{4}|\\d{4})"
-                        + "(?:\\n(?<details>(?:(?!^.+?\\n.+?\\n(?:Jan|Feb|Mar|Apr|May|Jun|Jul|Aug|Sep|Oct|Nov|Dec|janv|févr|mars|avr|mai|juin|juil|août|sept|oct|nov|déc)).|\\n)*))?",
-                Pattern.CASE_INSENSITIVE
-        );
-
-        Matcher matcher = eduPattern.matcher(text);
-        while (matcher.find()) {
+        List<CharSequence> lines = new ArrayList<>();
+        for (int line = 0; line < section.lineCount(); line++) {
+            if (!section.isBlank(line)) {
+                lines.add(section.trimmedLine(line));
+            }
+        }
+
+        int i = 0;
+        while (i + 2 < lines.size()) {
+            CharSequence dateLine = lines.get(i + 2);
+            ScannedDate graduation = graduationDateAtStart(dateLine, graduationPrefixes, dates);
+            if (graduation == null) {
+                i++; // Not the start of an entry: a detail line of the previous one
+                continue;
+            }
+
+            // A YYYY-MM date only counts for its year, like a bare four-digit year
+            int end = graduation.form() == DateScanner.Form.YEAR_MONTH ? graduation.start() + 4 : graduation.end();
             Education edu = new Education();
-            edu.setDegree(matcher.group("degree").trim());
-            edu.setInstitution(matcher.group("institution").trim());
-            edu.setGraduationDate(parseDate(matcher.group("gradDate")));
+            edu.setDegree(lines.get(i).toString());
+            edu.setInstitution(lines.get(i + 1).toString());
+            edu.setGraduationDate(parseDate(dateLine.subSequence(graduation.start(), end).toString(), dates));
             educations.add(edu);
+            i += 3;
         }
         return educations;
     }
 
-    private String parseSkills(String text) {
-        List<String> foundSkills = new ArrayList<>();
-        for (String skill : SKILL_DICTIONARY) {
-            Pattern pattern = Pattern.compile("\\b" + Pattern.quote(skill) + "\\b", Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(text);
-            if (matcher.find()) {
-                if (!foundSkills.contains(skill)) {
-                    foundSkills.add(skill);
-                }
+    /**
+     * Date at the start of a line, after an optional "Graduated: " / "Obtenu en " prefix, or null
+     */
+    private ScannedDate graduationDateAtStart(CharSequence line, List<String> graduationPrefixes, DateLexicon dates) {
+        int start = 0;
+        for (String prefix : graduationPrefixes) {
+            // The prefix is followed by a single space before the date
+            if (startsWithIgnoreCase(line, prefix) && line.length() > prefix.length()
+                    && line.charAt(prefix.length()) == ' ') {
+                start = prefix.length() + 1;
+                break;
             }
         }
-        return String.join(", ", foundSkills);
+        ScannedDate date = DateScanner.dateAt(dates, line, start);
+        return date == null || date.form() == DateScanner.Form.QUARTER ? null : date;
     }
 
-    private LocalDate parseDate(String dateString) {
-        if (dateString == null || dateString.isEmpty() || 
-            dateString.equalsIgnoreCase("Present") || dateString.equalsIgnoreCase("Aujourd'hui") ||
-            dateString.equalsIgnoreCase("Current") || dateString.equalsIgnoreCase("Actuel")) {
-            return null;
+    private static boolean startsWithIgnoreCase(CharSequence line, String prefix) {
+        if (line.length() < prefix.length()) {
+            return false;
         }
-        
-        // Clean the input string
-        String cleanedDate = dateString.trim()
-            .replace(".", "")  // remove dots from janv. -> janv
-            .replaceAll("\\s+", " "); // normalize spaces
-        
-        // Try MM/YYYY format first
-        Pattern mmYyyyPattern = Pattern.compile("\\d{1,2}/\\d{4}");
-        Matcher mmYyyyMatcher = mmYyyyPattern.matcher(cleanedDate);
-        if (mmYyyyMatcher.find()) {
-            try {
-                String matched = mmYyyyMatcher.group();
-                String[] parts = matched.split("/");
-                int month = Integer.parseInt(parts[0]);
-                int year = Integer.parseInt(parts[1]);
-                return LocalDate.of(year, month, 1);
-            } catch (Exception e) {
-                // Continue to other patterns
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(line.charAt(i)) != Character.toLowerCase(prefix.charAt(i))) {
+                return false;
             }
         }
-        
-        // Try year only format
-        Pattern yearPattern = Pattern.compile("\\b(19|20)\\d{2}\\b");
-        Matcher yearMatcher = yearPattern.matcher(cleanedDate);
-        if (yearMatcher.find()) {
-            try {
-                int year = Integer.parseInt(yearMatcher.group());
-                return LocalDate.of(year, 1, 1);
-            } catch (Exception e) {
-                // Continue to other patterns
-            }
+        return true;
+    }
+
+    /**
+     * Dictionary skills found in the text, in dictionary order
+     */
+    String parseSkills(CharSequence text) {
+        return dictionaryService.current().skills().find(text);
+    }
+
+    /**
+     * Graduation date: MM/YYYY when present, otherwise January of a 19xx/20xx year,
+     * otherwise the month and year of the last date found
+     */
+    LocalDate parseDate(String dateString) {
+        return parseDate(dateString, dictionaryService.current().lexicon().dates());
+    }
+
+    private LocalDate parseDate(String dateString, DateLexicon dates) {
+        if (dateString == null || dateString.isEmpty() || dates.isOngoing(dateString, 0, dateString.length())) {
+            return null;
         }
-        
-        // Try month year formats (both English and French)
-        Map<String, Integer> monthMap = new HashMap<>();
-        // English months
-        monthMap.put("jan", 1); monthMap.put("january", 1);
-        monthMap.put("feb", 2); monthMap.put("february", 2);
-        monthMap.put("mar", 3); monthMap.put("march", 3);
-        monthMap.put("apr", 4); monthMap.put("april", 4);
-        monthMap.put("may", 5);
-        monthMap.put("jun", 6); monthMap.put("june", 6);
-        monthMap.put("jul", 7); monthMap.put("july", 7);
-        monthMap.put("aug", 8); monthMap.put("august", 8);
-        monthMap.put("sep", 9); monthMap.put("september", 9);
-        monthMap.put("oct", 10); monthMap.put("october", 10);
-        monthMap.put("nov", 11); monthMap.put("november", 11);
-        monthMap.put("dec", 12); monthMap.put("december", 12);
-        
-        // French months
-        monthMap.put("janv", 1); monthMap.put("janvier", 1);
-        monthMap.put("févr", 2); monthMap.put("février", 2);
-        monthMap.put("mars", 3);
-        monthMap.put("avr", 4); monthMap.put("avril", 4);
-        monthMap.put("mai", 5);
-        monthMap.put("juin", 6);
-        monthMap.put("juil", 7); monthMap.put("juillet", 7);
-        monthMap.put("août", 8);
-        monthMap.put("sept", 9); monthMap.put("septembre", 9);
-        monthMap.put("oct", 10); monthMap.put("octobre", 10);
-        monthMap.put("nov", 11); monthMap.put("novembre", 11);
-        monthMap.put("déc", 12); monthMap.put("décembre", 12);
-        
-        // Try to find month and year in the string
-        Pattern monthYearPattern = Pattern.compile("(?i)\\b(\\d{4})\\b|\\b(" + String.join("|", monthMap.keySet()) + ")\\b");
-        Matcher monthYearMatcher = monthYearPattern.matcher(cleanedDate.toLowerCase());
-        
-        Integer month = null;
-        Integer year = null;
-        
-        while (monthYearMatcher.find()) {
-            String matched = monthYearMatcher.group().toLowerCase();
-            if (matched.matches("\\d{4}")) {
-                year = Integer.parseInt(matched);
-            } else if (monthMap.containsKey(matched)) {
-                month = monthMap.get(matched);
-            }
+
+        ScannedDate slashDate = DateScanner.findDate(dates, dateString, 0, EnumSet.of(DateScanner.Form.MONTH_SLASH_YEAR));
+        if (slashDate != null && slashDate.month() >= 1 && slashDate.month() <= 12) {
+            return LocalDate.of(slashDate.year(), slashDate.month(), 1);
         }
-        
-        if (year != null) {
-            if (month != null) {
-                return LocalDate.of(year, month, 1);
-            } else {
-                return LocalDate.of(year, 1, 1);
+
+        Set<DateScanner.Form> yearForms = EnumSet.of(DateScanner.Form.YEAR, DateScanner.Form.MONTH_YEAR);
+        ScannedDate last = null;
+        for (ScannedDate date = DateScanner.findDate(dates, dateString, 0, yearForms); date != null;
+             date = DateScanner.findDate(dates, dateString, date.end(), yearForms)) {
+            if (date.year() >= 1900 && date.year() <= 2099) {
+                return LocalDate.of(date.year(), 1, 1);
             }
+            last = date;
         }
-        
+        if (last != null) {
+            return LocalDate.of(last.year(), Math.max(1, last.month()), 1);
+        }
+
         return null; // Could not parse date
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,248 @@
+package com.talentmerge.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Routes each LLM call to a small or a large model.
+ * Uses cheap features of the text (length, number of detected sections, language): short,
+ * simple resumes go to a fast small model, and only long or complex ones pay for the large model.
+ * Off by default: thresholds are configured, and should first be fitted offline from a recorded
+ * corpus with {@link #fitThresholds(List, Set, double)}.
+ */
+@Service
+public class ModelRoutingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModelRoutingService.class);
+
+    public static final String TIER_SMALL = "small";
+    public static final String TIER_LARGE = "large";
+
+    private final SectionSplittingService sectionSplittingService;
+    // Stopwords of the current dictionary snapshot
+    private final DictionaryService dictionaryService;
+
+    @Value("${app.ai.routing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.ai.routing.small.model:}")
+    private String smallModel;
+
+    @Value("${app.ai.routing.small.max-tokens:4000}")
+    private int smallMaxTokens;
+
+    @Value("${app.ai.routing.large.model:}")
+    private String largeModel;
+
+    @Value("${app.ai.routing.large.max-tokens:4000}")
+    private int largeMaxTokens;
+
+    @Value("${app.ai.routing.thresholds.max-chars:6000}")
+    private int maxSmallChars;
+
+    @Value("${app.ai.routing.thresholds.max-sections:5}")
+    private int maxSmallSections;
+
+    @Value("${app.ai.routing.small-languages:en,fr}")
+    private Set<String> smallLanguages = Set.of("en", "fr");
+
+    private final AtomicLong smallRoutes = new AtomicLong();
+    private final AtomicLong largeRoutes = new AtomicLong();
+
+    @Autowired
+    public ModelRoutingService(SectionSplittingService sectionSplittingService, DictionaryService dictionaryService) {
+        this.sectionSplittingService = sectionSplittingService;
+        this.dictionaryService = dictionaryService;
+    }
+
+    /**
+     * With the classpath dictionaries, without reloading
+     */
+    public ModelRoutingService(SectionSplittingService sectionSplittingService) {
+        this(sectionSplittingService, new DictionaryService());
+    }
+
+    /**
+     * Build the prompt for a call, with the model and max tokens chosen from the routed text
+     * @param messages System and user messages sent to the model
+     * @param routedText The resume text (or section) the routing features are computed on
+     */
+    public Prompt routedPrompt(List<Message> messages, String routedText) {
+        if (!enabled) {
+            return new Prompt(messages);
+        }
+        RoutingDecision decision = route(routedText);
+        OpenAiChatOptions.Builder options = OpenAiChatOptions.builder().maxTokens(decision.maxTokens);
+        if (decision.model != null && !decision.model.isBlank()) {
+            options.model(decision.model);
+        }
+        return new Prompt(messages, options.build());
+    }
+
+    /**
+     * Choose the tier for a text
+     */
+    public RoutingDecision route(String text) {
+        RoutingFeatures features = extractFeatures(text);
+        boolean small = features.chars <= maxSmallChars
+                && features.sections <= maxSmallSections
+                && smallLanguages.contains(features.language);
+
+        RoutingDecision decision = small
+                ? new RoutingDecision(TIER_SMALL, smallModel, smallMaxTokens, features)
+                : new RoutingDecision(TIER_LARGE, largeModel, largeMaxTokens, features);
+        (small ? smallRoutes : largeRoutes).incrementAndGet();
+        logger.info("Routed to {} model (chars={}, sections={}, language={})",
+                decision.tier, features.chars, features.sections, features.language);
+        return decision;
+    }
+
+    /**
+     * Compute the routing features of a text
+     */
+    public RoutingFeatures extractFeatures(String text) {
+        String value = text == null ? "" : text;
+        int sections = sectionSplittingService.splitTextIntoSections(value).size();
+        return new RoutingFeatures(value.length(), sections, detectLanguage(value));
+    }
+
+    /**
+     * Stopword vote between the lexicon languages on the first words of the text
+     * @return a language code such as "en" or "fr", or "unknown"
+     */
+    String detectLanguage(String text) {
+        return dictionaryService.current().lexicon().detectLanguage(text);
+    }
+
+    public long getSmallRoutes() {
+        return smallRoutes.get();
+    }
+
+    public long getLargeRoutes() {
+        return largeRoutes.get();
+    }
+
+    /**
+     * Fit the small-model thresholds on a recorded corpus.
+     * Each sample records the features of a resume and whether the small model's extraction was
+     * acceptable (e.g. matched the large model's). Picks the thresholds that send the most resumes
+     * to the small model while keeping the share of acceptable small-model results at or above
+     * the target accuracy.
+     * @param samples Recorded corpus
+     * @param smallLanguages Languages the small model may handle
+     * @param targetAccuracy Minimum share of acceptable results among small-routed resumes, e.g. 0.98
+     * @return The fitted thresholds, or zero thresholds when no setting reaches the target
+     */
+    public static RoutingThresholds fitThresholds(List<CorpusSample> samples, Set<String> smallLanguages,
+                                                  double targetAccuracy) {
+        RoutingThresholds best = new RoutingThresholds(0, 0, 0, 1.0);
+        TreeSet<Integer> sectionCandidates = new TreeSet<>();
+        samples.forEach(sample -> sectionCandidates.add(sample.sections));
+
+        for (int maxSections : sectionCandidates) {
+            // Sweep the character threshold over eligible samples sorted by length
+            List<CorpusSample> eligible = new ArrayList<>();
+            for (CorpusSample sample : samples) {
+                if (sample.sections <= maxSections && smallLanguages.contains(sample.language)) {
+                    eligible.add(sample);
+                }
+            }
+            eligible.sort(Comparator.comparingInt(sample -> sample.chars));
+
+            int routed = 0;
+            int acceptable = 0;
+            for (int i = 0; i < eligible.size(); i++) {
+                CorpusSample sample = eligible.get(i);
+                routed++;
+                if (sample.smallModelAcceptable) acceptable++;
+                // Only cut between distinct lengths
+                if (i + 1 < eligible.size() && eligible.get(i + 1).chars == sample.chars) continue;
+
+                double accuracy = (double) acceptable / routed;
+                if (accuracy >= targetAccuracy && routed > best.routedSamples) {
+                    best = new RoutingThresholds(sample.chars, maxSections, routed, accuracy);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Features the routing decision is made on
+     */
+    public static class RoutingFeatures {
+        public final int chars;
+        public final int sections;
+        public final String language;
+
+        public RoutingFeatures(int chars, int sections, String language) {
+            this.chars = chars;
+            this.sections = sections;
+            this.language = language;
+        }
+    }
+
+    /**
+     * Model tier, model name and max tokens chosen for a call
+     */
+    public static class RoutingDecision {
+        public final String tier;
+        public final String model;
+        public final int maxTokens;
+        public final RoutingFeatures features;
+
+        public RoutingDecision(String tier, String model, int maxTokens, RoutingFeatures features) {
+            this.tier = tier;
+            this.model = model;
+            this.maxTokens = maxTokens;
+            this.features = features;
+        }
+    }
+
+    /**
+     * One recorded resume of the routing corpus
+     */
+    public static class CorpusSample {
+        public final int chars;
+        public final int sections;
+        public final String language;
+        public final boolean smallModelAcceptable;
+
+        public CorpusSample(int chars, int sections, String language, boolean smallModelAcceptable) {
+            this.chars = chars;
+            this.sections = sections;
+            this.language = language;
+            this.smallModelAcceptable = smallModelAcceptable;
+        }
+    }
+
+    /**
+     * Thresholds fitted on a corpus
+     */
+    public static class RoutingThresholds {
+        public final int maxChars;
+        public final int maxSections;
+        public final int routedSamples;
+        public final double accuracy;
+
+        public RoutingThresholds(int maxChars, int maxSections, int routedSamples, double accuracy) {
+            this.maxChars = maxChars;
+            this.maxSections = maxSections;
+            this.routedSamples = routedSamples;
+            this.accuracy = accuracy;
+        }
+    }
+}
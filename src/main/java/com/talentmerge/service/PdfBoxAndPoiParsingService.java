@@ -12,9 +12,17 @@ import java.io.InputStream;
 @Service
 public class PdfBoxAndPoiParsingService implements IToolParsingService {
 
+    // Bump when the extraction changes, so stored text can be told apart
+    private static final String EXTRACTOR_VERSION = "pdfbox-2.0.27/poi-5.2.3/1";
+
     public PdfBoxAndPoiParsingService() {
     }
 
+    @Override
+    public String extractorVersion() {
+        return EXTRACTOR_VERSION;
+    }
+
 
 
     @Override
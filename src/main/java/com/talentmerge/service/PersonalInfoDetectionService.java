@@ -1,59 +1,69 @@
 package com.talentmerge.service;
 
 import com.talentmerge.model.Candidate;
+import com.talentmerge.text.PiiScanner;
+import com.talentmerge.text.ResumeText;
 import org.springframework.stereotype.Service;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Locale;
 
 @Service
 public class PersonalInfoDetectionService {
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}");
-    private static final Pattern PHONE_PATTERN = Pattern.compile("(\\+?[0-9][0-9 ()-]{7,20})");
-    private static final Pattern LINKEDIN_PATTERN = Pattern.compile("linkedin\\.com/in/[a-zA-Z0-9-]+");
+    private static final String LINKEDIN_PROFILE = "linkedin.com/in/";
 
     public Candidate detectPersonalInfo(String text) {
+        return detectPersonalInfo(ResumeText.of(text));
+    }
+
+    public Candidate detectPersonalInfo(ResumeText resume) {
+        return detectPersonalInfo(resume, PiiScanner.scan(resume.text()));
+    }
+
+    /**
+     * Personal info from the spans already found in the resume text, without scanning it again
+     */
+    public Candidate detectPersonalInfo(ResumeText resume, List<PiiScanner.Span> spans) {
         Candidate candidate = new Candidate();
-        candidate.setName(extractName(text));
-        candidate.setEmail(extractEmail(text));
-        candidate.setPhone(extractPhoneNumber(text));
+        candidate.setName(extractName(resume));
+        candidate.setEmail(firstOf(spans, PiiScanner.Type.EMAIL, resume.text()));
+        candidate.setPhone(firstOf(spans, PiiScanner.Type.PHONE, resume.text()));
         // The candidate model does not have a field for linkedin url. I will add it later if the user wants it.
         return candidate;
     }
 
-    private String extractName(String text) {
+    private String extractName(ResumeText resume) {
         // Simple heuristic: the first non-empty line is the name.
         // This can be improved later.
-        String[] lines = text.split("\\r?\\n");
-        for (String line : lines) {
-            if (!line.trim().isEmpty()) {
-                return line.trim();
+        for (int i = 0; i < resume.lineCount(); i++) {
+            if (!resume.isBlank(i)) {
+                return resume.trimmedLine(i).toString();
             }
         }
         return null;
     }
 
-    private String extractEmail(String text) {
-        Matcher matcher = EMAIL_PATTERN.matcher(text);
-        if (matcher.find()) {
-            return matcher.group();
+    public String extractLinkedInUrl(String text) {
+        PiiScanner.Span span = PiiScanner.first(text, PiiScanner.Type.LINKEDIN);
+        if (span == null) {
+            return null;
         }
-        return null;
-    }
-
-    private String extractPhoneNumber(String text) {
-        Matcher matcher = PHONE_PATTERN.matcher(text);
-        if (matcher.find()) {
-            return matcher.group();
+        // Normalized to the profile address, whatever scheme, host prefix or query the link had
+        String link = span.text(text);
+        int profile = link.toLowerCase(Locale.ROOT).indexOf(LINKEDIN_PROFILE) + LINKEDIN_PROFILE.length();
+        int end = profile;
+        while (end < link.length() && (Character.isLetterOrDigit(link.charAt(end)) || link.charAt(end) == '-')) {
+            end++;
         }
-        return null;
+        return "https://www." + LINKEDIN_PROFILE + link.substring(profile, end);
     }
 
-    public String extractLinkedInUrl(String text) {
-        Matcher matcher = LINKEDIN_PATTERN.matcher(text);
-        if (matcher.find()) {
-            return "https://www." + matcher.group();
+    private static String firstOf(List<PiiScanner.Span> spans, PiiScanner.Type type, String text) {
+        for (PiiScanner.Span span : spans) {
+            if (span.type() == type) {
+                return span.text(text);
+            }
         }
         return null;
     }
@@ -0,0 +1,367 @@
+package com.talentmerge.service;
+
+import com.talentmerge.text.RegexGuard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Compacts extracted resume text before it is sent to the LLM.
+ * Normalizes whitespace and PDF artifacts, removes repeated page furniture (page numbers,
+ * running headers/footers), optionally drops personal sections through the hybrid anonymizer,
+ * and enforces a token budget by giving each section a share of it. The budget is a safety net
+ * for unusually long documents; whatever it cuts is logged and reported in the result.
+ */
+@Service
+public class PromptCompactionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PromptCompactionService.class);
+
+    // Rough BPE average for English/French prose; good enough for budgeting and reporting
+    private static final double CHARS_PER_TOKEN = 4.0;
+
+    private static final Pattern PAGE_NUMBER_PATTERN = Pattern.compile(
+            "^(?:page\\s*)?-?\\s*\\d{1,3}\\s*-?(?:\\s*(?:/|of|sur)\\s*\\d{1,3})?$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CID_ARTIFACT_PATTERN = Pattern.compile("\\(cid:\\d+\\)");
+    private static final Pattern SYMBOL_ONLY_LINE_PATTERN = Pattern.compile("^[\\p{Punct}•·▪■□◦●○►–—_=\\s]+$");
+    private static final Pattern FURNITURE_KEYWORD_PATTERN = Pattern.compile(
+            "(?i)(page\\s*\\d|curriculum vitae|confidential|confidentiel|@|https?://|www\\.)");
+
+    // Highest value first: the order of the rebuilt text
+    private static final List<String> SECTION_PRIORITY = List.of("header", "experience", "education", "skills", "summary");
+    // Relative share of the token budget when the text has to be trimmed; absent sections weigh 1
+    private static final Map<String, Integer> SECTION_WEIGHTS = Map.of("experience", 4, "education", 2);
+
+    private final SectionSplittingService sectionSplittingService;
+    private final HybridAnonymizationService hybridAnonymizationService;
+
+    @Value("${app.ai.compaction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ai.compaction.token-budget:12000}")
+    private int tokenBudget;
+
+    @Value("${app.ai.compaction.drop-personal-sections:false}")
+    private boolean dropPersonalSections;
+
+    @Value("${app.ai.compaction.cost-per-1k-tokens:0.0}")
+    private double costPer1kTokens;
+
+    private final AtomicLong documentsCompacted = new AtomicLong();
+    private final AtomicLong totalTokensSaved = new AtomicLong();
+
+    public PromptCompactionService(SectionSplittingService sectionSplittingService,
+                                   HybridAnonymizationService hybridAnonymizationService) {
+        this.sectionSplittingService = sectionSplittingService;
+        this.hybridAnonymizationService = hybridAnonymizationService;
+    }
+
+    /**
+     * Compact with the application configuration
+     */
+    public CompactionResult compact(String resumeText) {
+        CompactionConfig config = new CompactionConfig();
+        config.enabled = enabled;
+        config.tokenBudget = tokenBudget;
+        config.dropPersonalSections = dropPersonalSections;
+        return compact(resumeText, config);
+    }
+
+    /**
+     * Main compaction method
+     * @param resumeText Raw extracted resume text
+     * @param config Compaction configuration
+     * @return Compacted text and the token accounting for this document
+     */
+    public CompactionResult compact(String resumeText, CompactionConfig config) {
+        String text = resumeText == null ? "" : resumeText;
+        int originalTokens = estimateTokens(text);
+        if (!config.enabled) {
+            return new CompactionResult(text, originalTokens, originalTokens, 0, List.of());
+        }
+
+        long start = System.nanoTime();
+
+        // Step 1: Normalize whitespace and strip extraction artifacts
+        List<String> lines = normalizeLines(text);
+
+        // Step 2: Remove page numbers and repeated headers/footers
+        lines = removePageFurniture(lines);
+        String compacted = String.join("\n", lines);
+
+        // Step 3: Optionally drop personal sections
+        if (config.dropPersonalSections) {
+            compacted = hybridAnonymizationService.anonymize(compacted).anonymizedText;
+        }
+
+        // Step 4: Enforce the token budget
+        List<String> trimmedSections = new ArrayList<>();
+        if (config.tokenBudget > 0 && estimateTokens(compacted) > config.tokenBudget) {
+            int untrimmedTokens = estimateTokens(compacted);
+            compacted = trimToBudget(compacted, config.tokenBudget, trimmedSections);
+            logger.warn("Resume of ~{} tokens exceeds the {} token budget; content dropped from sections {}",
+                    untrimmedTokens, config.tokenBudget, trimmedSections);
+        }
+
+        int compactedTokens = estimateTokens(compacted);
+        long durationMicros = (System.nanoTime() - start) / 1000;
+        CompactionResult result = new CompactionResult(compacted, originalTokens, compactedTokens, durationMicros,
+                trimmedSections);
+
+        documentsCompacted.incrementAndGet();
+        totalTokensSaved.addAndGet(result.getTokensSaved());
+        logger.info("Prompt compaction saved {} of {} estimated tokens ({}%) in {} µs, est. input cost saved: ${}",
+                result.getTokensSaved(), originalTokens, Math.round(result.getSavedRatio() * 100), durationMicros,
+                String.format(Locale.ROOT, "%.5f", result.getTokensSaved() * costPer1kTokens / 1000.0));
+
+        return result;
+    }
+
+    /**
+     * Estimate the number of LLM tokens for a text
+     */
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return (int) Math.ceil(text.length() / CHARS_PER_TOKEN);
+    }
+
+    public long getDocumentsCompacted() {
+        return documentsCompacted.get();
+    }
+
+    public long getTotalTokensSaved() {
+        return totalTokensSaved.get();
+    }
+
+    /**
+     * Normalize line endings, invisible characters, ligatures and runs of whitespace.
+     * Collapses consecutive blank lines into one.
+     */
+    private List<String> normalizeLines(String text) {
+        String normalized = text.replace("\r\n", "\n").replace('\r', '\n')
+                .replace("\u00AD", "")   // soft hyphen
+                .replace("\u200B", "")   // zero-width space
+                .replace("\uFEFF", "")   // byte order mark
+                .replace("\uFB01", "fi")
+                .replace("\uFB02", "fl");
+        normalized = RegexGuard.replaceAll(CID_ARTIFACT_PATTERN, normalized, "");
+
+        List<String> lines = new ArrayList<>();
+        boolean previousBlank = true;
+        for (String rawLine : normalized.split("\n")) {
+            String line = collapseWhitespace(rawLine);
+            if (!line.isEmpty() && RegexGuard.matches(SYMBOL_ONLY_LINE_PATTERN, line)) {
+                line = "";
+            }
+            if (line.isEmpty()) {
+                if (!previousBlank) {
+                    lines.add("");
+                }
+                previousBlank = true;
+            } else {
+                lines.add(line);
+                previousBlank = false;
+            }
+        }
+        if (!lines.isEmpty() && lines.get(lines.size() - 1).isEmpty()) {
+            lines.remove(lines.size() - 1);
+        }
+        return lines;
+    }
+
+    private String collapseWhitespace(String line) {
+        StringBuilder result = new StringBuilder(line.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c) || Character.isISOControl(c)) {
+                pendingSpace = result.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    result.append(' ');
+                    pendingSpace = false;
+                }
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Drop page numbers, and keep only the first occurrence of lines that repeat on every page
+     * (the name header, contact footers, "Curriculum Vitae" banners...)
+     */
+    private List<String> removePageFurniture(List<String> lines) {
+        Map<String, Integer> occurrences = new HashMap<>();
+        String firstLine = null;
+        for (String line : lines) {
+            if (line.isEmpty()) continue;
+            if (firstLine == null) firstLine = line;
+            occurrences.merge(line, 1, Integer::sum);
+        }
+
+        List<String> result = new ArrayList<>(lines.size());
+        Set<String> seenFurniture = new HashSet<>();
+        for (String line : lines) {
+            if (RegexGuard.matches(PAGE_NUMBER_PATTERN, line)) {
+                continue;
+            }
+            boolean repeated = !line.isEmpty() && occurrences.getOrDefault(line, 0) > 1;
+            if (repeated && (line.equals(firstLine) || RegexGuard.find(FURNITURE_KEYWORD_PATTERN, line))) {
+                if (!seenFurniture.add(line)) {
+                    continue;
+                }
+            }
+            result.add(line);
+        }
+        return result;
+    }
+
+    /**
+     * Rebuild the text from its sections in value order, each section cut down to its share of the
+     * budget. Shares follow SECTION_WEIGHTS; what a short section does not use is spread over the
+     * longer ones, so a long experience section cannot crowd out education and skills.
+     * @param trimmedSections receives the name of every section that lost content
+     */
+    private String trimToBudget(String text, int budgetTokens, List<String> trimmedSections) {
+        int budgetChars = (int) (budgetTokens * CHARS_PER_TOKEN);
+
+        Map<String, String> parts = new LinkedHashMap<>();
+        Map<String, String> sections = sectionSplittingService.splitTextIntoSections(text);
+        if (sections.isEmpty()) {
+            parts.put("body", text);
+        } else {
+            parts.put("header", sectionSplittingService.extractHeaderBlock(text));
+            for (String key : SECTION_PRIORITY) {
+                if (sections.containsKey(key)) {
+                    parts.put(key, sections.get(key));
+                }
+            }
+        }
+        parts.values().removeIf(String::isEmpty);
+
+        // Titles and separators are reserved up front, the rest is shared out
+        int available = budgetChars;
+        for (String key : parts.keySet()) {
+            available -= 2 + (title(key) != null ? title(key).length() + 1 : 0);
+        }
+        Map<String, Integer> shares = shareOut(parts, Math.max(0, available));
+
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, String> part : parts.entrySet()) {
+            String kept = keepLines(part.getValue(), shares.get(part.getKey()));
+            if (kept.length() < part.getValue().length()) {
+                trimmedSections.add(part.getKey());
+            }
+            if (kept.isEmpty()) continue;
+            if (result.length() > 0) result.append("\n\n");
+            String title = title(part.getKey());
+            if (title != null) result.append(title).append('\n');
+            result.append(kept);
+        }
+        return result.toString().trim();
+    }
+
+    /**
+     * Weighted water-filling: parts are served from the one needing the least per unit of weight,
+     * each getting at most its weighted share of what is left
+     */
+    private static Map<String, Integer> shareOut(Map<String, String> parts, int availableChars) {
+        List<String> byNeed = new ArrayList<>(parts.keySet());
+        byNeed.sort(Comparator.comparingDouble(key -> parts.get(key).length() / (double) weight(key)));
+        int weights = byNeed.stream().mapToInt(PromptCompactionService::weight).sum();
+
+        Map<String, Integer> shares = new HashMap<>();
+        int remaining = availableChars;
+        for (String key : byNeed) {
+            int share = (int) ((long) remaining * weight(key) / weights);
+            int granted = Math.min(parts.get(key).length(), share);
+            shares.put(key, granted);
+            remaining -= granted;
+            weights -= weight(key);
+        }
+        return shares;
+    }
+
+    /**
+     * Leading whole lines of a part that fit in the given number of characters
+     */
+    private static String keepLines(String part, int maxChars) {
+        if (part.length() <= maxChars) {
+            return part;
+        }
+        int end = 0;
+        int newline = part.indexOf('\n');
+        while (newline >= 0 && newline <= maxChars) {
+            end = newline;
+            newline = part.indexOf('\n', newline + 1);
+        }
+        return part.substring(0, end);
+    }
+
+    private static int weight(String key) {
+        return SECTION_WEIGHTS.getOrDefault(key, 1);
+    }
+
+    private static String title(String key) {
+        return key.equals("header") || key.equals("body") ? null : key.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Configuration class for compaction behavior
+     */
+    public static class CompactionConfig {
+        public boolean enabled = true;
+        public int tokenBudget = 12000;
+        public boolean dropPersonalSections = false;
+    }
+
+    /**
+     * Result of the compaction stage with per-document token accounting
+     */
+    public static class CompactionResult {
+        public final String text;
+        public final int originalTokens;
+        public final int compactedTokens;
+        public final long durationMicros;
+        // Sections that lost content to the token budget, empty when nothing was dropped
+        public final List<String> trimmedSections;
+
+        public CompactionResult(String text, int originalTokens, int compactedTokens, long durationMicros,
+                                List<String> trimmedSections) {
+            this.text = text;
+            this.originalTokens = originalTokens;
+            this.compactedTokens = compactedTokens;
+            this.durationMicros = durationMicros;
+            this.trimmedSections = List.copyOf(trimmedSections);
+        }
+
+        public boolean isTrimmed() {
+            return !trimmedSections.isEmpty();
+        }
+
+        public int getTokensSaved() {
+            return Math.max(0, originalTokens - compactedTokens);
+        }
+
+        public double getSavedRatio() {
+            if (originalTokens == 0) return 0.0;
+            return (double) getTokensSaved() / originalTokens;
+        }
+    }
+}
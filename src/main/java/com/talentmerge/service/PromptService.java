@@ -1,16 +1,26 @@
 package com.talentmerge.service;
 
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+/**
+ * Builds the messages sent to the LLM.
+ * Every call is a static system message (instructions and JSON schema) followed by a user message
+ * holding only the variable text. The instruction constants are sent byte-for-byte identical on
+ * every call so the provider can serve them from its prompt cache: never interpolate into them.
+ */
 @Service
 public class PromptService {
 
-    public String createResumeParsingPrompt(String resumeText) {
-        return """
+    static final String RESUME_PARSING_INSTRUCTIONS = """
             You are an expert resume parser. Parse the following resume text and extract structured information.
-            
+
             Return ONLY a valid JSON object with the following structure (no markdown, no explanation):
-            
+
             {
                 "name": "Full name of the candidate (if found)",
                 "email": "Email address (if found)",
@@ -33,7 +43,7 @@ public class PromptService {
                     }
                 ]
             }
-            
+
             Important parsing guidelines:
             - Use null for missing information, don't make up data
             - For dates, if only year is provided, use January 1st (YYYY-01-01)
@@ -41,59 +51,122 @@ public class PromptService {
             - Combine related skills into a readable comma-separated format
             - Keep job descriptions concise but informative
             - Extract the most relevant information only
-            - If the text appears to be anonymized (e.g., "COMPANY_1", "PERSON_1"), use those values as-is
-            
-            Resume text to parse:
-            
-            """ + resumeText;
-    }
-    
-    public String createAnonymizedResumeParsingPrompt(String anonymizedResumeText) {
-        return """
-            You are an expert resume parser working with anonymized resume data. Parse the following anonymized resume text and extract structured information.
-            
-            This resume has been anonymized with patterns like:
-            - PERSON_X for names
-            - COMPANY_X for company names  
-            - UNIVERSITY_X for educational institutions
-            - LOCATION_X for places
-            - Keep these anonymized values exactly as they appear.
-            
+            - If the text appears to be anonymized (PERSON_X for names, COMPANY_X for companies,
+              UNIVERSITY_X for institutions, LOCATION_X for places), preserve these identifiers exactly
+              as they appear, including inside job descriptions
+            """;
+
+    static final String EXPERIENCE_PARSING_INSTRUCTIONS = """
+            You are an expert resume parser. The user message is the work experience section of a resume.
+
             Return ONLY a valid JSON object with the following structure (no markdown, no explanation):
-            
+
             {
-                "name": "Anonymized name (e.g., PERSON_1)",
-                "email": "Anonymized or removed email",
-                "phone": "Anonymized or removed phone",
-                "skills": "Comma-separated list of technical skills and competencies",
                 "workExperiences": [
                     {
                         "jobTitle": "Position title",
-                        "company": "Anonymized company name (e.g., COMPANY_1)",
+                        "company": "Company name",
                         "startDate": "YYYY-MM-DD format (use 01 for day/month if not specified)",
                         "endDate": "YYYY-MM-DD format or null if current job",
                         "description": "Brief description of responsibilities and achievements"
                     }
-                ],
+                ]
+            }
+
+            Important parsing guidelines:
+            - Use null for missing information, don't make up data
+            - For dates, if only year is provided, use January 1st (YYYY-01-01)
+            - If month and year are provided, use 1st of that month (YYYY-MM-01)
+            - Keep job descriptions concise but informative
+            - If the text appears to be anonymized (e.g., "COMPANY_1"), use those values as-is
+            """;
+
+    static final String EDUCATION_PARSING_INSTRUCTIONS = """
+            You are an expert resume parser. The user message is the education section of a resume.
+
+            Return ONLY a valid JSON object with the following structure (no markdown, no explanation):
+
+            {
                 "educations": [
                     {
-                        "institution": "Anonymized institution name (e.g., UNIVERSITY_1)",
+                        "institution": "School/University name",
                         "degree": "Degree type and field of study",
                         "graduationDate": "YYYY-MM-DD format (use 01 for day/month if not specified)"
                     }
                 ]
             }
-            
+
             Important parsing guidelines:
-            - Preserve ALL anonymized identifiers exactly (PERSON_X, COMPANY_X, etc.)
             - Use null for missing information, don't make up data
             - For dates, if only year is provided, use January 1st (YYYY-01-01)
             - If month and year are provided, use 1st of that month (YYYY-MM-01)
-            - Keep technical skills as-is (these are usually not anonymized)
-            - Keep job descriptions but preserve any anonymized references
-            
-            Anonymized resume text to parse:
-            
-            """ + anonymizedResumeText;
+            - If the text appears to be anonymized (e.g., "UNIVERSITY_1"), use those values as-is
+            """;
+
+    static final String PROFILE_PARSING_INSTRUCTIONS = """
+            You are an expert resume parser. The user message contains the header, contact details
+            and skills of a resume.
+
+            Return ONLY a valid JSON object with the following structure (no markdown, no explanation):
+
+            {
+                "name": "Full name of the candidate (if found)",
+                "email": "Email address (if found)",
+                "phone": "Phone number (if found)",
+                "skills": "Comma-separated list of technical skills and competencies"
+            }
+
+            Important parsing guidelines:
+            - Use null for missing information, don't make up data
+            - Combine related skills into a readable comma-separated format
+            - If the text appears to be anonymized (e.g., "PERSON_1"), use those values as-is
+            """;
+
+    static final String FOLLOW_UP_INSTRUCTIONS = """
+            You are an expert resume parser. A previous extraction of the resume in the user message is
+            missing or has unreadable values for some fields, listed before the resume text.
+
+            Return ONLY a valid JSON object whose keys are exactly the listed field names
+            (no markdown, no explanation), for example {"educations[0].graduationDate": "2019-06-01"}.
+
+            Important parsing guidelines:
+            - Dates use YYYY-MM-DD format; if only year is provided, use January 1st (YYYY-01-01)
+            - "workExperiences" and "educations" are arrays of objects with the usual resume fields
+              (jobTitle, company, startDate, endDate, description / institution, degree, graduationDate)
+            - A key like "workExperiences[2:]" asks for the entries of that array from index 2 (0-based)
+              to the end, in resume order, as an array
+            - Use null for missing information, don't make up data
+            """;
+
+    public List<Message> createResumeParsingMessages(String resumeText) {
+        return messages(RESUME_PARSING_INSTRUCTIONS, "Resume text to parse:\n\n" + resumeText);
+    }
+
+    public List<Message> createAnonymizedResumeParsingMessages(String anonymizedResumeText) {
+        // Same cached prefix as the plain variant; only the user message says the text is anonymized
+        return messages(RESUME_PARSING_INSTRUCTIONS,
+                "This resume has been anonymized. Keep every PERSON_X, COMPANY_X, UNIVERSITY_X and LOCATION_X "
+                        + "value exactly as it appears.\n\nAnonymized resume text to parse:\n\n" + anonymizedResumeText);
+    }
+
+    public List<Message> createExperienceParsingMessages(String experienceText) {
+        return messages(EXPERIENCE_PARSING_INSTRUCTIONS, "Work experience section to parse:\n\n" + experienceText);
+    }
+
+    public List<Message> createEducationParsingMessages(String educationText) {
+        return messages(EDUCATION_PARSING_INSTRUCTIONS, "Education section to parse:\n\n" + educationText);
+    }
+
+    public List<Message> createProfileParsingMessages(String profileText) {
+        return messages(PROFILE_PARSING_INSTRUCTIONS, "Resume text to parse:\n\n" + profileText);
+    }
+
+    public List<Message> createFollowUpMessages(String resumeText, List<String> fields) {
+        return messages(FOLLOW_UP_INSTRUCTIONS,
+                "Fields to extract:\n" + String.join("\n", fields) + "\n\nResume text:\n\n" + resumeText);
+    }
+
+    private List<Message> messages(String instructions, String userText) {
+        return List.of(new SystemMessage(instructions), new UserMessage(userText));
     }
-}
\ No newline at end of file
+}
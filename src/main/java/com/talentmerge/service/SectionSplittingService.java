@@ -1,8 +1,14 @@
 package com.talentmerge.service;
 
+import com.talentmerge.text.Lexicon;
+import com.talentmerge.text.PhraseTrie;
+import com.talentmerge.text.ResumeText;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.text.Normalizer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 /**
@@ -12,142 +18,218 @@ import java.util.*;
 @Service
 public class SectionSplittingService {
 
-    private static final List<String> SECTION_KEYWORDS = Arrays.asList(
-            // English
-            "experience", "employment history", "work experience", "professional experience",
-            "work history", "career history", "employment",
-            "education", "academic background", "academic history",
-            "skills", "technical skills", "competencies", "core competencies",
-            "summary", "profile", "objective", "about",
-            // French
-            "expérience professionnelle", "expériences professionnelles", "expériences",
-            "expérience", "historique professionnel", "parcours professionnel",
-            "formation", "formations", "éducation", "parcours académique",
-            "compétences", "compétences techniques", "savoir-faire",
-            "profil", "à propos", "résumé", "objectif"
-    );
+    // Header phrases of every lexicon language come from the current dictionary snapshot, compared
+    // case- and accent-insensitively; a header split over two lines is matched with its lines joined
+    // by a single space
+    private final DictionaryService dictionaryService;
+
+    @Autowired
+    public SectionSplittingService(DictionaryService dictionaryService) {
+        this.dictionaryService = dictionaryService;
+    }
+
+    /**
+     * With the classpath dictionaries, without reloading
+     */
+    public SectionSplittingService() {
+        this(new DictionaryService());
+    }
+
+    /**
+     * A section as offsets into the resume text: its header lines start at headerStart, and its
+     * content runs from contentStart to contentEnd (the next header line or the end of the text)
+     */
+    public record SectionSpan(String key, int headerStart, int contentStart, int contentEnd) {
+    }
 
     public Map<String, String> splitTextIntoSections(String resumeText) {
-        Map<String, String> sections = new HashMap<>();
-        
         if (resumeText == null || resumeText.trim().isEmpty()) {
-            return sections;
+            return new HashMap<>();
         }
+        return splitTextIntoSections(ResumeText.of(resumeText));
+    }
+
+    /**
+     * Section contents, one trimmed line per non-blank line, keyed by standard section name
+     */
+    public Map<String, String> splitTextIntoSections(ResumeText resume) {
+        Map<String, String> sections = new HashMap<>();
+        findSectionLines(resume).forEach((key, lines) -> sections.put(key, lines.joinTrimmedLines()));
+        return sections;
+    }
+
+    /**
+     * Section contents as views over the lines of the resume, without copying them; a section that
+     * appears twice keeps its last non-blank occurrence
+     */
+    public Map<String, ResumeText> findSectionLines(ResumeText resume) {
+        return findSectionLines(resume, dictionaryService.current().lexicon());
+    }
+
+    /**
+     * Section contents with the headers of a given lexicon, so a whole document is parsed with one
+     * dictionary version
+     */
+    public Map<String, ResumeText> findSectionLines(ResumeText resume, Lexicon lexicon) {
+        Map<String, ResumeText> sections = new HashMap<>();
+        List<SectionHeader> sectionHeaders = findSectionHeaders(resume, lexicon.sectionHeaders());
         
-        // Split text into lines
-        String[] lines = resumeText.split("\\n");
-        List<SectionHeader> sectionHeaders = findSectionHeaders(lines);
-        
-        // Extract content for each section
         for (int i = 0; i < sectionHeaders.size(); i++) {
             SectionHeader currentHeader = sectionHeaders.get(i);
             int startLine = currentHeader.endLine + 1;
             int endLine = (i + 1 < sectionHeaders.size()) ? 
                           sectionHeaders.get(i + 1).startLine - 1 : 
-                          lines.length - 1;
+                          resume.lineCount() - 1;
             
-            StringBuilder content = new StringBuilder();
-            for (int j = startLine; j <= endLine; j++) {
-                if (j < lines.length && !lines[j].trim().isEmpty()) {
-                    if (content.length() > 0) {
-                        content.append("\n");
-                    }
-                    content.append(lines[j].trim());
-                }
-            }
-            
-            String sectionContent = content.toString().trim();
-            if (!sectionContent.isEmpty()) {
+            ResumeText sectionContent = resume.lines(startLine, endLine + 1);
+            if (!sectionContent.isBlank()) {
                 sections.put(currentHeader.standardKey, sectionContent);
             }
         }
         
         return sections;
     }
-    
-    private List<SectionHeader> findSectionHeaders(String[] lines) {
-        List<SectionHeader> headers = new ArrayList<>();
-        
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].trim();
-            if (line.isEmpty()) continue;
-            
-            // Check for multi-line headers first (look ahead)
-            boolean foundMultiLineHeader = false;
-            if (i + 1 < lines.length) {
-                String nextLine = lines[i + 1].trim();
-                if (!nextLine.isEmpty()) {
-                    String combinedHeader = line + " " + nextLine;
-                    String standardKey = getStandardSectionKey(combinedHeader);
-                    if (standardKey != null) {
-                        headers.add(new SectionHeader(standardKey, i, i + 1));
-                        i++; // Skip the next line as it's part of this header
-                        foundMultiLineHeader = true;
-                    }
-                }
-            }
-            
-            // Check for single-line headers only if no multi-line header was found
-            if (!foundMultiLineHeader) {
-                String standardKey = getStandardSectionKey(line);
-                if (standardKey != null) {
-                    headers.add(new SectionHeader(standardKey, i, i));
-                }
-            }
+
+    /**
+     * Recognized sections in text order, as offsets into the resume text
+     */
+    public List<SectionSpan> findSections(String resumeText) {
+        if (resumeText == null) {
+            return new ArrayList<>();
         }
-        
-        return headers;
+        return findSections(ResumeText.of(resumeText));
+    }
+
+    public List<SectionSpan> findSections(ResumeText resume) {
+        List<SectionSpan> spans = new ArrayList<>();
+        List<SectionHeader> sectionHeaders = findSectionHeaders(resume, headerTrie());
+        for (int i = 0; i < sectionHeaders.size(); i++) {
+            SectionHeader header = sectionHeaders.get(i);
+            int contentStart = resume.lineStart(header.endLine + 1);
+            int contentEnd = i + 1 < sectionHeaders.size()
+                    ? resume.lineStart(sectionHeaders.get(i + 1).startLine) : resume.lineStart(resume.lineCount());
+            spans.add(new SectionSpan(header.standardKey, resume.lineStart(header.startLine), contentStart, contentEnd));
+        }
+        return spans;
     }
     
-    private String getStandardSectionKey(String text) {
-        String normalizedText = normalizeText(text.toLowerCase());
-        
-        // Summary variants - check first to avoid conflicts
-        if (normalizedText.equals("summary") || normalizedText.equals("profile") || 
-            normalizedText.equals("objective") || normalizedText.equals("about") || 
-            normalizedText.equals("resume") || normalizedText.equals("profil")) {
-            return "summary";
+    /**
+     * Extract the block of text that precedes the first recognized section header.
+     * This is usually where the name and contact details live.
+     */
+    public String extractHeaderBlock(String resumeText) {
+        if (resumeText == null || resumeText.trim().isEmpty()) {
+            return "";
         }
-        
-        // Experience variants
-        if (normalizedText.equals("experience") || normalizedText.equals("work experience") || 
-            normalizedText.equals("professional experience") || normalizedText.equals("employment history") ||
-            normalizedText.equals("work history") || normalizedText.equals("career history") ||
-            normalizedText.equals("employment") || normalizedText.equals("experience professionnelle") ||
-            normalizedText.equals("experiences professionnelles") || normalizedText.equals("experiences") ||
-            normalizedText.equals("historique professionnel") || normalizedText.equals("parcours professionnel")) {
-            return "experience";
+        return extractHeaderBlock(ResumeText.of(resumeText));
+    }
+
+    public String extractHeaderBlock(ResumeText resume) {
+        List<SectionHeader> sectionHeaders = findSectionHeaders(resume, headerTrie());
+        int endLine = sectionHeaders.isEmpty() ? resume.lineCount() : sectionHeaders.get(0).startLine;
+        return resume.lines(0, endLine).joinTrimmedLines();
+    }
+
+    /**
+     * Compute a SHA-256 content hash for each section, plus the header block under the "header" key.
+     * Used to detect which sections changed between two versions of the same resume.
+     */
+    public Map<String, String> computeSectionHashes(String resumeText) {
+        Map<String, String> hashes = new HashMap<>();
+        if (resumeText == null || resumeText.trim().isEmpty()) {
+            return hashes;
         }
-        
-        // Education variants
-        if (normalizedText.equals("education") || normalizedText.equals("academic background") || 
-            normalizedText.equals("academic history") || normalizedText.equals("formation") ||
-            normalizedText.equals("formations") || normalizedText.equals("parcours academique") ||
-            normalizedText.equals("education et formation")) {
-            return "education";
+        ResumeText resume = ResumeText.of(resumeText);
+        // Sections and header block split with the same headers
+        Lexicon lexicon = dictionaryService.current().lexicon();
+        findSectionLines(resume, lexicon).forEach((key, lines) -> hashes.put(key, sha256(lines.joinTrimmedLines())));
+
+        List<SectionHeader> sectionHeaders = findSectionHeaders(resume, lexicon.sectionHeaders());
+        int headerEnd = sectionHeaders.isEmpty() ? resume.lineCount() : sectionHeaders.get(0).startLine;
+        String headerBlock = resume.lines(0, headerEnd).joinTrimmedLines();
+        if (!headerBlock.isEmpty()) {
+            hashes.put("header", sha256(headerBlock));
         }
+        return hashes;
+    }
+
+    private String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Classify lines in one pass: each line is walked through the header trie once, and only a line
+     * that is the start of a header phrase is continued onto the next line
+     */
+    private List<SectionHeader> findSectionHeaders(ResumeText lines, PhraseTrie<String> headerTrie) {
+        List<SectionHeader> headers = new ArrayList<>();
         
-        // Skills variants
-        if (normalizedText.equals("skills") || normalizedText.equals("technical skills") || 
-            normalizedText.equals("competencies") || normalizedText.equals("core competencies") ||
-            normalizedText.equals("competences") || normalizedText.equals("competences techniques") ||
-            normalizedText.equals("savoir-faire")) {
-            return "skills";
+        for (int i = 0; i < lines.lineCount(); i++) {
+            int start = lines.trimmedStart(i);
+            int end = lines.trimmedEnd(i);
+            if (start == end) continue;
+
+            boolean hasNext = i + 1 < lines.lineCount();
+            HeaderMatch match = matchHeader(headerTrie, lines.text(), start, end,
+                    lines.text(), hasNext ? lines.trimmedStart(i + 1) : 0, hasNext ? lines.trimmedEnd(i + 1) : 0);
+            if (match == null) continue;
+
+            headers.add(new SectionHeader(match.key(), i, match.twoLines() ? i + 1 : i));
+            if (match.twoLines()) {
+                i++; // Skip the next line as it's part of this header
+            }
         }
         
-        return null;
+        return headers;
     }
-    
-    private boolean containsAny(String text, List<String> keywords) {
-        return keywords.stream().anyMatch(text::contains);
+
+    /**
+     * A recognized header line; twoLines when the header is split over this line and the next one
+     */
+    public record HeaderMatch(String key, boolean twoLines) {
     }
-    
-    private String normalizeText(String text) {
-        // Remove accents and normalize Unicode
-        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
-        return normalized.replaceAll("\\p{M}", ""); // Remove diacritical marks
+
+    /**
+     * Match a trimmed line as a section header the way the splitter does, for callers reading lines
+     * one at a time: nextLine is the following trimmed line, empty when blank or at the end
+     * @return the header, or null for a content line
+     */
+    public HeaderMatch matchHeader(CharSequence line, CharSequence nextLine) {
+        if (line.length() == 0) {
+            return null;
+        }
+        return matchHeader(headerTrie(), line, 0, line.length(), nextLine, 0, nextLine.length());
     }
-    
+
+    private PhraseTrie<String> headerTrie() {
+        return dictionaryService.current().lexicon().sectionHeaders();
+    }
+
+    private static HeaderMatch matchHeader(PhraseTrie<String> headerTrie, CharSequence text, int start, int end,
+                                           CharSequence nextText, int nextStart, int nextEnd) {
+        int state = headerTrie.walk(PhraseTrie.ROOT, text, start, end);
+        if (state == PhraseTrie.NO_MATCH) {
+            return null;
+        }
+
+        // Check for multi-line headers first (look ahead)
+        if (nextStart < nextEnd) {
+            int combined = headerTrie.walk(headerTrie.walk(state, ' '), nextText, nextStart, nextEnd);
+            String standardKey = headerTrie.valueAt(combined);
+            if (standardKey != null) {
+                return new HeaderMatch(standardKey, true);
+            }
+        }
+
+        String standardKey = headerTrie.valueAt(state);
+        return standardKey != null ? new HeaderMatch(standardKey, false) : null;
+    }
+
     private static class SectionHeader {
         String standardKey;
         int startLine;
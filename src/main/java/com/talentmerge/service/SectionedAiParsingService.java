@@ -0,0 +1,210 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import com.talentmerge.model.Education;
+import com.talentmerge.model.WorkExperience;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * AI parsing mode that splits the resume into sections and sends one narrow prompt per section
+ * (experience, education, profile) concurrently, then merges the partial results into one candidate.
+ * Wall-clock latency follows the slowest section instead of the whole document, and empty sections
+ * never reach the model.
+ */
+@Service
+@Qualifier("ai-sections")
+public class SectionedAiParsingService implements IParsingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SectionedAiParsingService.class);
+
+    private final ChatModel chatModel;
+    private final PromptService promptService;
+    private final SectionSplittingService sectionSplittingService;
+    private final AiParsingService aiParsingService;
+    private final ModelRoutingService modelRoutingService;
+    private final LlmUsageService llmUsageService;
+    private final ExecutorService executor;
+    private final long sectionTimeoutSeconds;
+
+    public SectionedAiParsingService(ChatModel chatModel,
+                                     PromptService promptService,
+                                     SectionSplittingService sectionSplittingService,
+                                     AiParsingService aiParsingService,
+                                     ModelRoutingService modelRoutingService,
+                                     LlmUsageService llmUsageService,
+                                     @Value("${app.ai.section-parallel.threads:4}") int threads,
+                                     @Value("${app.ai.section-parallel.timeout-seconds:120}") long sectionTimeoutSeconds) {
+        this.chatModel = chatModel;
+        this.promptService = promptService;
+        this.sectionSplittingService = sectionSplittingService;
+        this.aiParsingService = aiParsingService;
+        this.modelRoutingService = modelRoutingService;
+        this.llmUsageService = llmUsageService;
+        this.sectionTimeoutSeconds = sectionTimeoutSeconds;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "ai-section-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Candidate parseCandidateFromText(String text) {
+        Map<String, String> sections = sectionSplittingService.splitTextIntoSections(text);
+        String experienceText = sections.getOrDefault("experience", "");
+        String educationText = sections.getOrDefault("education", "");
+
+        // Without recognizable sections there is nothing to split on
+        if (experienceText.isEmpty() && educationText.isEmpty()) {
+            logger.info("No experience or education section detected, falling back to full-document AI parsing");
+            return aiParsingService.parseCandidateFromText(text);
+        }
+
+        String profileText = buildProfileText(sectionSplittingService.extractHeaderBlock(text),
+                sections.getOrDefault("skills", ""));
+
+        long start = System.currentTimeMillis();
+        // One deadline for the whole document: the sections run side by side, so waiting on each
+        // with its own timeout would allow several timeouts in a row
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sectionTimeoutSeconds);
+        Future<List<WorkExperience>> experience = submit("experience", experienceText, this::parseExperienceSection);
+        Future<List<Education>> education = submit("education", educationText, this::parseEducationSection);
+        Future<Candidate> profile = submit("profile", profileText, this::parseProfileSection);
+        try {
+            Candidate candidate = new Candidate();
+            Candidate profileResult = await(profile, deadline);
+            if (profileResult != null) {
+                candidate.setName(profileResult.getName());
+                candidate.setEmail(profileResult.getEmail());
+                candidate.setPhone(profileResult.getPhone());
+                candidate.setSkills(profileResult.getSkills());
+            }
+            List<WorkExperience> experienceResult = await(experience, deadline);
+            if (experienceResult != null) {
+                experienceResult.forEach(candidate::addWorkExperience);
+            }
+            List<Education> educationResult = await(education, deadline);
+            if (educationResult != null) {
+                educationResult.forEach(candidate::addEducation);
+            }
+
+            logger.info("Section-parallel AI parsing finished in {} ms: {} work experiences, {} educations",
+                    System.currentTimeMillis() - start,
+                    candidate.getWorkExperiences().size(), candidate.getEducations().size());
+            return candidate;
+
+        } catch (Exception e) {
+            // The result is lost anyway, so stop the sections still waiting on the model
+            List.of(experience, education, profile).forEach(future -> future.cancel(true));
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.error("Error during section-parallel AI parsing: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to parse resume with AI: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parse only the work experience section
+     */
+    public List<WorkExperience> parseExperienceSection(String experienceText) {
+        String response = call(promptService.createExperienceParsingMessages(experienceText), experienceText);
+        return new ArrayList<>(aiParsingService.parseAiResponseToCandidate(response).getWorkExperiences());
+    }
+
+    /**
+     * Parse only the education section
+     */
+    public List<Education> parseEducationSection(String educationText) {
+        String response = call(promptService.createEducationParsingMessages(educationText), educationText);
+        return new ArrayList<>(aiParsingService.parseAiResponseToCandidate(response).getEducations());
+    }
+
+    /**
+     * Parse name, contact details and skills from the header block and skills section
+     */
+    public Candidate parseProfileSection(String headerBlock, String skillsText) {
+        return parseProfileSection(buildProfileText(headerBlock, skillsText));
+    }
+
+    private Candidate parseProfileSection(String profileText) {
+        String response = call(promptService.createProfileParsingMessages(profileText), profileText);
+        return aiParsingService.parseAiResponseToCandidate(response);
+    }
+
+    private String call(List<Message> messages, String sectionText) {
+        long callStart = System.currentTimeMillis();
+        ChatResponse chatResponse = chatModel.call(modelRoutingService.routedPrompt(messages, sectionText));
+        llmUsageService.record(chatResponse, System.currentTimeMillis() - callStart);
+        return chatResponse.getResult().getOutput().getText();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Submit one section to the model, or complete immediately when the section is empty
+     */
+    private <T> Future<T> submit(String sectionName, String sectionText, Function<String, T> sectionParser) {
+        if (sectionText == null || sectionText.isBlank()) {
+            logger.debug("Skipping empty {} section", sectionName);
+            return CompletableFuture.completedFuture(null);
+        }
+        return executor.submit(() -> {
+            long sectionStart = System.currentTimeMillis();
+            T result = sectionParser.apply(sectionText);
+            logger.debug("{} section answered in {} ms", sectionName, System.currentTimeMillis() - sectionStart);
+            return result;
+        });
+    }
+
+    /**
+     * Wait for a section until the shared deadline
+     */
+    private <T> T await(Future<T> future, long deadlineNanos)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private String buildProfileText(String headerBlock, String skillsText) {
+        StringBuilder profile = new StringBuilder(headerBlock);
+        if (!skillsText.isEmpty()) {
+            if (profile.length() > 0) {
+                profile.append("\n\n");
+            }
+            profile.append("SKILLS\n").append(skillsText);
+        }
+        return profile.toString();
+    }
+}
@@ -0,0 +1,364 @@
+package com.talentmerge.service;
+
+import com.talentmerge.service.HybridAnonymizationService.AnonymizationConfig;
+import com.talentmerge.service.HybridAnonymizationService.AnonymizationStats;
+import com.talentmerge.text.BoundedLineReader;
+import com.talentmerge.text.PiiScanner;
+import com.talentmerge.text.ResumeText;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One run of the hybrid anonymization over a stream of lines. Each section is spooled as its lines
+ * are read, already cleaned of leaked personal info when the section is kept, in memory while small
+ * and in a temporary file beyond that; only the summary is also spooled as read, for the fallback
+ * detection and the professional summary. The sections are then written out in the order of the
+ * in-memory path, which gives the same text.
+ */
+final class StreamingAnonymizer implements Closeable {
+
+    // Spooled section content held in memory before moving to a temporary file
+    static final int SPOOL_MEMORY_CHARS = 64 * 1024;
+
+    private static final String NO_PROFESSIONAL_CONTENT = "No professional content found after anonymization.";
+
+    private final HybridAnonymizationService service;
+    private final SectionSplittingService sectionSplittingService;
+    private final AnonymizationConfig config;
+    private final Set<PiiScanner.Type> leakTypes;
+    private final AnonymizationStats stats = new AnonymizationStats();
+    private final List<Spool> spools = new ArrayList<>();
+
+    StreamingAnonymizer(HybridAnonymizationService service, SectionSplittingService sectionSplittingService,
+                        AnonymizationConfig config) {
+        this.service = service;
+        this.sectionSplittingService = sectionSplittingService;
+        this.config = config;
+        this.leakTypes = HybridAnonymizationService.leakTypes(config);
+    }
+
+    AnonymizationStats anonymize(BoundedLineReader lines, Writer out) throws IOException {
+        Map<String, Section> sections = splitSections(lines);
+        stats.originalSections = sections.keySet();
+
+        Section summary = sections.get("summary");
+        if (sections.size() == 1 && summary != null
+                && summary.length > HybridAnonymizationService.FALLBACK_MIN_SUMMARY_LENGTH) {
+            sections = fallbackSections(summary);
+            stats.originalSections = sections.keySet();
+        }
+
+        Map<String, Section> kept = new HashMap<>();
+        for (Map.Entry<String, Section> entry : sections.entrySet()) {
+            if (entry.getValue().cleaned != null) {
+                kept.put(entry.getKey(), entry.getValue());
+                stats.keptSections.add(entry.getKey());
+            } else {
+                stats.removedSections.add(entry.getKey());
+                stats.removedCharacterCount += (int) entry.getValue().length;
+            }
+        }
+
+        Map<String, Spool> cleaned = new HashMap<>();
+        for (Map.Entry<String, Section> entry : kept.entrySet()) {
+            stats.anonymizedItems.addAll(entry.getValue().removedItems);
+            cleaned.put(entry.getKey(), entry.getValue().cleaned);
+        }
+
+        if (config.includeCleanedSummary && sections.containsKey("summary")) {
+            Spool professionalSummary = professionalSummary(sections.get("summary").raw);
+            if (professionalSummary.length > 0) {
+                cleaned.put("professional_summary", professionalSummary);
+            }
+        }
+
+        write(cleaned, out);
+        return stats;
+    }
+
+    /**
+     * Delete the temporary files of every spool
+     */
+    @Override
+    public void close() {
+        for (Spool spool : spools) {
+            spool.delete();
+        }
+    }
+
+    /**
+     * Sections as the splitter finds them: each header line, or pair of lines, starts a section; a
+     * section that appears twice keeps its last non-blank occurrence
+     */
+    private Map<String, Section> splitSections(BoundedLineReader lines) throws IOException {
+        Map<String, Section> sections = new HashMap<>();
+        Section current = null;
+        String line = trimmed(lines.readLine());
+        while (line != null) {
+            String next = trimmed(lines.readLine());
+            SectionSplittingService.HeaderMatch header =
+                    sectionSplittingService.matchHeader(line, next != null ? next : "");
+            if (header != null) {
+                end(current, sections);
+                current = new Section(header.key());
+                if (header.twoLines()) {
+                    next = trimmed(lines.readLine());
+                }
+            } else if (current != null && !line.isEmpty()) {
+                current.append(line);
+            }
+            line = next;
+        }
+        end(current, sections);
+        return sections;
+    }
+
+    /**
+     * Keyword-based detection over the summary, then professional lines only when it finds no more
+     * than one section
+     */
+    private Map<String, Section> fallbackSections(Section summary) throws IOException {
+        Map<String, Section> sections = new HashMap<>();
+        Section current = new Section("summary");
+        try (BoundedLineReader lines = summary.raw.lines()) {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                String headerName = HybridAnonymizationService.fallbackSectionName(ResumeText.fold(line));
+                if (headerName != null) {
+                    end(current, sections);
+                    current = new Section(headerName);
+                } else {
+                    current.append(line);
+                }
+            }
+        }
+        end(current, sections);
+
+        if (sections.size() <= 1) {
+            sections.values().forEach(Section::discard);
+            sections = professionalContent(summary);
+        }
+        stats.anonymizedItems.add("FALLBACK: Used simple section detection");
+        return sections;
+    }
+
+    private Map<String, Section> professionalContent(Section summary) throws IOException {
+        Section experience = new Section("experience");
+        try (BoundedLineReader lines = summary.raw.lines()) {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                // Literal \n sequences are line breaks too
+                for (String piece : line.replace("\\n", "\n").split("\n")) {
+                    ResumeText pieceLines = ResumeText.of(piece.trim());
+                    if (service.isProfessionalLine(pieceLines, 0)) {
+                        experience.append(pieceLines.text());
+                    }
+                }
+            }
+        }
+        if (experience.length == 0) {
+            experience.append(NO_PROFESSIONAL_CONTENT);
+            stats.anonymizedItems.add("FALLBACK: No professional content detected");
+        }
+        stats.anonymizedItems.add("FALLBACK: Extracted professional content only");
+        Map<String, Section> sections = new HashMap<>();
+        sections.put("experience", experience);
+        return sections;
+    }
+
+    /**
+     * Professional sentences of the summary, read one chunk at a time; sentences end at runs of
+     * '.', '!' or '?' as with {@code split("[.!?]+")}
+     */
+    private Spool professionalSummary(Spool summary) throws IOException {
+        Spool professional = newSpool();
+        ContentClassifier.SentenceSplitter splitter = service.sentenceSplitter();
+        char[] chunk = new char[BoundedLineReader.DEFAULT_CHUNK_SIZE];
+        try (Reader in = summary.reader()) {
+            for (int read = in.read(chunk); read >= 0; read = in.read(chunk)) {
+                addSentences(professional, splitter.append(CharBuffer.wrap(chunk, 0, read)));
+            }
+        }
+        addSentences(professional, splitter.finish());
+        return professional;
+    }
+
+    private void addSentences(Spool professional, List<ContentClassifier.Sentence> sentences) throws IOException {
+        for (ContentClassifier.Sentence sentence : sentences) {
+            if (sentence.professional()) {
+                if (professional.length > 0) {
+                    professional.append(". ");
+                }
+                professional.append(sentence.text());
+            } else {
+                stats.removedSummaryElements.add(sentence.text());
+            }
+        }
+    }
+
+    private void write(Map<String, Spool> cleaned, Writer out) throws IOException {
+        boolean first = true;
+        for (String name : HybridAnonymizationService.PREFERRED_ORDER) {
+            if (cleaned.containsKey(name)) {
+                first = writeSection(name, cleaned.get(name), out, first);
+            }
+        }
+        for (Map.Entry<String, Spool> entry : cleaned.entrySet()) {
+            if (!HybridAnonymizationService.PREFERRED_ORDER.contains(entry.getKey())) {
+                first = writeSection(entry.getKey(), entry.getValue(), out, first);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * @return whether nothing has been written yet
+     */
+    private boolean writeSection(String name, Spool content, Writer out, boolean first) throws IOException {
+        if (content.length == 0) {
+            return first;
+        }
+        if (!first) {
+            out.write("\n\n");
+        }
+        out.write(HybridAnonymizationService.formatSectionHeader(name));
+        out.write('\n');
+        try (Reader in = content.reader()) {
+            in.transferTo(out);
+        }
+        return false;
+    }
+
+    /**
+     * Store a finished section if it has content, replacing an earlier occurrence
+     */
+    private static void end(Section section, Map<String, Section> sections) {
+        if (section == null) {
+            return;
+        }
+        if (section.length == 0) {
+            section.discard();
+            return;
+        }
+        Section previous = sections.put(section.key, section);
+        if (previous != null) {
+            previous.discard();
+        }
+    }
+
+    private static String trimmed(String line) {
+        return line != null ? line.trim() : null;
+    }
+
+    private Spool newSpool() {
+        Spool spool = new Spool();
+        spools.add(spool);
+        return spool;
+    }
+
+    /**
+     * A section being read: its length as joined trimmed lines, its cleaned content when it is kept,
+     * and its raw content when it is the summary
+     */
+    private final class Section {
+        final String key;
+        final Spool cleaned;
+        final Spool raw;
+        final List<String> removedItems = new ArrayList<>();
+        long length;
+
+        Section(String key) {
+            this.key = key;
+            this.cleaned = service.shouldKeepSection(key, config) ? newSpool() : null;
+            this.raw = key.equals("summary") ? newSpool() : null;
+        }
+
+        void append(String line) throws IOException {
+            length += (length > 0 ? 1 : 0) + line.length();
+            if (raw != null) {
+                raw.appendLine(line);
+            }
+            if (cleaned != null) {
+                cleaned.appendLine(HybridAnonymizationService.removeLeaks(line, leakTypes, removedItems));
+            }
+        }
+
+        void discard() {
+            if (cleaned != null) {
+                cleaned.delete();
+            }
+            if (raw != null) {
+                raw.delete();
+            }
+        }
+    }
+
+    /**
+     * Text written once and read back, in memory up to SPOOL_MEMORY_CHARS and in a temporary file beyond
+     */
+    private static final class Spool {
+        private StringBuilder memory = new StringBuilder();
+        private Path file;
+        private Writer fileWriter;
+        long length;
+
+        void appendLine(String line) throws IOException {
+            if (length > 0) {
+                append("\n");
+            }
+            append(line);
+        }
+
+        void append(String text) throws IOException {
+            length += text.length();
+            if (fileWriter != null) {
+                fileWriter.write(text);
+                return;
+            }
+            memory.append(text);
+            if (memory.length() > SPOOL_MEMORY_CHARS) {
+                file = Files.createTempFile("anonymize-", ".spool");
+                fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                fileWriter.append(memory);
+                memory = null;
+            }
+        }
+
+        Reader reader() throws IOException {
+            if (fileWriter == null) {
+                return new StringReader(memory.toString());
+            }
+            fileWriter.flush();
+            return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        }
+
+        BoundedLineReader lines() throws IOException {
+            return new BoundedLineReader(reader());
+        }
+
+        void delete() {
+            memory = null;
+            if (file == null) {
+                return;
+            }
+            try {
+                fileWriter.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                file.toFile().deleteOnExit();
+            }
+            file = null;
+        }
+    }
+}
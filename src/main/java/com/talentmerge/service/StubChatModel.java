@@ -0,0 +1,239 @@
+package com.talentmerge.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline stand-in for the OpenRouter chat model, active with the "loadtest" profile.
+ * Answers every prompt with canned JSON from {@code classpath:loadtest/} after a simulated latency,
+ * and injects provider errors and truncated answers at configurable rates. All random choices are
+ * seeded from the configured seed and the prompt text, so the same corpus replays identically.
+ */
+@Service
+@Primary
+@Profile("loadtest")
+public class StubChatModel implements ChatModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubChatModel.class);
+
+    // z-score of the 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.326;
+
+    private static final List<String> FULL_RESPONSES = List.of(
+            "loadtest/full-junior.json", "loadtest/full-senior.json", "loadtest/full-anonymized.json");
+
+    private final long seed;
+    private final String latencyDistribution;
+    private final long minLatencyMs;
+    private final long medianLatencyMs;
+    private final long p99LatencyMs;
+    private final double errorRate;
+    private final double truncateRate;
+    private final int streamChunkChars;
+
+    private final List<String> fullResponses = new ArrayList<>();
+    private final String experienceResponse;
+    private final String educationResponse;
+    private final String profileResponse;
+
+    private final Set<String> seenPrefixes = ConcurrentHashMap.newKeySet();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public StubChatModel(@Value("${app.ai.stub.seed:42}") long seed,
+                         @Value("${app.ai.stub.latency.distribution:lognormal}") String latencyDistribution,
+                         @Value("${app.ai.stub.latency.min-ms:200}") long minLatencyMs,
+                         @Value("${app.ai.stub.latency.median-ms:2500}") long medianLatencyMs,
+                         @Value("${app.ai.stub.latency.p99-ms:12000}") long p99LatencyMs,
+                         @Value("${app.ai.stub.error-rate:0.02}") double errorRate,
+                         @Value("${app.ai.stub.truncate-rate:0.01}") double truncateRate,
+                         @Value("${app.ai.stub.stream-chunk-chars:40}") int streamChunkChars) {
+        this.seed = seed;
+        this.latencyDistribution = latencyDistribution.toLowerCase(Locale.ROOT);
+        this.minLatencyMs = minLatencyMs;
+        this.medianLatencyMs = medianLatencyMs;
+        this.p99LatencyMs = p99LatencyMs;
+        this.errorRate = errorRate;
+        this.truncateRate = truncateRate;
+        this.streamChunkChars = Math.max(1, streamChunkChars);
+
+        FULL_RESPONSES.forEach(path -> fullResponses.add(loadResource(path)));
+        this.experienceResponse = loadResource("loadtest/experience.json");
+        this.educationResponse = loadResource("loadtest/education.json");
+        this.profileResponse = loadResource("loadtest/profile.json");
+        logger.warn("Using the offline stub chat model: {} latency (median {} ms, p99 {} ms), error rate {}",
+                this.latencyDistribution, medianLatencyMs, p99LatencyMs, errorRate);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        String promptText = prompt.getContents();
+        SplittableRandom random = randomFor(promptText);
+        calls.incrementAndGet();
+
+        sleep(sampleLatencyMs(random));
+        maybeFail(random);
+        return toChatResponse(promptText, cachedPrefixTokens(prompt), answer(prompt, random));
+    }
+
+    /**
+     * Stream the same canned answer in fixed-size chunks, spreading the sampled latency across them
+     */
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        String promptText = prompt.getContents();
+        SplittableRandom random = randomFor(promptText);
+        calls.incrementAndGet();
+
+        long latencyMs = sampleLatencyMs(random);
+        boolean fail = random.nextDouble() < errorRate;
+        String text = answer(prompt, random);
+        int cachedTokens = cachedPrefixTokens(prompt);
+
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += streamChunkChars) {
+            chunks.add(text.substring(i, Math.min(text.length(), i + streamChunkChars)));
+        }
+        Duration interval = Duration.ofMillis(Math.max(1, latencyMs / Math.max(1, chunks.size())));
+        Flux<ChatResponse> stream = Flux.fromIterable(chunks)
+                .delayElements(interval)
+                .map(chunk -> toChatResponse(promptText, cachedTokens, chunk));
+        if (fail) {
+            injectedErrors.incrementAndGet();
+            // Fail midway, like a dropped provider connection
+            return stream.take(chunks.size() / 2)
+                    .concatWith(Flux.error(new TransientAiException("Stub provider stream interrupted")));
+        }
+        return stream;
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    /**
+     * Sample one call latency from the configured distribution
+     */
+    long sampleLatencyMs(SplittableRandom random) {
+        return switch (latencyDistribution) {
+            case "fixed" -> medianLatencyMs;
+            case "uniform" -> minLatencyMs + (long) (random.nextDouble() * Math.max(0, p99LatencyMs - minLatencyMs));
+            default -> {
+                // Log-normal: long right tail like real LLM endpoints, fitted to the median and p99
+                double sigma = Math.log((double) Math.max(p99LatencyMs, medianLatencyMs + 1) / Math.max(1, medianLatencyMs)) / Z_99;
+                double sample = medianLatencyMs * Math.exp(sigma * nextGaussian(random));
+                yield Math.max(minLatencyMs, Math.round(sample));
+            }
+        };
+    }
+
+    SplittableRandom randomFor(String promptText) {
+        return new SplittableRandom(seed * 31 + promptText.hashCode());
+    }
+
+    private void maybeFail(SplittableRandom random) {
+        if (random.nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            throw new TransientAiException("429 - Stub provider rate limit exceeded");
+        }
+    }
+
+    /**
+     * Pick the canned answer matching the system prompt PromptService sent, occasionally cut off like a
+     * max-tokens stop
+     */
+    private String answer(Prompt prompt, SplittableRandom random) {
+        String instructions = Objects.requireNonNullElse(prompt.getSystemMessage().getText(), "");
+        String text = switch (instructions) {
+            case PromptService.EXPERIENCE_PARSING_INSTRUCTIONS -> experienceResponse;
+            case PromptService.EDUCATION_PARSING_INSTRUCTIONS -> educationResponse;
+            case PromptService.PROFILE_PARSING_INSTRUCTIONS -> profileResponse;
+            case PromptService.FOLLOW_UP_INSTRUCTIONS -> "{}";
+            default -> fullResponses.get(random.nextInt(fullResponses.size()));
+        };
+        if (random.nextDouble() < truncateRate) {
+            text = text.substring(0, text.length() / 2 + random.nextInt(Math.max(1, text.length() / 2)));
+        }
+        return text;
+    }
+
+    /**
+     * Report the system message as cached once it has been seen, like provider-side prompt caching
+     */
+    private int cachedPrefixTokens(Prompt prompt) {
+        String prefix = prompt.getSystemMessage().getText();
+        if (prefix == null || prefix.isEmpty() || seenPrefixes.add(prefix)) {
+            return 0;
+        }
+        return PromptCompactionService.estimateTokens(prefix);
+    }
+
+    private ChatResponse toChatResponse(String promptText, int cachedTokens, String text) {
+        int promptTokens = PromptCompactionService.estimateTokens(promptText);
+        int completionTokens = PromptCompactionService.estimateTokens(text);
+        OpenAiApi.Usage nativeUsage = new OpenAiApi.Usage(completionTokens, promptTokens, promptTokens + completionTokens,
+                new OpenAiApi.Usage.PromptTokensDetails(null, cachedTokens), null);
+        DefaultUsage usage = new DefaultUsage(promptTokens, completionTokens, promptTokens + completionTokens, nativeUsage);
+        return ChatResponse.builder()
+                .generations(List.of(new Generation(new AssistantMessage(text))))
+                .metadata(ChatResponseMetadata.builder().model("stub").usage(usage).build())
+                .build();
+    }
+
+    private double nextGaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian on Java 17
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransientAiException("Stub call interrupted", e);
+        }
+    }
+
+    private static String loadResource(String path) {
+        try (InputStream input = new ClassPathResource(path).getInputStream()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing load test response " + path, e);
+        }
+    }
+}
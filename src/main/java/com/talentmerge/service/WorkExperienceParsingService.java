@@ -1,14 +1,17 @@
 package com.talentmerge.service;
 
 import com.talentmerge.model.WorkExperience;
+import com.talentmerge.text.DateLexicon;
+import com.talentmerge.text.DateScanner;
+import com.talentmerge.text.Lexicon;
+import com.talentmerge.text.RegexGuard;
+import com.talentmerge.text.ResumeText;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -18,39 +21,23 @@ import java.util.regex.Pattern;
 @Service
 public class WorkExperienceParsingService {
 
-    // Date patterns for various formats
-    private static final List<Pattern> DATE_PATTERNS = Arrays.asList(
-        // English patterns
-        Pattern.compile("(\\w{3,})\\s+(\\d{4})\\s*[-–]\\s*(\\w{3,})\\s+(\\d{4})", Pattern.CASE_INSENSITIVE), // "Jan 2020 - Dec 2022"
-        Pattern.compile("(\\d{1,2})/(\\d{4})\\s*[-–]\\s*(\\d{1,2})/(\\d{4})"), // "01/2020 - 12/2022"
-        Pattern.compile("(\\d{4})[-.]?(\\d{2})\\s*[-–]\\s*(\\d{4})[-.]?(\\d{2})"), // "2020-01 - 2022-12"
-        Pattern.compile("(\\w{3,})\\s+(\\d{4})\\s*[-–]\\s*(present|current)", Pattern.CASE_INSENSITIVE), // "Jan 2020 - Present"
-        
-        // French patterns  
-        Pattern.compile("(\\w{3,})\\s+(\\d{4})\\s*[-–]\\s*(aujourd'hui|actuel)", Pattern.CASE_INSENSITIVE), // "janv 2020 - Aujourd'hui"
-        Pattern.compile("(\\d{1,2})/(\\d{4})\\s*[-–]\\s*(aujourd'hui|actuel)", Pattern.CASE_INSENSITIVE), // "01/2020 - Aujourd'hui"
-        Pattern.compile("du\\s+(\\w{3,})\\s+(\\d{4})\\s+au\\s+(\\w{3,})\\s+(\\d{4})", Pattern.CASE_INSENSITIVE), // "du janv 2020 au déc 2022"
-        Pattern.compile("de\\s+(\\d{1,2})/(\\d{4})\\s+à\\s+(\\d{1,2})/(\\d{4})") // "de 01/2020 à 12/2022"
-    );
-
-    // Job title indicators
-    private static final List<String> JOB_TITLE_KEYWORDS = Arrays.asList(
-        // English
-        "engineer", "developer", "manager", "director", "analyst", "consultant", 
-        "lead", "senior", "junior", "principal", "staff", "architect", "specialist",
-        "coordinator", "supervisor", "executive", "officer", "administrator",
-        
-        // French
-        "ingénieur", "développeur", "responsable", "directeur", "analyste", "consultant",
-        "chef", "senior", "junior", "principal", "architecte", "spécialiste",
-        "coordinateur", "superviseur", "chargé", "attaché", "gérant"
-    );
-
-    // Company indicators
-    private static final List<String> COMPANY_INDICATORS = Arrays.asList(
-        "inc", "corp", "corporation", "company", "ltd", "limited", "llc", "group",
-        "sarl", "sas", "sa", "eurl", "société", "entreprise", "groupe", "gmbh", "ag"
-    );
+    // Date range forms that start a work experience entry ("Jan 2020 - Dec 2022", "01/2020 - 12/2022",
+    // "2020-01 - 2022-12", "du janv 2020 au déc 2022", "janv 2020 - Aujourd'hui")
+    private static final Set<DateScanner.Form> RANGE_FORMS = EnumSet.of(
+            DateScanner.Form.MONTH_YEAR, DateScanner.Form.MONTH_SLASH_YEAR, DateScanner.Form.YEAR_MONTH);
+
+    // A short line of capitalized words, such as "Software Engineer"
+    private static final Pattern TITLE_CASE_PATTERN = Pattern.compile("^[A-Z][a-z]+(?:\\s+[A-Z][a-z]*)*$");
+    private static final Pattern LEADING_BULLET_PATTERN = Pattern.compile("^[•\\-\\*\\+]\\s+");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    // Job title keywords and company indicators of every language, matched in one pass per line;
+    // only the base languages and the language detected in the section are active
+    private final DictionaryService dictionaryService;
+
+    public WorkExperienceParsingService(DictionaryService dictionaryService) {
+        this.dictionaryService = dictionaryService;
+    }
 
     /**
      * Main method to parse work experience from section text
@@ -59,15 +46,34 @@ public class WorkExperienceParsingService {
         if (experienceText == null || experienceText.trim().isEmpty()) {
             return new ArrayList<>();
         }
+        return parseWorkExperience(ResumeText.of(experienceText));
+    }
+
+    /**
+     * Parse work experience from the lines of the experience section, without splitting them again
+     */
+    public List<WorkExperience> parseWorkExperience(ResumeText experienceLines) {
+        return parseWorkExperience(experienceLines, dictionaryService.current().lexicon());
+    }
+
+    /**
+     * Parse work experience with the keywords of a given lexicon, so a whole document is parsed
+     * with one dictionary version
+     */
+    public List<WorkExperience> parseWorkExperience(ResumeText experienceLines, Lexicon lexicon) {
+        if (experienceLines.isBlank()) {
+            return new ArrayList<>();
+        }
 
         List<WorkExperience> experiences = new ArrayList<>();
+        Keywords keywords = new Keywords(lexicon, lexicon.activeLanguages(experienceLines.content()));
         
         // Step 1: Split text into individual work experience entries
-        List<WorkExperienceEntry> entries = extractWorkExperienceEntries(experienceText);
+        List<WorkExperienceEntry> entries = extractWorkExperienceEntries(experienceLines, keywords);
         
         // Step 2: Parse each entry to extract structured data
         for (WorkExperienceEntry entry : entries) {
-            WorkExperience experience = parseWorkExperienceEntry(entry);
+            WorkExperience experience = parseWorkExperienceEntry(entry, keywords);
             if (experience != null) {
                 experiences.add(experience);
             }
@@ -86,18 +92,17 @@ public class WorkExperienceParsingService {
     /**
      * Step 1: Extract individual work experience entries from text
      */
-    private List<WorkExperienceEntry> extractWorkExperienceEntries(String text) {
-        String[] lines = text.split("\\r?\\n");
+    private List<WorkExperienceEntry> extractWorkExperienceEntries(ResumeText lines, Keywords keywords) {
         List<WorkExperienceEntry> entries = new ArrayList<>();
         
         // Strategy 1: Split by date patterns
-        List<Integer> dateLines = findDateLines(lines);
+        List<Integer> dateLines = findDateLines(lines, keywords.dates());
         
         if (dateLines.size() > 0) {
             entries = splitByDateLines(lines, dateLines);
         } else {
             // Strategy 2: Split by job title patterns
-            entries = splitByJobTitlePatterns(lines);
+            entries = splitByJobTitlePatterns(lines, keywords);
         }
         
         return entries;
@@ -106,12 +111,11 @@ public class WorkExperienceParsingService {
     /**
      * Find lines that contain date patterns
      */
-    private List<Integer> findDateLines(String[] lines) {
+    private List<Integer> findDateLines(ResumeText lines, DateLexicon dates) {
         List<Integer> dateLines = new ArrayList<>();
         
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].trim();
-            if (containsDatePattern(line)) {
+        for (int i = 0; i < lines.lineCount(); i++) {
+            if (containsDatePattern(lines.trimmedLine(i), dates)) {
                 dateLines.add(i);
             }
         }
@@ -120,31 +124,27 @@ public class WorkExperienceParsingService {
     }
 
     /**
-     * Check if line contains a date pattern
+     * Check if line contains a date range
      */
-    private boolean containsDatePattern(String line) {
-        for (Pattern pattern : DATE_PATTERNS) {
-            if (pattern.matcher(line).find()) {
-                return true;
-            }
-        }
-        return false;
+    private boolean containsDatePattern(CharSequence line, DateLexicon dates) {
+        // Lines without a four-digit run skip the date scanner
+        return DateScanner.mayContainDate(line) && DateScanner.findRange(dates, line, RANGE_FORMS) != null;
     }
 
     /**
      * Split text by date lines to create work experience entries
      */
-    private List<WorkExperienceEntry> splitByDateLines(String[] lines, List<Integer> dateLines) {
+    private List<WorkExperienceEntry> splitByDateLines(ResumeText lines, List<Integer> dateLines) {
         List<WorkExperienceEntry> entries = new ArrayList<>();
         
         for (int i = 0; i < dateLines.size(); i++) {
             int startLine = (i == 0) ? 0 : dateLines.get(i - 1) + 1;
             int endLine = dateLines.get(i);
-            int descriptionEnd = (i + 1 < dateLines.size()) ? dateLines.get(i + 1) - 1 : lines.length - 1;
+            int descriptionEnd = (i + 1 < dateLines.size()) ? dateLines.get(i + 1) - 1 : lines.lineCount() - 1;
             
             WorkExperienceEntry entry = new WorkExperienceEntry();
             entry.jobTitleLines = extractLines(lines, startLine, endLine);
-            entry.dateLines = Arrays.asList(lines[dateLines.get(i)]);
+            entry.dateLines = Arrays.asList(lines.trimmedLine(endLine).toString());
             entry.descriptionLines = extractLines(lines, endLine + 1, descriptionEnd + 1);
             
             entries.add(entry);
@@ -156,28 +156,28 @@ public class WorkExperienceParsingService {
     /**
      * Split text by job title patterns when dates are not clearly separated
      */
-    private List<WorkExperienceEntry> splitByJobTitlePatterns(String[] lines) {
+    private List<WorkExperienceEntry> splitByJobTitlePatterns(ResumeText lines, Keywords keywords) {
         List<WorkExperienceEntry> entries = new ArrayList<>();
         
         WorkExperienceEntry currentEntry = null;
         
-        for (String line : lines) {
-            String trimmedLine = line.trim();
-            if (trimmedLine.isEmpty()) continue;
+        for (int i = 0; i < lines.lineCount(); i++) {
+            if (lines.isBlank(i)) continue;
             
-            if (looksLikeJobTitle(trimmedLine)) {
+            if (looksLikeJobTitle(lines.trimmedLine(i), keywords)) {
                 if (currentEntry != null) {
                     entries.add(currentEntry);
                 }
                 currentEntry = new WorkExperienceEntry();
-                currentEntry.jobTitleLines = Arrays.asList(trimmedLine);
+                currentEntry.jobTitleLines = Arrays.asList(lines.trimmedLine(i).toString());
                 currentEntry.dateLines = new ArrayList<>();
                 currentEntry.descriptionLines = new ArrayList<>();
             } else if (currentEntry != null) {
-                if (containsDatePattern(trimmedLine)) {
-                    currentEntry.dateLines.add(trimmedLine);
+                CharSequence trimmedLine = lines.trimmedLine(i);
+                if (containsDatePattern(trimmedLine, keywords.dates())) {
+                    currentEntry.dateLines.add(trimmedLine.toString());
                 } else {
-                    currentEntry.descriptionLines.add(trimmedLine);
+                    currentEntry.descriptionLines.add(trimmedLine.toString());
                 }
             }
         }
@@ -192,33 +192,24 @@ public class WorkExperienceParsingService {
     /**
      * Check if line looks like a job title
      */
-    private boolean looksLikeJobTitle(String line) {
-        String lowerLine = line.toLowerCase();
-        
+    private boolean looksLikeJobTitle(CharSequence line, Keywords keywords) {
         // Check for job title keywords
-        for (String keyword : JOB_TITLE_KEYWORDS) {
-            if (lowerLine.contains(keyword)) {
-                return true;
-            }
-        }
-        
-        // Check formatting patterns (Title Case, etc.)
-        if (line.matches("^[A-Z][a-z]+(?:\\s+[A-Z][a-z]*)*$") && line.length() < 60) {
+        if (keywords.containsJobTitle(line)) {
             return true;
         }
         
-        return false;
+        // Check formatting patterns (Title Case, etc.)
+        return line.length() < 60 && RegexGuard.matches(TITLE_CASE_PATTERN, line);
     }
 
     /**
-     * Extract lines from array within range
+     * Trimmed non-blank lines within range
      */
-    private List<String> extractLines(String[] lines, int start, int end) {
+    private List<String> extractLines(ResumeText lines, int start, int end) {
         List<String> result = new ArrayList<>();
-        for (int i = start; i < Math.min(end, lines.length); i++) {
-            String trimmed = lines[i].trim();
-            if (!trimmed.isEmpty()) {
-                result.add(trimmed);
+        for (int i = start; i < Math.min(end, lines.lineCount()); i++) {
+            if (!lines.isBlank(i)) {
+                result.add(lines.trimmedLine(i).toString());
             }
         }
         return result;
@@ -227,22 +218,22 @@ public class WorkExperienceParsingService {
     /**
      * Step 2: Parse individual work experience entry to extract structured data
      */
-    private WorkExperience parseWorkExperienceEntry(WorkExperienceEntry entry) {
+    private WorkExperience parseWorkExperienceEntry(WorkExperienceEntry entry, Keywords keywords) {
         WorkExperience experience = new WorkExperience();
         
         // Extract job title
-        String jobTitle = extractJobTitle(entry.jobTitleLines);
+        String jobTitle = extractJobTitle(entry.jobTitleLines, keywords);
         if (jobTitle == null || jobTitle.trim().isEmpty()) {
             return null; // Skip entries without clear job titles
         }
         experience.setJobTitle(jobTitle);
         
         // Extract company
-        String company = extractCompany(entry);
+        String company = extractCompany(entry, keywords);
         experience.setCompany(company != null ? company : "Unknown");
         
         // Extract dates
-        DateRange dateRange = extractDateRange(entry.dateLines);
+        DateRange dateRange = extractDateRange(entry.dateLines, keywords.dates());
         if (dateRange != null) {
             experience.setStartDate(dateRange.startDate);
             experience.setEndDate(dateRange.endDate);
@@ -258,12 +249,12 @@ public class WorkExperienceParsingService {
     /**
      * Extract job title from job title lines
      */
-    private String extractJobTitle(List<String> jobTitleLines) {
+    private String extractJobTitle(List<String> jobTitleLines, Keywords keywords) {
         if (jobTitleLines.isEmpty()) return null;
         
         // Try to find the line with job title keywords
         for (String line : jobTitleLines) {
-            if (looksLikeJobTitle(line)) {
+            if (looksLikeJobTitle(line, keywords)) {
                 return cleanJobTitle(line);
             }
         }
@@ -282,24 +273,23 @@ public class WorkExperienceParsingService {
      * Clean and normalize job title
      */
     private String cleanJobTitle(String jobTitle) {
-        return jobTitle.trim()
-                      .replaceAll("^[•\\-\\*\\+]\\s+", "") // Remove bullet points
-                      .replaceAll("\\s+", " "); // Normalize whitespace
+        String withoutBullet = RegexGuard.replaceAll(LEADING_BULLET_PATTERN, jobTitle.trim(), ""); // Remove bullet points
+        return RegexGuard.replaceAll(WHITESPACE_PATTERN, withoutBullet, " "); // Normalize whitespace
     }
 
     /**
      * Extract company name from entry
      */
-    private String extractCompany(WorkExperienceEntry entry) {
+    private String extractCompany(WorkExperienceEntry entry, Keywords keywords) {
         // Look in job title lines first
         for (String line : entry.jobTitleLines) {
-            String company = extractCompanyFromLine(line);
+            String company = extractCompanyFromLine(line, keywords);
             if (company != null) return company;
         }
         
         // Look in description lines
         for (String line : entry.descriptionLines) {
-            String company = extractCompanyFromLine(line);
+            String company = extractCompanyFromLine(line, keywords);
             if (company != null) return company;
         }
         
@@ -309,34 +299,30 @@ public class WorkExperienceParsingService {
     /**
      * Extract company name from a single line
      */
-    private String extractCompanyFromLine(String line) {
-        String lowerLine = line.toLowerCase();
-        
+    private String extractCompanyFromLine(String line, Keywords keywords) {
         // Look for company indicators
-        for (String indicator : COMPANY_INDICATORS) {
-            if (lowerLine.contains(indicator)) {
-                // Extract potential company name around the indicator
-                String[] words = line.split("\\s+");
-                StringBuilder company = new StringBuilder();
-                
-                for (int i = 0; i < words.length; i++) {
-                    if (words[i].toLowerCase().contains(indicator)) {
-                        // Include words before and after the indicator
-                        int start = Math.max(0, i - 2);
-                        int end = Math.min(words.length, i + 2);
-                        
-                        for (int j = start; j < end; j++) {
-                            company.append(words[j]).append(" ");
-                        }
-                        break;
+        for (String indicator : keywords.companyIndicatorsIn(line)) {
+            // Extract potential company name around the indicator
+            String[] words = WHITESPACE_PATTERN.split(line);
+            StringBuilder company = new StringBuilder();
+            
+            for (int i = 0; i < words.length; i++) {
+                if (words[i].toLowerCase().contains(indicator)) {
+                    // Include words before and after the indicator
+                    int start = Math.max(0, i - 2);
+                    int end = Math.min(words.length, i + 2);
+                    
+                    for (int j = start; j < end; j++) {
+                        company.append(words[j]).append(" ");
                     }
-                }
-                
-                String result = company.toString().trim();
-                if (result.length() > 0 && result.length() < 100) {
-                    return result;
+                    break;
                 }
             }
+            
+            String result = company.toString().trim();
+            if (result.length() > 0 && result.length() < 100) {
+                return result;
+            }
         }
         
         return null;
@@ -345,9 +331,9 @@ public class WorkExperienceParsingService {
     /**
      * Extract date range from date lines
      */
-    private DateRange extractDateRange(List<String> dateLines) {
+    private DateRange extractDateRange(List<String> dateLines, DateLexicon dates) {
         for (String line : dateLines) {
-            DateRange range = parseDateLine(line);
+            DateRange range = parseDateLine(line, dates);
             if (range != null) return range;
         }
         return null;
@@ -356,127 +342,57 @@ public class WorkExperienceParsingService {
     /**
      * Parse a single date line to extract date range
      */
-    private DateRange parseDateLine(String dateLine) {
-        for (Pattern pattern : DATE_PATTERNS) {
-            Matcher matcher = pattern.matcher(dateLine);
-            if (matcher.find()) {
-                try {
-                    return parseDateMatch(matcher, dateLine);
-                } catch (Exception e) {
-                    // Continue to next pattern if parsing fails
-                    continue;
-                }
-            }
-        }
-        return null;
+    DateRange parseDateLine(String dateLine) {
+        return parseDateLine(dateLine, dictionaryService.current().lexicon().dates());
     }
 
-    /**
-     * Parse matched date groups to create DateRange
-     */
-    private DateRange parseDateMatch(Matcher matcher, String originalLine) {
-        DateRange range = new DateRange();
-        String lowerLine = originalLine.toLowerCase();
-        
-        // Check if this is an ongoing position
-        boolean isOngoing = lowerLine.contains("present") || lowerLine.contains("current") ||
-                           lowerLine.contains("aujourd'hui") || lowerLine.contains("actuel");
-        
-        try {
-            // Parse start date (first two groups typically)
-            String startMonth = matcher.group(1);
-            String startYear = matcher.group(2);
-            range.startDate = parseDate(startMonth, startYear);
-            
-            if (!isOngoing) {
-                // Parse end date (groups 3 and 4 typically)
-                String endMonth = matcher.group(3);
-                String endYear = matcher.group(4);
-                range.endDate = parseDate(endMonth, endYear);
-            }
-            
-        } catch (Exception e) {
+    private DateRange parseDateLine(String dateLine, DateLexicon dates) {
+        if (!DateScanner.mayContainDate(dateLine)) {
             return null;
         }
-        
+        DateScanner.ScannedRange scanned = DateScanner.findRange(dates, dateLine, RANGE_FORMS);
+        if (scanned == null) {
+            return null;
+        }
+        DateRange range = new DateRange();
+        range.startDate = toDate(scanned.from());
+        range.endDate = scanned.isOngoing() ? null : toDate(scanned.to());
         return range;
     }
 
     /**
-     * Parse individual date components
+     * First day of the scanned month, or of January when the month is missing or out of range
      */
-    private LocalDate parseDate(String monthStr, String yearStr) {
-        try {
-            int year = Integer.parseInt(yearStr);
-            
-            // Try to parse month
-            int month;
-            if (monthStr.matches("\\d+")) {
-                month = Integer.parseInt(monthStr);
-            } else {
-                month = parseMonthName(monthStr);
-            }
-            
-            return YearMonth.of(year, month).atDay(1);
-        } catch (Exception e) {
-            // If parsing fails, try with just year
-            try {
-                int year = Integer.parseInt(yearStr);
-                return LocalDate.of(year, 1, 1);
-            } catch (Exception ex) {
-                throw new DateTimeParseException("Unable to parse date", monthStr + " " + yearStr, 0);
-            }
-        }
+    private LocalDate toDate(DateScanner.ScannedDate date) {
+        int month = date.month() >= 1 && date.month() <= 12 ? date.month() : 1;
+        return YearMonth.of(date.year(), month).atDay(1);
     }
 
     /**
-     * Parse month names (English and French)
+     * Helper classes for parsing
      */
-    private int parseMonthName(String monthName) {
-        Map<String, Integer> months = new HashMap<>();
-        
-        // English months
-        months.put("jan", 1); months.put("january", 1);
-        months.put("feb", 2); months.put("february", 2);
-        months.put("mar", 3); months.put("march", 3);
-        months.put("apr", 4); months.put("april", 4);
-        months.put("may", 5);
-        months.put("jun", 6); months.put("june", 6);
-        months.put("jul", 7); months.put("july", 7);
-        months.put("aug", 8); months.put("august", 8);
-        months.put("sep", 9); months.put("september", 9);
-        months.put("oct", 10); months.put("october", 10);
-        months.put("nov", 11); months.put("november", 11);
-        months.put("dec", 12); months.put("december", 12);
-        
-        // French months
-        months.put("janv", 1); months.put("janvier", 1);
-        months.put("févr", 2); months.put("février", 2);
-        months.put("mars", 3);
-        months.put("avr", 4); months.put("avril", 4);
-        months.put("mai", 5);
-        months.put("juin", 6);
-        months.put("juil", 7); months.put("juillet", 7);
-        months.put("août", 8);
-        months.put("sept", 9); months.put("septembre", 9);
-        months.put("oct", 10); months.put("octobre", 10);
-        months.put("nov", 11); months.put("novembre", 11);
-        months.put("déc", 12); months.put("décembre", 12);
-        
-        String lowerMonth = monthName.toLowerCase().replaceAll("[.]", "");
-        return months.getOrDefault(lowerMonth, 1); // Default to January if not found
+    // The lexicon of the document being parsed and its active languages
+    private record Keywords(Lexicon lexicon, int activeLanguages) {
+        boolean containsJobTitle(CharSequence line) {
+            return lexicon.containsJobTitle(line, activeLanguages);
+        }
+
+        List<String> companyIndicatorsIn(String line) {
+            return lexicon.companyIndicatorsIn(line, activeLanguages);
+        }
+
+        DateLexicon dates() {
+            return lexicon.dates();
+        }
     }
 
-    /**
-     * Helper classes for parsing
-     */
     private static class WorkExperienceEntry {
         List<String> jobTitleLines = new ArrayList<>();
         List<String> dateLines = new ArrayList<>();
         List<String> descriptionLines = new ArrayList<>();
     }
 
-    private static class DateRange {
+    static class DateRange {
         LocalDate startDate;
         LocalDate endDate;
     }
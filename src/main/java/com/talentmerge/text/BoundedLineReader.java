@@ -0,0 +1,109 @@
+package com.talentmerge.text;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads the lines of a text from a {@link Reader} in fixed-size chunks, holding at most one line in
+ * memory. A line longer than the limit is wrapped at a space that cannot be inside an email, link or
+ * phone number (one not next to a digit, '+' or '('), and the rest of it is carried over to the next
+ * line, so a pattern crossing a chunk edge is never cut.
+ */
+public final class BoundedLineReader implements Closeable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+    public static final int DEFAULT_MAX_LINE_LENGTH = 65536;
+
+    private final Reader in;
+    private final char[] chunk;
+    private final int maxLineLength;
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    public BoundedLineReader(Reader in) {
+        this(in, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    public BoundedLineReader(Reader in, int chunkSize, int maxLineLength) {
+        if (chunkSize < 1 || maxLineLength < 2) {
+            throw new IllegalArgumentException("Chunk size and maximum line length must be positive");
+        }
+        this.in = in;
+        this.chunk = new char[chunkSize];
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * The next line without its line break ('\r' before it included), or null at the end of the text
+     */
+    public String readLine() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                if (line.length() == 0) {
+                    return null;
+                }
+                return take(line.length(), line.length());
+            }
+            char c = chunk[position++];
+            if (c == '\n') {
+                int end = line.length();
+                if (end > 0 && line.charAt(end - 1) == '\r') {
+                    end--;
+                }
+                return take(end, line.length() + 1);
+            }
+            line.append(c);
+            if (line.length() >= maxLineLength) {
+                int wrap = wrapPoint();
+                return wrap < 0 ? take(line.length(), line.length()) : take(wrap, wrap + 1);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        int read = in.read(chunk, 0, chunk.length);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    /**
+     * The line up to end, keeping what follows skip as the start of the next line
+     */
+    private String take(int end, int skip) {
+        String taken = line.substring(0, end);
+        line.delete(0, Math.min(skip, line.length()));
+        return taken;
+    }
+
+    /**
+     * Last space of the second half of the line where wrapping splits no pattern, or -1
+     */
+    private int wrapPoint() {
+        for (int i = line.length() - 2; i >= line.length() / 2; i--) {
+            if (line.charAt(i) == ' ' && !isPhoneChar(line.charAt(i - 1)) && !isPhoneChar(line.charAt(i + 1))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isPhoneChar(char c) {
+        return (c >= '0' && c <= '9') || c == '+' || c == '(' || c == ')';
+    }
+}
@@ -0,0 +1,52 @@
+package com.talentmerge.text;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Deflate compression of UTF-8 text for storage. Resume text usually shrinks to a third of its size.
+ */
+public final class CompressedText {
+
+    private CompressedText() {
+    }
+
+    public static byte[] compress(CharSequence text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, text.length() / 2));
+        try (Writer out = new OutputStreamWriter(new DeflaterOutputStream(bytes), StandardCharsets.UTF_8)) {
+            out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String decompress(byte[] compressed) {
+        StringBuilder text = new StringBuilder(compressed.length * 3);
+        char[] buffer = new char[8192];
+        try (Reader in = reader(compressed)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                text.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed text", e);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Read compressed text as it is inflated, without holding the whole text in memory
+     */
+    public static Reader reader(byte[] compressed) {
+        return new InputStreamReader(new InflaterInputStream(new ByteArrayInputStream(compressed)), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,145 @@
+package com.talentmerge.text;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Month names, range connectors and the words that mark an ongoing period, in every language of a
+ * {@link Lexicon}, which compiles its own. Lookups compare a region of the text in place,
+ * case-insensitively, without copying it; month names are bucketed by first letter, so adding
+ * languages barely changes the cost of a lookup.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class DateLexicon {
+
+    private final List<String> ongoingWords;
+
+    private final List<String> rangeConnectors;
+
+    // Month names bucketed by their folded first letter, with the month of each name alongside
+    private final char[][][] namesByFirstChar = new char[128][][];
+    private final int[][] monthsByFirstChar = new int[128][];
+
+    DateLexicon(Lexicon lexicon) {
+        Map<Integer, List<String>> monthNames = new LinkedHashMap<>();
+        Map<String, Integer> monthByName = new HashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            List<String> names = lowerCase(lexicon.entries(Lexicon.MONTH_PREFIX + month));
+            for (String name : names) {
+                Integer previous = monthByName.putIfAbsent(name, month);
+                if (previous != null && previous != month) {
+                    throw new IllegalStateException("Month name '" + name + "' is used for months " + previous + " and " + month);
+                }
+                if (name.isEmpty() || KeywordMatcher.fold(name.charAt(0)) >= 128) {
+                    throw new IllegalStateException("Month name '" + name + "' must start with an ASCII letter");
+                }
+            }
+            monthNames.put(month, names);
+        }
+        ongoingWords = lowerCase(lexicon.entries(Lexicon.ONGOING));
+        rangeConnectors = lowerCase(lexicon.entries(Lexicon.CONNECTOR));
+
+        List<List<char[]>> names = new ArrayList<>();
+        List<List<Integer>> months = new ArrayList<>();
+        for (int c = 0; c < 128; c++) {
+            names.add(new ArrayList<>());
+            months.add(new ArrayList<>());
+        }
+        monthNames.forEach((month, variants) -> variants.forEach(name -> {
+            char first = name.charAt(0);
+            names.get(first).add(name.toCharArray());
+            months.get(first).add(month);
+        }));
+        for (int c = 0; c < 128; c++) {
+            namesByFirstChar[c] = names.get(c).toArray(new char[0][]);
+            monthsByFirstChar[c] = months.get(c).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * The date words of the {@link Lexicon#standard() standard lexicon}
+     */
+    public static DateLexicon standard() {
+        return Lexicon.standard().dates();
+    }
+
+    /**
+     * Month (1-12) named by text[start, end), or 0 when it is not a month name or abbreviation
+     */
+    public int month(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+        char first = KeywordMatcher.fold(text.charAt(start));
+        if (first >= 128) {
+            return 0;
+        }
+        char[][] candidates = namesByFirstChar[first];
+        for (int i = 0; i < candidates.length; i++) {
+            if (regionEquals(text, start, end, candidates[i])) {
+                return monthsByFirstChar[first][i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Whether text[start, end) is a word such as "present" or "aujourd'hui" ending a range
+     */
+    public boolean isOngoing(CharSequence text, int start, int end) {
+        return matchesAny(text, start, end, ongoingWords);
+    }
+
+    /**
+     * Whether text[start, end) is a word joining the two ends of a range, such as "to" or "au"
+     */
+    public boolean isRangeConnector(CharSequence text, int start, int end) {
+        return matchesAny(text, start, end, rangeConnectors);
+    }
+
+    /**
+     * Lower-cased the way {@link KeywordMatcher#fold(char)} folds the text they are compared to
+     */
+    private static List<String> lowerCase(List<String> words) {
+        return words.stream().map(word -> {
+            char[] chars = word.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = KeywordMatcher.fold(chars[i]);
+            }
+            return new String(chars);
+        }).distinct().toList();
+    }
+
+    private static boolean matchesAny(CharSequence text, int start, int end, List<String> words) {
+        for (String word : words) {
+            if (word.length() == end - start && regionEquals(text, start, end, word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionEquals(CharSequence text, int start, int end, char[] word) {
+        if (word.length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < word.length; i++) {
+            if (KeywordMatcher.fold(text.charAt(start + i)) != word[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionEquals(CharSequence text, int start, int end, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (KeywordMatcher.fold(text.charAt(start + i)) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
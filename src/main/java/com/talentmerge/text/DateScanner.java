@@ -0,0 +1,295 @@
+package com.talentmerge.text;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Hand-written scanner for resume dates and date ranges in English and French.
+ * Walks the text once by offsets, without regular expressions or substring copies, and recognizes
+ * "Jan 2020", "janv. 2020", "01/2020", "2020-01", "2020" and "Q1 2020", and ranges of two dates of
+ * the same form joined by a dash, "to", "au", "à"... or ending with an ongoing word such as "present".
+ * Month names and connector words come from a {@link DateLexicon}; the variants without one use the
+ * standard lexicon.
+ */
+public final class DateScanner {
+
+    public enum Form {
+        /** "Jan 2020", "janvier 2020" */
+        MONTH_YEAR,
+        /** "01/2020" */
+        MONTH_SLASH_YEAR,
+        /** "2020-01", "2020.01", "202001" */
+        YEAR_MONTH,
+        /** "2020" */
+        YEAR,
+        /** "Q1 2020" */
+        QUARTER
+    }
+
+    /**
+     * A date found at text[start, end). The month is as written (it may be out of range for numeric
+     * forms), the first month of the quarter for {@link Form#QUARTER}, and 0 for {@link Form#YEAR}.
+     */
+    public record ScannedDate(Form form, int year, int month, int start, int end) {
+    }
+
+    /**
+     * A range found at text[start, end); {@code to} is null when the range ends with an ongoing word
+     */
+    public record ScannedRange(ScannedDate from, ScannedDate to, int start, int end) {
+        public boolean isOngoing() {
+            return to == null;
+        }
+    }
+
+    public static final Set<Form> ALL_FORMS = EnumSet.allOf(Form.class);
+
+    // Every form holds a four-digit year, so text without four digits in a row holds no date
+    private static final int YEAR_DIGITS = 4;
+
+    private DateScanner() {
+    }
+
+    /**
+     * Cheap prefilter: whether the text has a run of at least four digits, which every date needs.
+     * Only every fourth char is read until a digit is found, as a shorter run can be stepped over.
+     */
+    public static boolean mayContainDate(CharSequence text) {
+        int length = text.length();
+        int i = YEAR_DIGITS - 1;
+        while (i < length) {
+            if (!isDigit(text.charAt(i))) {
+                i += YEAR_DIGITS;
+                continue;
+            }
+            int start = i;
+            while (start > 0 && i - start + 1 < YEAR_DIGITS && isDigit(text.charAt(start - 1))) {
+                start--;
+            }
+            int end = i + 1;
+            while (end < length && end - start < YEAR_DIGITS && isDigit(text.charAt(end))) {
+                end++;
+            }
+            if (end - start >= YEAR_DIGITS) {
+                return true;
+            }
+            // text[end] ends this run, so the next run of four ends at end + 4 at the earliest
+            i = end + YEAR_DIGITS;
+        }
+        return false;
+    }
+
+    /**
+     * First range in the text whose dates have one of the given forms, or null
+     */
+    public static ScannedRange findRange(CharSequence text, Set<Form> forms) {
+        return findRange(DateLexicon.standard(), text, 0, forms);
+    }
+
+    public static ScannedRange findRange(DateLexicon dates, CharSequence text, Set<Form> forms) {
+        return findRange(dates, text, 0, forms);
+    }
+
+    /**
+     * First range starting at or after {@code from} whose dates have one of the given forms, or null
+     */
+    public static ScannedRange findRange(CharSequence text, int from, Set<Form> forms) {
+        return findRange(DateLexicon.standard(), text, from, forms);
+    }
+
+    public static ScannedRange findRange(DateLexicon dates, CharSequence text, int from, Set<Form> forms) {
+        int length = text.length();
+        for (int i = Math.max(0, from); i < length; i++) {
+            if (!isTokenStart(text, i)) {
+                continue;
+            }
+            ScannedDate start = dateAt(dates, text, i);
+            if (start == null || !forms.contains(start.form())) {
+                continue;
+            }
+            int next = skipSpaces(text, start.end());
+            int afterConnector = connectorEnd(dates, text, next);
+            if (afterConnector < 0) {
+                continue;
+            }
+            next = skipSpaces(text, afterConnector);
+            int wordEnd = wordEnd(text, next);
+            if (wordEnd > next && dates.isOngoing(text, next, wordEnd)) {
+                return new ScannedRange(start, null, i, wordEnd);
+            }
+            ScannedDate end = isTokenStart(text, next) ? dateAt(dates, text, next) : null;
+            if (end != null && end.form() == start.form()) {
+                return new ScannedRange(start, end, i, end.end());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * First single date in the text whose form is one of the given forms, or null
+     */
+    public static ScannedDate findDate(CharSequence text, int from, Set<Form> forms) {
+        return findDate(DateLexicon.standard(), text, from, forms);
+    }
+
+    public static ScannedDate findDate(DateLexicon dates, CharSequence text, int from, Set<Form> forms) {
+        int length = text.length();
+        for (int i = Math.max(0, from); i < length; i++) {
+            if (isTokenStart(text, i)) {
+                ScannedDate date = dateAt(dates, text, i);
+                if (date != null && forms.contains(date.form())) {
+                    return date;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The date starting exactly at offset i, which must be the start of a word or number, or null
+     */
+    public static ScannedDate dateAt(CharSequence text, int i) {
+        return dateAt(DateLexicon.standard(), text, i);
+    }
+
+    public static ScannedDate dateAt(DateLexicon dates, CharSequence text, int i) {
+        int length = text.length();
+        if (i >= length) {
+            return null;
+        }
+        char c = text.charAt(i);
+        if (isDigit(c)) {
+            int digitsEnd = digitsEnd(text, i);
+            int digits = digitsEnd - i;
+            if (digits <= 2 && digitsEnd < length && text.charAt(digitsEnd) == '/') {
+                int yearEnd = digitsEnd(text, digitsEnd + 1);
+                if (yearEnd - digitsEnd - 1 == 4) {
+                    return new ScannedDate(Form.MONTH_SLASH_YEAR, number(text, digitsEnd + 1, yearEnd),
+                            number(text, i, digitsEnd), i, yearEnd);
+                }
+                return null;
+            }
+            if (digits == 6 && isDelimited(text, digitsEnd)) {
+                return new ScannedDate(Form.YEAR_MONTH, number(text, i, i + 4), number(text, i + 4, digitsEnd),
+                        i, digitsEnd);
+            }
+            if (digits != 4) {
+                return null;
+            }
+            if (digitsEnd + 1 < length && (text.charAt(digitsEnd) == '-' || text.charAt(digitsEnd) == '.')) {
+                int monthEnd = digitsEnd(text, digitsEnd + 1);
+                if (monthEnd - digitsEnd - 1 == 2 && isDelimited(text, monthEnd)) {
+                    return new ScannedDate(Form.YEAR_MONTH, number(text, i, digitsEnd),
+                            number(text, digitsEnd + 1, monthEnd), i, monthEnd);
+                }
+            }
+            return isDelimited(text, digitsEnd)
+                    ? new ScannedDate(Form.YEAR, number(text, i, digitsEnd), 0, i, digitsEnd)
+                    : null;
+        }
+        if (!Character.isLetter(c)) {
+            return null;
+        }
+        if ((c == 'q' || c == 'Q') && i + 2 < length && text.charAt(i + 1) >= '1' && text.charAt(i + 1) <= '4'
+                && !KeywordMatcher.isWordChar(text.charAt(i + 2))) {
+            ScannedDate year = yearAfter(text, i + 2);
+            return year == null ? null
+                    : new ScannedDate(Form.QUARTER, year.year(), (text.charAt(i + 1) - '1') * 3 + 1, i, year.end());
+        }
+        int wordEnd = wordEnd(text, i);
+        int month = dates.month(text, i, wordEnd);
+        if (month == 0) {
+            return null;
+        }
+        int next = wordEnd;
+        if (next < length && text.charAt(next) == '.') next++;
+        if (next < length && text.charAt(next) == ',') next++;
+        ScannedDate year = next > wordEnd || (next < length && Character.isWhitespace(text.charAt(next)))
+                ? yearAfter(text, next) : null;
+        return year == null ? null : new ScannedDate(Form.MONTH_YEAR, year.year(), month, i, year.end());
+    }
+
+    /**
+     * A four-digit year after optional spaces from offset i
+     */
+    private static ScannedDate yearAfter(CharSequence text, int i) {
+        int start = skipSpaces(text, i);
+        int end = digitsEnd(text, start);
+        if (end - start != 4 || !isDelimited(text, end)) {
+            return null;
+        }
+        return new ScannedDate(Form.YEAR, number(text, start, end), 0, start, end);
+    }
+
+    /**
+     * End of the dash or connector word at offset i, or -1 when there is none
+     */
+    private static int connectorEnd(DateLexicon dates, CharSequence text, int i) {
+        if (i >= text.length()) {
+            return -1;
+        }
+        char c = text.charAt(i);
+        if (c == '-' || c == '–' || c == '—') {
+            return i + 1;
+        }
+        int end = wordEnd(text, i);
+        return end > i && dates.isRangeConnector(text, i, end) ? end : -1;
+    }
+
+    static boolean isTokenStart(CharSequence text, int i) {
+        return i < text.length() && KeywordMatcher.isWordChar(text.charAt(i))
+                && (i == 0 || !KeywordMatcher.isWordChar(text.charAt(i - 1)));
+    }
+
+    /**
+     * End of the word at offset i: letters, with apostrophes inside ("aujourd'hui")
+     */
+    private static int wordEnd(CharSequence text, int i) {
+        int length = text.length();
+        int end = i;
+        while (end < length) {
+            char c = text.charAt(end);
+            if (Character.isLetter(c)) {
+                end++;
+            } else if ((c == '\'' || c == '’') && end > i && end + 1 < length && Character.isLetter(text.charAt(end + 1))) {
+                end++;
+            } else {
+                break;
+            }
+        }
+        return end < length && isDigit(text.charAt(end)) ? i : end;
+    }
+
+    private static int skipSpaces(CharSequence text, int i) {
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int digitsEnd(CharSequence text, int i) {
+        while (i < text.length() && isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Whether a number ending at offset i is not glued to a following letter or digit
+     */
+    private static boolean isDelimited(CharSequence text, int i) {
+        return i >= text.length() || !KeywordMatcher.isWordChar(text.charAt(i));
+    }
+
+    private static int number(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + text.charAt(i) - '0';
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,89 @@
+package com.talentmerge.text;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * One consistent version of every dictionary used by the rule-based parser: the multilingual
+ * lexicon (section headers, months, keywords, stopwords) and the skills. Compiled once, immutable,
+ * and swapped whole when the files change, so a parse that holds a snapshot never sees half of an update.
+ * @param version the manifest version followed by a hash of the content of every file read, such as
+ * "2026.10.1+3fa2c9e1b04d", so an edit recorded without bumping the manifest still changes it;
+ * recorded on each parsed candidate
+ */
+public record DictionarySnapshot(String version, Lexicon lexicon, SkillDictionary skills) {
+
+    // Hex digits of the content hash kept in the version
+    private static final int HASH_DIGITS = 12;
+    // Size of the candidates.dictionary_version column
+    private static final int MAX_VERSION_LENGTH = 64;
+
+    /**
+     * The dictionaries shipped on the classpath under {@link Lexicon#DEFAULT_LOCATION}
+     */
+    public static DictionarySnapshot standard() {
+        return StandardHolder.STANDARD;
+    }
+
+    /**
+     * Read and compile the dictionaries of a directory laid out like the classpath resources
+     */
+    public static DictionarySnapshot load(Path directory) {
+        return load(Lexicon.Source.directory(directory), directory.toString());
+    }
+
+    private static DictionarySnapshot load(Lexicon.Source files, String location) {
+        // Every file is read once, and hashed as it is read, so the version matches what was compiled
+        HashingSource source = new HashingSource(files);
+        Lexicon lexicon = Lexicon.load(source, location);
+        SkillDictionary skills = SkillDictionary.read(source);
+        String hash = source.hash();
+        String version = lexicon.version() + "+" + hash;
+        return new DictionarySnapshot(version.length() <= MAX_VERSION_LENGTH ? version : hash, lexicon, skills);
+    }
+
+    /**
+     * Reads files through another source while hashing their names and contents in reading order
+     */
+    private static final class HashingSource implements Lexicon.Source {
+
+        private final Lexicon.Source files;
+        private final MessageDigest digest;
+
+        HashingSource(Lexicon.Source files) {
+            this.files = files;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        @Override
+        public InputStream open(String name) throws IOException {
+            byte[] content;
+            try (InputStream in = files.open(name)) {
+                content = in.readAllBytes();
+            }
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(content);
+            return new ByteArrayInputStream(content);
+        }
+
+        String hash() {
+            return HexFormat.of().formatHex(digest.digest()).substring(0, HASH_DIGITS);
+        }
+    }
+
+    private static final class StandardHolder {
+        private static final DictionarySnapshot STANDARD = load(Lexicon.Source.classpath(Lexicon.DEFAULT_LOCATION),
+                Lexicon.DEFAULT_LOCATION);
+    }
+}
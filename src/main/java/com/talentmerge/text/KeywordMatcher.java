@@ -0,0 +1,249 @@
+package com.talentmerge.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick automaton over a fixed keyword dictionary.
+ * Finds every dictionary keyword in a text in one left-to-right pass, case-insensitively, with
+ * word boundaries checked only on the sides of a keyword that start or end with a word character
+ * (so "C++" and ".NET" match before punctuation and spaces, while "Go" does not match inside "Google").
+ * Instances are immutable and safe to share between threads.
+ */
+public final class KeywordMatcher {
+
+    /**
+     * Receives each match as the id of the keyword and its [start, end) offsets in the text
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int keywordId, int start, int end);
+    }
+
+    // Per state: sorted transition chars and their target states
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    // Keyword ids ending at each state, and the nearest state on the failure chain that has outputs
+    private final int[][] outputs;
+    private final int[] outputLink;
+
+    private final int[] keywordLengths;
+    private final boolean[] leftBoundary;
+    private final boolean[] rightBoundary;
+
+    private KeywordMatcher(Builder builder) {
+        int stateCount = builder.states.size();
+        transitionChars = new char[stateCount][];
+        transitionTargets = new int[stateCount][];
+        outputs = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> edges = builder.states.get(state);
+            transitionChars[state] = new char[edges.size()];
+            transitionTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                transitionChars[state][i] = edge.getKey();
+                transitionTargets[state][i] = edge.getValue();
+                i++;
+            }
+            outputs[state] = builder.outputs.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        keywordLengths = builder.lengths.stream().mapToInt(Integer::intValue).toArray();
+        leftBoundary = new boolean[keywordLengths.length];
+        rightBoundary = new boolean[keywordLengths.length];
+        for (int id = 0; id < keywordLengths.length; id++) {
+            leftBoundary[id] = builder.leftBoundary.get(id);
+            rightBoundary[id] = builder.rightBoundary.get(id);
+        }
+
+        // Breadth-first failure links
+        failure = new int[stateCount];
+        outputLink = new int[stateCount];
+        Arrays.fill(outputLink, -1);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : transitionTargets[0]) {
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                char c = transitionChars[state][i];
+                int target = transitionTargets[state][i];
+                int fallback = failure[state];
+                while (fallback != 0 && next(fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int fallbackTarget = next(fallback, c);
+                failure[target] = fallbackTarget >= 0 && fallbackTarget != target ? fallbackTarget : 0;
+                int failState = failure[target];
+                outputLink[target] = outputs[failState].length > 0 ? failState : outputLink[failState];
+                queue.add(target);
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int keywordCount() {
+        return keywordLengths.length;
+    }
+
+    /**
+     * Report every keyword occurrence in the text that respects the word boundary rules
+     */
+    public void scan(CharSequence text, MatchListener listener) {
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            state = advance(state, text.charAt(i));
+
+            for (int outputState = outputs[state].length > 0 ? state : outputLink[state];
+                 outputState > 0; outputState = outputLink[outputState]) {
+                for (int id : outputs[outputState]) {
+                    int start = i + 1 - keywordLengths[id];
+                    if (respectsBoundaries(text, id, start, i + 1)) {
+                        listener.onMatch(id, start, i + 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * State after reading one more character, for a text read a chunk at a time from state 0. Word
+     * boundaries are not checked, so this suits keywords added with {@link Builder#addSubstring}.
+     */
+    public int advance(int state, char c) {
+        char folded = fold(c);
+        int target;
+        while ((target = next(state, folded)) < 0 && state != 0) {
+            state = failure[state];
+        }
+        return Math.max(target, 0);
+    }
+
+    /**
+     * Pass the id of every keyword ending at a state reached by {@link #advance} to the consumer
+     */
+    public void forEachKeywordEndingAt(int state, IntConsumer consumer) {
+        for (int outputState = outputs[state].length > 0 ? state : outputLink[state];
+             outputState > 0; outputState = outputLink[outputState]) {
+            for (int id : outputs[outputState]) {
+                consumer.accept(id);
+            }
+        }
+    }
+
+    /**
+     * Ids of the keywords found at least once, in ascending id order
+     */
+    public int[] findDistinct(CharSequence text) {
+        boolean[] found = new boolean[keywordLengths.length];
+        int[] count = new int[1];
+        scan(text, (id, start, end) -> {
+            if (!found[id]) {
+                found[id] = true;
+                count[0]++;
+            }
+        });
+        int[] ids = new int[count[0]];
+        for (int id = 0, i = 0; id < found.length; id++) {
+            if (found[id]) ids[i++] = id;
+        }
+        return ids;
+    }
+
+    private boolean respectsBoundaries(CharSequence text, int id, int start, int end) {
+        if (leftBoundary[id] && start > 0 && isWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        return !(rightBoundary[id] && end < text.length() && isWordChar(text.charAt(end)));
+    }
+
+    private int next(int state, char c) {
+        int index = Arrays.binarySearch(transitionChars[state], c);
+        return index >= 0 ? transitionTargets[state][index] : -1;
+    }
+
+    static boolean isWordChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    static char fold(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Collects keywords; ids are assigned in insertion order starting at 0
+     */
+    public static final class Builder {
+        private final List<TreeMap<Character, Integer>> states = new ArrayList<>();
+        private final List<List<Integer>> outputs = new ArrayList<>();
+        private final List<Integer> lengths = new ArrayList<>();
+        private final List<Boolean> leftBoundary = new ArrayList<>();
+        private final List<Boolean> rightBoundary = new ArrayList<>();
+
+        private Builder() {
+            newState();
+        }
+
+        /**
+         * Add a keyword and return its id
+         */
+        public int add(String keyword) {
+            return add(keyword, true);
+        }
+
+        /**
+         * Add a keyword matched anywhere, even inside a word ("lead" in "leadership"), and return its id
+         */
+        public int addSubstring(String keyword) {
+            return add(keyword, false);
+        }
+
+        private int add(String keyword, boolean wordBoundaries) {
+            if (keyword == null || keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keyword must not be empty");
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = fold(keyword.charAt(i));
+                Integer target = states.get(state).get(c);
+                if (target == null) {
+                    target = newState();
+                    states.get(state).put(c, target);
+                }
+                state = target;
+            }
+            int id = lengths.size();
+            outputs.get(state).add(id);
+            lengths.add(keyword.length());
+            leftBoundary.add(wordBoundaries && isWordChar(keyword.charAt(0)));
+            rightBoundary.add(wordBoundaries && isWordChar(keyword.charAt(keyword.length() - 1)));
+            return id;
+        }
+
+        public KeywordMatcher build() {
+            return new KeywordMatcher(this);
+        }
+
+        private int newState() {
+            states.add(new TreeMap<>());
+            outputs.add(new ArrayList<>());
+            return states.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.talentmerge.text;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Keywords of every supported language, compiled once into shared automata: section headers into a
+ * {@link PhraseTrie}, job titles, company indicators and stopwords into {@link KeywordMatcher}s.
+ * Each keyword carries a bit per language using it, so a text is classified in one pass whatever
+ * the number of languages, and a language mask picks the active subset without rebuilding anything.
+ * The standard set is read from versioned resource files under {@code lexicons/}.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class Lexicon {
+
+    private static final Logger logger = LoggerFactory.getLogger(Lexicon.class);
+
+    public static final String DEFAULT_LOCATION = "lexicons";
+    public static final String MANIFEST = "lexicons.properties";
+    public static final String UNKNOWN_LANGUAGE = "unknown";
+    /** Mask with every language active */
+    public static final int ALL_LANGUAGES = -1;
+
+    public static final String SECTION_PREFIX = "section.";
+    public static final String JOB_TITLE = "job-title";
+    public static final String COMPANY = "company";
+    public static final String MONTH_PREFIX = "month.";
+    public static final String ONGOING = "ongoing";
+    public static final String CONNECTOR = "connector";
+    public static final String GRADUATION_PREFIX = "graduation-prefix";
+    public static final String STOPWORD = "stopword";
+
+    // Only the first words are needed to tell languages apart
+    private static final int LANGUAGE_SAMPLE_WORDS = 400;
+
+    private final String version;
+    private final List<String> languages;
+    private final int baseLanguages;
+    private final Map<String, Map<String, List<String>>> entries;
+
+    private final PhraseTrie<String> sectionHeaders;
+    private final KeywordMatcher jobTitles;
+    private final int[] jobTitleLanguages;
+    private final KeywordMatcher companyIndicators;
+    private final String[] companyIndicatorWords;
+    private final int[] companyIndicatorLanguages;
+    private final KeywordMatcher stopwords;
+    private final int[] stopwordLanguages;
+    private final DateLexicon dates;
+
+    private Lexicon(String version, List<String> languages, Set<String> baseLanguages,
+                    Map<String, Map<String, List<String>>> entries) {
+        if (languages.size() > Integer.SIZE - 1) {
+            throw new IllegalArgumentException("At most " + (Integer.SIZE - 1) + " languages are supported");
+        }
+        this.version = version;
+        this.languages = List.copyOf(languages);
+        this.entries = entries;
+        int base = 0;
+        for (String language : baseLanguages) {
+            base |= mask(language);
+        }
+        this.baseLanguages = base;
+
+        PhraseTrie.Builder<String> headers = PhraseTrie.builder();
+        for (String language : languages) {
+            entries.getOrDefault(language, Map.of()).forEach((category, phrases) -> {
+                if (category.startsWith(SECTION_PREFIX)) {
+                    String key = category.substring(SECTION_PREFIX.length());
+                    phrases.forEach(phrase -> headers.add(phrase, key));
+                }
+            });
+        }
+        this.sectionHeaders = headers.build();
+
+        Compiled titles = compile(JOB_TITLE, true);
+        this.jobTitles = titles.matcher;
+        this.jobTitleLanguages = titles.languages;
+        Compiled companies = compile(COMPANY, true);
+        this.companyIndicators = companies.matcher;
+        this.companyIndicatorWords = companies.words;
+        this.companyIndicatorLanguages = companies.languages;
+        Compiled stops = compile(STOPWORD, false);
+        this.stopwords = stops.matcher;
+        this.stopwordLanguages = stops.languages;
+        this.dates = new DateLexicon(this);
+    }
+
+    /**
+     * The lexicon read from the resource files under {@link #DEFAULT_LOCATION}, loaded on first use
+     */
+    public static Lexicon standard() {
+        return StandardHolder.STANDARD;
+    }
+
+    /**
+     * Compile a lexicon from entries per language and category
+     * @param baseLanguages languages whose keywords are active whatever language a text is in
+     */
+    public static Lexicon of(String version, List<String> languages, Set<String> baseLanguages,
+                             Map<String, Map<String, List<String>>> entries) {
+        for (String language : baseLanguages) {
+            if (!languages.contains(language)) {
+                throw new IllegalArgumentException("Unknown base language: " + language);
+            }
+        }
+        Map<String, Map<String, List<String>>> copy = new LinkedHashMap<>();
+        entries.forEach((language, categories) -> {
+            Map<String, List<String>> categoriesCopy = new LinkedHashMap<>();
+            categories.forEach((category, words) -> categoriesCopy.put(category, List.copyOf(words)));
+            copy.put(language, categoriesCopy);
+        });
+        return new Lexicon(version, languages, baseLanguages, copy);
+    }
+
+    /**
+     * Read a lexicon from the classpath: {@code <location>/lexicons.properties} names the version and
+     * the languages, and each language has a {@code <location>/<language>.lex} file of [category]
+     * headers followed by one entry per line
+     */
+    public static Lexicon load(String location) {
+        return load(Source.classpath(location), location);
+    }
+
+    /**
+     * Read a lexicon from a directory laid out like the classpath resources
+     */
+    public static Lexicon load(Path directory) {
+        return load(Source.directory(directory), directory.toString());
+    }
+
+    static Lexicon load(Source source, String location) {
+        Properties manifest = new Properties();
+        try (InputStream in = source.open(MANIFEST)) {
+            manifest.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read lexicon manifest in " + location, e);
+        }
+        List<String> languages = splitList(manifest.getProperty("languages", ""));
+        Set<String> baseLanguages = new LinkedHashSet<>(splitList(manifest.getProperty("base-languages", "")));
+        Map<String, Map<String, List<String>>> entries = new LinkedHashMap<>();
+        for (String language : languages) {
+            entries.put(language, readEntries(source, language + ".lex"));
+        }
+        Lexicon lexicon = of(manifest.getProperty("version", "0"), languages, baseLanguages, entries);
+        logger.info("Loaded lexicon version {} for languages {} from {}", lexicon.version, languages, location);
+        return lexicon;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public List<String> languages() {
+        return languages;
+    }
+
+    /**
+     * Entries of a category in every language, in language order and without duplicates
+     */
+    public List<String> entries(String category) {
+        Set<String> merged = new LinkedHashSet<>();
+        for (String language : languages) {
+            merged.addAll(entries.getOrDefault(language, Map.of()).getOrDefault(category, List.of()));
+        }
+        return List.copyOf(merged);
+    }
+
+    /**
+     * Section header phrases of every language, mapped to the standard section key
+     */
+    public PhraseTrie<String> sectionHeaders() {
+        return sectionHeaders;
+    }
+
+    /**
+     * Month names, range connectors and ongoing words of every language, for the {@link DateScanner}
+     */
+    public DateLexicon dates() {
+        return dates;
+    }
+
+    /**
+     * Bit of a language in a language mask, 0 for a language this lexicon does not have
+     */
+    public int mask(String language) {
+        int index = languages.indexOf(language);
+        return index < 0 ? 0 : 1 << index;
+    }
+
+    /**
+     * Stopword vote on the first words of the text; ties go to the language listed first
+     * @return a language code, or {@link #UNKNOWN_LANGUAGE} when no stopword is found
+     */
+    public String detectLanguage(CharSequence text) {
+        int[] votes = new int[languages.size()];
+        stopwords.scan(text.subSequence(0, sampleEnd(text)), (id, start, end) -> {
+            for (int i = 0; i < votes.length; i++) {
+                if ((stopwordLanguages[id] & (1 << i)) != 0) votes[i]++;
+            }
+        });
+        int best = -1;
+        for (int i = 0; i < votes.length; i++) {
+            if (votes[i] > 0 && (best < 0 || votes[i] > votes[best])) {
+                best = i;
+            }
+        }
+        return best < 0 ? UNKNOWN_LANGUAGE : languages.get(best);
+    }
+
+    /**
+     * Languages whose keywords apply to the text: the base languages plus the detected one
+     */
+    public int activeLanguages(CharSequence text) {
+        return baseLanguages | mask(detectLanguage(text));
+    }
+
+    /**
+     * Whether the text contains a job title keyword of an active language, anywhere in a word
+     */
+    public boolean containsJobTitle(CharSequence text, int activeLanguages) {
+        boolean[] found = new boolean[1];
+        jobTitles.scan(text, (id, start, end) -> found[0] |= (jobTitleLanguages[id] & activeLanguages) != 0);
+        return found[0];
+    }
+
+    /**
+     * Company indicators of the active languages found in the text, anywhere in a word, in lexicon order
+     */
+    public List<String> companyIndicatorsIn(CharSequence text, int activeLanguages) {
+        List<String> found = new ArrayList<>();
+        for (int id : companyIndicators.findDistinct(text)) {
+            if ((companyIndicatorLanguages[id] & activeLanguages) != 0) {
+                found.add(companyIndicatorWords[id]);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * One matcher for a category across languages; a keyword used by several languages gets one id
+     * with all their bits
+     */
+    private Compiled compile(String category, boolean substrings) {
+        Map<String, Integer> masks = new LinkedHashMap<>();
+        for (String language : languages) {
+            for (String word : entries.getOrDefault(language, Map.of()).getOrDefault(category, List.of())) {
+                masks.merge(word.toLowerCase(Locale.ROOT), mask(language), (a, b) -> a | b);
+            }
+        }
+        KeywordMatcher.Builder builder = KeywordMatcher.builder();
+        masks.keySet().forEach(substrings ? builder::addSubstring : builder::add);
+        return new Compiled(builder.build(), masks.keySet().toArray(new String[0]),
+                masks.values().stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private record Compiled(KeywordMatcher matcher, String[] words, int[] languages) {
+    }
+
+    /**
+     * End of the first LANGUAGE_SAMPLE_WORDS words of the text
+     */
+    private static int sampleEnd(CharSequence text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean letter = Character.isLetter(text.charAt(i));
+            if (letter && !inWord && ++words > LANGUAGE_SAMPLE_WORDS) {
+                return i;
+            }
+            inWord = letter;
+        }
+        return text.length();
+    }
+
+    /**
+     * Categories of a .lex file: [category] headers, each followed by one entry per line;
+     * blank lines and lines starting with # are skipped
+     */
+    static Map<String, List<String>> readEntries(Source source, String name) {
+        Map<String, List<String>> categories = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.open(name), StandardCharsets.UTF_8))) {
+            List<String> current = null;
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String entry = line.strip();
+                if (entry.isEmpty() || entry.startsWith("#")) {
+                    continue;
+                }
+                if (entry.startsWith("[") && entry.endsWith("]")) {
+                    current = categories.computeIfAbsent(entry.substring(1, entry.length() - 1).strip(),
+                            category -> new ArrayList<>());
+                } else if (current == null) {
+                    throw new IllegalStateException(name + ":" + lineNumber + ": entry before any [category]");
+                } else {
+                    current.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read lexicon file " + name, e);
+        }
+        return categories;
+    }
+
+    /**
+     * Opens the files of a lexicon by name, from the classpath or from a directory
+     */
+    @FunctionalInterface
+    interface Source {
+        InputStream open(String name) throws IOException;
+
+        static Source classpath(String location) {
+            return name -> Lexicon.open(location + "/" + name);
+        }
+
+        static Source directory(Path directory) {
+            return name -> Files.newInputStream(directory.resolve(name));
+        }
+    }
+
+    private static InputStream open(String resource) {
+        InputStream in = Lexicon.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalStateException("Lexicon resource not found: " + resource);
+        }
+        return in;
+    }
+
+    private static List<String> splitList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::strip)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    private static final class StandardHolder {
+        // The lexicon of the standard dictionary snapshot, compiled once for both
+        private static final Lexicon STANDARD = DictionarySnapshot.standard().lexicon();
+    }
+}
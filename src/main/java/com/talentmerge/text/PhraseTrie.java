@@ -0,0 +1,175 @@
+package com.talentmerge.text;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Trie mapping whole phrases to values, compared case- and accent-insensitively
+ * ("Expérience" matches "experience"). Text is walked one region at a time from a state, so a
+ * phrase spread over several regions (such as a header split over two lines) needs no concatenation.
+ * Instances are immutable and safe to share between threads.
+ *
+ * @param <V> the value type
+ */
+public final class PhraseTrie<V> {
+
+    /** State before any character */
+    public static final int ROOT = 0;
+    /** State after a character no phrase continues with */
+    public static final int NO_MATCH = -1;
+
+    // Returned by fold for characters that cannot be part of a phrase once folded
+    static final char UNMATCHABLE = '\uFFFF';
+    // Folded form of U+0080..U+024F (Latin-1 and Latin Extended), 0 for combining marks
+    private static final char[] LATIN_FOLDS = new char[0x250 - 0x80];
+
+    static {
+        for (char c = 0x80; c < 0x250; c++) {
+            LATIN_FOLDS[c - 0x80] = foldSlow(c);
+        }
+    }
+
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final Object[] values;
+
+    private PhraseTrie(Builder<V> builder) {
+        int stateCount = builder.states.size();
+        transitionChars = new char[stateCount][];
+        transitionTargets = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> edges = builder.states.get(state);
+            transitionChars[state] = new char[edges.size()];
+            transitionTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                transitionChars[state][i] = edge.getKey();
+                transitionTargets[state][i] = edge.getValue();
+                i++;
+            }
+        }
+        values = builder.values.toArray();
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Walk text[start, end) from a state; combining marks are skipped
+     * @return the state reached, or {@link #NO_MATCH} as soon as no phrase can match
+     */
+    public int walk(int state, CharSequence text, int start, int end) {
+        for (int i = start; i < end && state != NO_MATCH; i++) {
+            char c = fold(text.charAt(i));
+            if (c != 0) {
+                state = next(state, c);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Walk a single character from a state
+     */
+    public int walk(int state, char c) {
+        char folded = fold(c);
+        return state == NO_MATCH || folded == 0 ? state : next(state, folded);
+    }
+
+    /**
+     * Value of the phrase ending exactly at this state, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V valueAt(int state) {
+        return state == NO_MATCH ? null : (V) values[state];
+    }
+
+    /**
+     * Value of the phrase equal to text[start, end), or null
+     */
+    public V match(CharSequence text, int start, int end) {
+        return valueAt(walk(ROOT, text, start, end));
+    }
+
+    private int next(int state, char c) {
+        int index = Arrays.binarySearch(transitionChars[state], c);
+        return index >= 0 ? transitionTargets[state][index] : NO_MATCH;
+    }
+
+    /**
+     * Lower-case, accent-free form of a character, 0 for a combining mark.
+     * ASCII and Latin letters are folded by table lookup; other characters go through Unicode decomposition.
+     */
+    public static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+        }
+        if (c < 0x250) {
+            return LATIN_FOLDS[c - 0x80];
+        }
+        return foldSlow(c);
+    }
+
+    private static char foldSlow(char c) {
+        String decomposed = Normalizer.normalize(String.valueOf(Character.toLowerCase(c)), Normalizer.Form.NFD);
+        StringBuilder base = new StringBuilder(1);
+        for (int i = 0; i < decomposed.length(); i++) {
+            char part = decomposed.charAt(i);
+            int type = Character.getType(part);
+            if (type != Character.NON_SPACING_MARK && type != Character.COMBINING_SPACING_MARK
+                    && type != Character.ENCLOSING_MARK) {
+                base.append(part);
+            }
+        }
+        if (base.isEmpty()) {
+            return 0;
+        }
+        return base.length() == 1 ? base.charAt(0) : UNMATCHABLE;
+    }
+
+    /**
+     * Collects phrases; a phrase added twice keeps the last value
+     */
+    public static final class Builder<V> {
+        private final List<TreeMap<Character, Integer>> states = new ArrayList<>();
+        private final List<V> values = new ArrayList<>();
+
+        private Builder() {
+            newState();
+        }
+
+        public Builder<V> add(String phrase, V value) {
+            if (phrase == null || phrase.isEmpty()) {
+                throw new IllegalArgumentException("Phrase must not be empty");
+            }
+            int state = ROOT;
+            for (int i = 0; i < phrase.length(); i++) {
+                char c = fold(phrase.charAt(i));
+                if (c == 0) continue;
+                Integer target = states.get(state).get(c);
+                if (target == null) {
+                    target = newState();
+                    states.get(state).put(c, target);
+                }
+                state = target;
+            }
+            values.set(state, value);
+            return this;
+        }
+
+        public PhraseTrie<V> build() {
+            return new PhraseTrie<>(this);
+        }
+
+        private int newState() {
+            states.add(new TreeMap<>());
+            values.add(null);
+            return states.size() - 1;
+        }
+    }
+}
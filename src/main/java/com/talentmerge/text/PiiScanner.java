@@ -0,0 +1,305 @@
+package com.talentmerge.text;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds emails, phone numbers, LinkedIn profiles and web links in one left-to-right pass over a
+ * text, without regular expressions, and redacts them in one more pass. Each position is tried as
+ * the start of a link, then of an email, then of a phone number; characters already inside a span
+ * are never looked at again, so the cost is linear in the text whatever it contains.
+ */
+public final class PiiScanner {
+
+    public enum Type { EMAIL, PHONE, LINKEDIN, URL, NAME }
+
+    /**
+     * A piece of personal information at [start, end) in the scanned text. {@link Type#NAME} spans
+     * are never found by the scanner; callers add them for a name they know.
+     */
+    public record Span(Type type, int start, int end) {
+        public String text(CharSequence source) {
+            return source.subSequence(start, end).toString();
+        }
+    }
+
+    public static final Set<Type> ALL_TYPES = EnumSet.of(Type.EMAIL, Type.PHONE, Type.LINKEDIN, Type.URL);
+
+    private static final String LINKEDIN_PROFILE = "linkedin.com/in/";
+    private static final String[] URL_PREFIXES = {"https://", "http://", "www."};
+
+    // Phone numbers have 8 to 15 digits (E.164) within at most 24 characters
+    private static final int MIN_PHONE_DIGITS = 8;
+    private static final int MAX_PHONE_DIGITS = 15;
+    private static final int MAX_PHONE_LENGTH = 24;
+
+    private PiiScanner() {
+    }
+
+    /**
+     * Every span of every type, in text order
+     */
+    public static List<Span> scan(CharSequence text) {
+        return scan(text, ALL_TYPES);
+    }
+
+    /**
+     * Spans of the given types, in text order and without overlaps
+     */
+    public static List<Span> scan(CharSequence text, Set<Type> types) {
+        boolean links = types.contains(Type.URL) || types.contains(Type.LINKEDIN);
+        boolean emails = types.contains(Type.EMAIL);
+        boolean phones = types.contains(Type.PHONE);
+
+        List<Span> spans = new ArrayList<>();
+        int length = text.length();
+        // End of the current run of email local-part characters known to not be followed by '@'
+        int noEmailBefore = 0;
+        int i = 0;
+        while (i < length) {
+            char previous = i > 0 ? text.charAt(i - 1) : ' ';
+            Span span = null;
+            if (links && !isWordChar(previous)) {
+                span = linkAt(text, i, types);
+            }
+            if (span == null && emails && i >= noEmailBefore && !isLocalChar(previous) && isLocalChar(text.charAt(i))) {
+                int runEnd = i;
+                while (runEnd < length && isLocalChar(text.charAt(runEnd))) {
+                    runEnd++;
+                }
+                span = emailAt(text, i, runEnd);
+                if (span == null) {
+                    noEmailBefore = runEnd;
+                }
+            }
+            if (span == null && phones && !isWordChar(previous)) {
+                span = phoneAt(text, i);
+            }
+            if (span != null) {
+                spans.add(span);
+                i = span.end();
+            } else {
+                i++;
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * First span of a type, or null
+     */
+    public static Span first(CharSequence text, Type type) {
+        List<Span> spans = scan(text, EnumSet.of(type));
+        return spans.isEmpty() ? null : spans.get(0);
+    }
+
+    /**
+     * The text with each span of a type in the map replaced by its replacement, in a single append
+     * pass. Spans must be in text order; spans of other types, and spans overlapping a previous
+     * one, are kept as they are.
+     */
+    public static String redact(CharSequence text, List<Span> spans, Map<Type, String> replacements) {
+        StringBuilder redacted = new StringBuilder(text.length());
+        int copied = 0;
+        for (Span span : spans) {
+            String replacement = replacements.get(span.type());
+            if (replacement == null || span.start() < copied) {
+                continue;
+            }
+            redacted.append(text, copied, span.start()).append(replacement);
+            copied = span.end();
+        }
+        return redacted.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * A web link at i: "https://", "http://" or "www." up to the next space or quote, or a bare
+     * "linkedin.com/in/handle"; a link to a LinkedIn profile has the LINKEDIN type
+     */
+    private static Span linkAt(CharSequence text, int i, Set<Type> types) {
+        int end = -1;
+        for (String prefix : URL_PREFIXES) {
+            if (startsWithIgnoreCase(text, i, prefix) && i + prefix.length() < text.length()
+                    && isWordChar(text.charAt(i + prefix.length()))) {
+                end = linkEnd(text, i + prefix.length());
+                break;
+            }
+        }
+        if (end < 0) {
+            if (!startsWithIgnoreCase(text, i, LINKEDIN_PROFILE)) {
+                return null;
+            }
+            end = i + LINKEDIN_PROFILE.length();
+            while (end < text.length() && (isAsciiLetterOrDigit(text.charAt(end)) || text.charAt(end) == '-')) {
+                end++;
+            }
+            if (end == i + LINKEDIN_PROFILE.length()) {
+                return null;
+            }
+            if (end < text.length() && text.charAt(end) == '/') {
+                end++;
+            }
+        }
+        Type type = indexOfIgnoreCase(text, i, end, LINKEDIN_PROFILE) >= 0 ? Type.LINKEDIN : Type.URL;
+        return types.contains(type) ? new Span(type, i, end) : null;
+    }
+
+    private static int linkEnd(CharSequence text, int from) {
+        int end = from;
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end)) && "<>\"'".indexOf(text.charAt(end)) < 0) {
+            end++;
+        }
+        // Punctuation closing a sentence or a parenthesis is not part of the link
+        while (end > from && ".,;:!?)]}".indexOf(text.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * An email whose local part is the run [i, runEnd): the run must be followed by '@' and a domain
+     * ending with a dot and at least two letters
+     */
+    private static Span emailAt(CharSequence text, int i, int runEnd) {
+        if (runEnd >= text.length() || text.charAt(runEnd) != '@') {
+            return null;
+        }
+        int domainStart = runEnd + 1;
+        int domainEnd = domainStart;
+        while (domainEnd < text.length() && isDomainChar(text.charAt(domainEnd))) {
+            domainEnd++;
+        }
+        // The last dot followed by two letters starts the top-level domain
+        for (int dot = domainEnd - 3; dot > domainStart; dot--) {
+            if (text.charAt(dot) == '.' && isAsciiLetter(text.charAt(dot + 1)) && isAsciiLetter(text.charAt(dot + 2))) {
+                int end = dot + 3;
+                while (end < domainEnd && isAsciiLetter(text.charAt(end))) {
+                    end++;
+                }
+                return new Span(Type.EMAIL, i, end);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A phone number at i: an optional '(' and '+', then digits separated by spaces, dots, dashes or
+     * parentheses. Dates and year ranges ("2018 - 2020", "01.02.2020") are not phone numbers.
+     */
+    private static Span phoneAt(CharSequence text, int i) {
+        int start = i;
+        if (text.charAt(i) == '(' && i + 1 < text.length()) {
+            i++;
+        }
+        if (text.charAt(i) == '+') {
+            i++;
+        }
+        if (i >= text.length() || !isAsciiDigit(text.charAt(i))) {
+            return null;
+        }
+        int limit = Math.min(text.length(), start + MAX_PHONE_LENGTH);
+        int digits = 0;
+        int end = i;
+        List<Integer> groups = new ArrayList<>();
+        int group = 0;
+        for (int j = i; j < limit; j++) {
+            char c = text.charAt(j);
+            if (isAsciiDigit(c)) {
+                digits++;
+                group++;
+                end = j + 1;
+            } else if (c == ' ' || c == '.' || c == '-' || c == '(' || c == ')') {
+                if (group > 0) {
+                    groups.add(group);
+                    group = 0;
+                }
+            } else {
+                break;
+            }
+        }
+        if (group > 0) {
+            groups.add(group);
+        }
+        // A digit right after the span means a longer number, not a phone number
+        if (end < text.length() && (isAsciiDigit(text.charAt(end)) || Character.isLetter(text.charAt(end)))) {
+            return null;
+        }
+        if (digits < MIN_PHONE_DIGITS || digits > MAX_PHONE_DIGITS || isDate(text, i, groups)) {
+            return null;
+        }
+        return new Span(Type.PHONE, start, end);
+    }
+
+    /**
+     * Whether digit groups are only years and one- or two-digit day or month numbers
+     */
+    private static boolean isDate(CharSequence text, int from, List<Integer> groups) {
+        boolean year = false;
+        int position = from;
+        for (int size : groups) {
+            while (!isAsciiDigit(text.charAt(position))) {
+                position++;
+            }
+            if (size == 4 && (startsWith(text, position, "19") || startsWith(text, position, "20"))) {
+                year = true;
+            } else if (size > 2) {
+                return false;
+            }
+            position += size;
+        }
+        return year;
+    }
+
+    private static boolean startsWith(CharSequence text, int at, String prefix) {
+        return at + prefix.length() <= text.length() && text.charAt(at) == prefix.charAt(0)
+                && text.charAt(at + 1) == prefix.charAt(1);
+    }
+
+    private static boolean startsWithIgnoreCase(CharSequence text, int at, String prefix) {
+        if (at + prefix.length() > text.length()) {
+            return false;
+        }
+        for (int k = 0; k < prefix.length(); k++) {
+            if (Character.toLowerCase(text.charAt(at + k)) != prefix.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfIgnoreCase(CharSequence text, int from, int to, String needle) {
+        for (int k = from; k + needle.length() <= to; k++) {
+            if (startsWithIgnoreCase(text, k, needle)) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '-';
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,126 @@
+package com.talentmerge.text;
+
+import com.talentmerge.exception.RegexTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs regular expressions over user-supplied text with an input-length cap and a time budget,
+ * so a pathological resume cannot pin a CPU through regex backtracking. Input beyond the cap is
+ * ignored; a match still running when the budget is spent throws {@link RegexTimeoutException}.
+ * The matches, find and replaceAll shortcuts apply the defaults and treat a timeout as no match.
+ */
+public final class RegexGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegexGuard.class);
+
+    public static final int DEFAULT_MAX_INPUT_LENGTH = 100_000;
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(250);
+
+    // The clock is read once every this many characters, as charAt sits on the matcher's hot path
+    private static final int CHECK_INTERVAL = 1024;
+
+    private RegexGuard() {
+    }
+
+    /**
+     * Matcher over the input with the default length cap and time budget
+     */
+    public static Matcher matcher(Pattern pattern, CharSequence input) {
+        return matcher(pattern, input, DEFAULT_MAX_INPUT_LENGTH, DEFAULT_BUDGET);
+    }
+
+    /**
+     * Whether the whole input matches; input longer than the cap, or a timeout, counts as no match
+     */
+    public static boolean matches(Pattern pattern, CharSequence input) {
+        if (input.length() > DEFAULT_MAX_INPUT_LENGTH) {
+            return false;
+        }
+        try {
+            return matcher(pattern, input).matches();
+        } catch (RegexTimeoutException e) {
+            logger.warn(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Whether the pattern occurs in the capped input; a timeout counts as no match
+     */
+    public static boolean find(Pattern pattern, CharSequence input) {
+        try {
+            return matcher(pattern, input).find();
+        } catch (RegexTimeoutException e) {
+            logger.warn(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Replace every match within the default time budget. The whole input is rewritten, so the length
+     * cap does not apply; on a timeout the input comes back unchanged.
+     */
+    public static String replaceAll(Pattern pattern, CharSequence input, String replacement) {
+        try {
+            return matcher(pattern, input, input.length(), DEFAULT_BUDGET).replaceAll(replacement);
+        } catch (RegexTimeoutException e) {
+            logger.warn(e.getMessage());
+            return input.toString();
+        }
+    }
+
+    /**
+     * Matcher over at most maxLength characters of the input, failing once the budget is spent.
+     * The budget starts now and covers every operation on the returned matcher.
+     */
+    public static Matcher matcher(Pattern pattern, CharSequence input, int maxLength, Duration budget) {
+        CharSequence capped = input.length() > maxLength ? input.subSequence(0, maxLength) : input;
+        return pattern.matcher(new TimeLimitedCharSequence(capped, System.nanoTime() + budget.toNanos(), pattern));
+    }
+
+    /**
+     * Character sequence that throws once its deadline has passed. The regex engine reads the input
+     * through charAt on every step, including while backtracking, so this bounds any match.
+     */
+    static final class TimeLimitedCharSequence implements CharSequence {
+        private final CharSequence delegate;
+        private final long deadlineNanos;
+        private final Pattern pattern;
+        private int reads;
+
+        TimeLimitedCharSequence(CharSequence delegate, long deadlineNanos, Pattern pattern) {
+            this.delegate = delegate;
+            this.deadlineNanos = deadlineNanos;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads % CHECK_INTERVAL == 0 && System.nanoTime() > deadlineNanos) {
+                throw new RegexTimeoutException("Regex timed out on " + delegate.length()
+                        + " characters of input: " + pattern.pattern());
+            }
+            return delegate.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return delegate.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new TimeLimitedCharSequence(delegate.subSequence(start, end), deadlineNanos, pattern);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
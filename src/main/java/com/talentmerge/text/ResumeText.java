@@ -0,0 +1,295 @@
+package com.talentmerge.text;
+
+/**
+ * A resume tokenized into lines once, shared by every parsing and anonymization step.
+ * Lines are kept as start/end offsets into the original text and handed out as {@link CharSequence}
+ * slices that copy nothing. A lower-cased view and a lower-cased, accent-free view of the same length
+ * are computed on first use, so an offset means the same character in all three.
+ * Instances are immutable; a view over a range of lines shares the index of the whole document.
+ */
+public final class ResumeText {
+
+    private final String text;
+    private final int[] starts;
+    private final int[] ends;
+    private final int firstLine;
+    private final int lineCount;
+    private final ResumeText document;
+
+    private volatile String lowerCase;
+    private volatile String folded;
+
+    private ResumeText(String text, int[] starts, int[] ends) {
+        this.text = text;
+        this.starts = starts;
+        this.ends = ends;
+        this.firstLine = 0;
+        this.lineCount = starts.length;
+        this.document = this;
+    }
+
+    private ResumeText(ResumeText document, int firstLine, int lineCount) {
+        this.text = document.text;
+        this.starts = document.starts;
+        this.ends = document.ends;
+        this.firstLine = firstLine;
+        this.lineCount = lineCount;
+        this.document = document;
+    }
+
+    /**
+     * Index the lines of a text split on '\n'; a '\r' before the '\n' is not part of the line
+     */
+    public static ResumeText of(String text) {
+        String source = text == null ? "" : text;
+        int newlines = 0;
+        for (int i = 0; i < source.length(); i++) {
+            if (source.charAt(i) == '\n') newlines++;
+        }
+        int[] starts = new int[newlines + 1];
+        int[] ends = new int[newlines + 1];
+        int line = 0;
+        int start = 0;
+        for (int i = 0; i <= source.length(); i++) {
+            if (i == source.length() || source.charAt(i) == '\n') {
+                starts[line] = start;
+                ends[line++] = i > start && source.charAt(i - 1) == '\r' ? i - 1 : i;
+                start = i + 1;
+            }
+        }
+        return new ResumeText(source, starts, ends);
+    }
+
+    /**
+     * The whole document text, also for a view over some of its lines
+     */
+    public String text() {
+        return text;
+    }
+
+    public int lineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Whether every line is blank
+     */
+    public boolean isBlank() {
+        for (int i = 0; i < lineCount; i++) {
+            if (!isBlank(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Offset in {@link #text()} where line i starts; for i = {@link #lineCount()}, the offset past the last line and its line break
+     */
+    public int lineStart(int i) {
+        return i < lineCount ? starts[firstLine + i] : end();
+    }
+
+    /**
+     * Offset in {@link #text()} where line i ends, before its line break
+     */
+    public int lineEnd(int i) {
+        return ends[firstLine + i];
+    }
+
+    public int trimmedStart(int i) {
+        int start = lineStart(i);
+        int end = lineEnd(i);
+        while (start < end && text.charAt(start) <= ' ') start++;
+        return start;
+    }
+
+    public int trimmedEnd(int i) {
+        int start = trimmedStart(i);
+        int end = lineEnd(i);
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        return end;
+    }
+
+    public boolean isBlank(int i) {
+        return trimmedStart(i) == trimmedEnd(i);
+    }
+
+    public CharSequence line(int i) {
+        return new Slice(text, lineStart(i), lineEnd(i));
+    }
+
+    /**
+     * Line i without surrounding whitespace, as {@link String#trim()} would return it
+     */
+    public CharSequence trimmedLine(int i) {
+        return new Slice(text, trimmedStart(i), trimmedEnd(i));
+    }
+
+    /**
+     * Trimmed line i of the lower-cased view, with the same offsets as {@link #trimmedLine(int)}
+     */
+    public CharSequence lowerCaseLine(int i) {
+        return new Slice(lowerCase(), trimmedStart(i), trimmedEnd(i));
+    }
+
+    /**
+     * Trimmed line i of the lower-cased, accent-free view, with the same offsets as {@link #trimmedLine(int)}
+     */
+    public CharSequence foldedLine(int i) {
+        return new Slice(folded(), trimmedStart(i), trimmedEnd(i));
+    }
+
+    /**
+     * Whether line i, lower-cased, contains a lower-case needle
+     */
+    public boolean lineContains(int i, String lowerCaseNeedle) {
+        return indexOf(lowerCase(), lowerCaseNeedle, lineStart(i), lineEnd(i)) >= 0;
+    }
+
+    /**
+     * Whether line i, lower-cased and without accents, contains a needle folded with {@link #fold(String)}
+     */
+    public boolean lineContainsFolded(int i, String foldedNeedle) {
+        return indexOf(folded(), foldedNeedle, lineStart(i), lineEnd(i)) >= 0;
+    }
+
+    /**
+     * The lines of this text as one slice, without the line break after the last one
+     */
+    public CharSequence content() {
+        return lineCount == 0 ? "" : new Slice(text, lineStart(0), lineEnd(lineCount - 1));
+    }
+
+    public CharSequence slice(int start, int end) {
+        return new Slice(text, start, end);
+    }
+
+    /**
+     * The lines [from, to) of this text, sharing its index
+     */
+    public ResumeText lines(int from, int to) {
+        int clampedFrom = Math.max(0, Math.min(from, lineCount));
+        int clampedTo = Math.max(clampedFrom, Math.min(to, lineCount));
+        return new ResumeText(document, firstLine + clampedFrom, clampedTo - clampedFrom);
+    }
+
+    /**
+     * Non-blank lines, trimmed and joined with '\n'
+     */
+    public String joinTrimmedLines() {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            int start = trimmedStart(i);
+            int end = trimmedEnd(i);
+            if (start < end) {
+                if (joined.length() > 0) {
+                    joined.append('\n');
+                }
+                joined.append(text, start, end);
+            }
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Lower-cased view of the whole document, one char per char of {@link #text()}
+     */
+    public String lowerCase() {
+        String view = document.lowerCase;
+        if (view == null) {
+            char[] chars = text.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+            view = new String(chars);
+            document.lowerCase = view;
+        }
+        return view;
+    }
+
+    /**
+     * Lower-cased, accent-free view of the whole document, one char per char of {@link #text()}
+     */
+    public String folded() {
+        String view = document.folded;
+        if (view == null) {
+            view = fold(text);
+            document.folded = view;
+        }
+        return view;
+    }
+
+    /**
+     * Lower-cased, accent-free form of a string with the same length, to compare against {@link #folded()}.
+     * Combining marks and characters without a single-char folded form are only lower-cased.
+     */
+    public static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char folded = PhraseTrie.fold(chars[i]);
+            chars[i] = folded == 0 || folded == PhraseTrie.UNMATCHABLE ? Character.toLowerCase(chars[i]) : folded;
+        }
+        return new String(chars);
+    }
+
+    private int end() {
+        int next = firstLine + lineCount;
+        return next < starts.length ? starts[next] : text.length();
+    }
+
+    private static int indexOf(String haystack, String needle, int from, int to) {
+        for (int i = from; i + needle.length() <= to; i++) {
+            if (haystack.startsWith(needle, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return lineCount == 0 ? "" : text.substring(lineStart(0), lineEnd(lineCount - 1));
+    }
+
+    /**
+     * A window on a string that copies nothing until {@link #toString()}
+     */
+    private static final class Slice implements CharSequence {
+        private final String source;
+        private final int start;
+        private final int end;
+
+        Slice(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return source.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > end - start || from > to) {
+                throw new IndexOutOfBoundsException("[" + from + ", " + to + ") of " + (end - start));
+            }
+            return new Slice(source, start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return source.substring(start, end);
+        }
+    }
+}
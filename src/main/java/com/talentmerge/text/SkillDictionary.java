@@ -0,0 +1,84 @@
+package com.talentmerge.text;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Skills reported by the rule-based parser, with their alternative spellings, compiled into one
+ * {@link KeywordMatcher} that finds every skill and synonym in a single pass over the text.
+ * Read from the {@code skills.lex} file next to the lexicon manifest. Instances are immutable and
+ * safe to share between threads.
+ */
+public final class SkillDictionary {
+
+    public static final String FILE = "skills.lex";
+    public static final String SKILL = "skill";
+    /** "alternative = skill" lines, reported under the skill */
+    public static final String SYNONYM = "synonym";
+
+    private final List<String> skills;
+    private final KeywordMatcher matcher;
+    private final int[] skillIndexByKeyword;
+
+    private SkillDictionary(List<String> skills, Map<String, String> synonyms) {
+        this.skills = List.copyOf(skills);
+        KeywordMatcher.Builder builder = KeywordMatcher.builder();
+        List<Integer> skillIndexes = new ArrayList<>();
+        for (int i = 0; i < skills.size(); i++) {
+            builder.add(skills.get(i));
+            skillIndexes.add(i);
+        }
+        synonyms.forEach((synonym, skill) -> {
+            int index = skills.indexOf(skill);
+            if (index < 0) {
+                throw new IllegalArgumentException("Synonym " + synonym + " of unknown skill " + skill);
+            }
+            builder.add(synonym);
+            skillIndexes.add(index);
+        });
+        this.matcher = builder.build();
+        this.skillIndexByKeyword = skillIndexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Compile a dictionary; synonyms map an alternative spelling to one of the skills
+     */
+    public static SkillDictionary of(List<String> skills, Map<String, String> synonyms) {
+        return new SkillDictionary(skills, synonyms);
+    }
+
+    static SkillDictionary read(Lexicon.Source source) {
+        Map<String, List<String>> categories = Lexicon.readEntries(source, FILE);
+        Map<String, String> synonyms = new LinkedHashMap<>();
+        for (String line : categories.getOrDefault(SYNONYM, List.of())) {
+            int separator = line.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException(FILE + ": synonym without \"alternative = skill\": " + line);
+            }
+            synonyms.put(line.substring(0, separator).strip(), line.substring(separator + 1).strip());
+        }
+        return new SkillDictionary(categories.getOrDefault(SKILL, List.of()), synonyms);
+    }
+
+    public List<String> skills() {
+        return skills;
+    }
+
+    /**
+     * Skills found in the text, in dictionary order, joined with ", "
+     */
+    public String find(CharSequence text) {
+        boolean[] found = new boolean[skills.size()];
+        matcher.scan(text, (keywordId, start, end) -> found[skillIndexByKeyword[keywordId]] = true);
+
+        List<String> foundSkills = new ArrayList<>();
+        for (int i = 0; i < found.length; i++) {
+            if (found[i]) {
+                foundSkills.add(skills.get(i));
+            }
+        }
+        return String.join(", ", foundSkills);
+    }
+}
@@ -0,0 +1,198 @@
+package com.talentmerge.repository;
+
+import com.talentmerge.dto.CandidateListItemDTO;
+import com.talentmerge.model.Candidate;
+import com.talentmerge.model.Education;
+import com.talentmerge.model.WorkExperience;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Candidate queries run against a real PostgreSQL, which maps large objects, dates, sorting and
+ * paging its own way. Skipped where no Docker daemon is available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class CandidateRepositoryPostgresTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Candidate alice;
+    private Candidate bob;
+    private List<Candidate> candidates;
+
+    @BeforeEach
+    void setUp() {
+        alice = candidate("Alice", "alice@example.com", "Java, SQL");
+        WorkExperience current = new WorkExperience();
+        current.setJobTitle("Staff Engineer");
+        current.setCompany("New Corp");
+        current.setStartDate(LocalDate.of(2022, 3, 1));
+        current.setDescription("Leads the platform team");
+        alice.addWorkExperience(current);
+        WorkExperience previous = new WorkExperience();
+        previous.setJobTitle("Engineer");
+        previous.setCompany("Tech Corp");
+        previous.setStartDate(LocalDate.of(2018, 1, 1));
+        previous.setEndDate(LocalDate.of(2022, 2, 28));
+        alice.addWorkExperience(previous);
+        Education education = new Education();
+        education.setInstitution("MIT");
+        education.setDegree("BSc Computer Science");
+        education.setGraduationDate(LocalDate.of(2017, 6, 15));
+        alice.addEducation(education);
+
+        bob = candidate("Bob", null, "Go");
+        candidates = new ArrayList<>(List.of(alice, bob, candidate("Alice", "alice2@example.com", null),
+                candidate(null, "anonymous@example.com", null), candidate("Carol", "carol@example.com", "Rust"),
+                candidate("dave", "dave@example.com", null)));
+        candidates.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static Candidate candidate(String name, String email, String skills) {
+        Candidate candidate = new Candidate();
+        candidate.setName(name);
+        candidate.setEmail(email);
+        candidate.setSkills(skills);
+        candidate.setOriginalFilePath("uploads/" + name + ".pdf");
+        return candidate;
+    }
+
+    @Test
+    @DisplayName("Should read a candidate with its work experiences, educations, dates and text columns")
+    void testFindById_WithChildren() {
+        Candidate found = candidateRepository.findById(alice.getId()).orElseThrow();
+
+        assertEquals("Alice", found.getName());
+        // Large object columns come back as their text
+        assertEquals("Java, SQL", found.getSkills());
+        assertEquals(List.of("New Corp", "Tech Corp"), found.getWorkExperiences().stream()
+                .map(WorkExperience::getCompany).sorted().toList());
+        WorkExperience current = found.getWorkExperiences().stream()
+                .filter(experience -> experience.getEndDate() == null).findFirst().orElseThrow();
+        assertEquals(LocalDate.of(2022, 3, 1), current.getStartDate());
+        assertEquals("Leads the platform team", current.getDescription());
+        assertEquals(LocalDate.of(2017, 6, 15), found.getEducations().get(0).getGraduationDate());
+        assertEquals("BSc Computer Science", found.getEducations().get(0).getDegree());
+    }
+
+    @Test
+    @DisplayName("Should read a candidate without children as empty lists, and nothing for an unknown id")
+    void testFindById_NoChildren() {
+        Candidate found = candidateRepository.findById(bob.getId()).orElseThrow();
+
+        assertEquals("Bob", found.getName());
+        assertNull(found.getEmail());
+        assertTrue(found.getWorkExperiences().isEmpty());
+        assertTrue(found.getEducations().isEmpty());
+        assertTrue(candidateRepository.findById(-1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should page candidates in the requested order and preload the children of a page")
+    void testFindAll_SortOffsetAndChildren() {
+        // PostgreSQL sorts nulls last in ascending order
+        List<Long> byName = candidates.stream()
+                .sorted(Comparator.comparing(Candidate::getName, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                        .thenComparing(Candidate::getId))
+                .map(Candidate::getId)
+                .toList();
+
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            Page<Candidate> candidatePage = candidateRepository.findAll(PageRequest.of(page, 2, Sort.by("name", "id")));
+            assertEquals(6, candidatePage.getTotalElements());
+            candidatePage.forEach(candidate -> ids.add(candidate.getId()));
+        }
+        assertEquals(byName, ids);
+
+        Page<Candidate> byIdDescending = candidateRepository.findAll(PageRequest.of(1, 4, Sort.by(Sort.Direction.DESC, "id")));
+        List<Long> pageIds = byIdDescending.map(Candidate::getId).getContent();
+        assertEquals(List.of(bob.getId(), alice.getId()), pageIds);
+        assertEquals(6, byIdDescending.getTotalElements());
+
+        // The detail page preloads both collections of its candidates in two queries
+        List<Candidate> withExperiences = candidateRepository.findWithWorkExperiencesByIdIn(pageIds);
+        candidateRepository.findWithEducationsByIdIn(pageIds);
+        Candidate aliceOnPage = withExperiences.stream()
+                .filter(candidate -> candidate.getId().equals(alice.getId())).findFirst().orElseThrow();
+        assertEquals(2, aliceOnPage.getWorkExperiences().size());
+        assertEquals(1, aliceOnPage.getEducations().size());
+
+        assertTrue(candidateRepository.findAll(PageRequest.of(5, 2, Sort.by("email"))).getContent().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should walk the list with keyset pages in both directions, nulls as empty strings")
+    void testFindListItemsAfter() {
+        Comparator<Candidate> byName = Comparator.comparing((Candidate candidate) ->
+                Objects.requireNonNullElse(candidate.getName(), "")).thenComparing(Candidate::getId);
+        Comparator<Candidate> byEmail = Comparator.comparing((Candidate candidate) ->
+                Objects.requireNonNullElse(candidate.getEmail(), "")).thenComparing(Candidate::getId);
+
+        assertEquals(candidates.stream().sorted(byName).map(Candidate::getId).toList(), walk("name", false));
+        assertEquals(candidates.stream().sorted(byName.reversed()).map(Candidate::getId).toList(), walk("name", true));
+        assertEquals(candidates.stream().sorted(byEmail.reversed()).map(Candidate::getId).toList(), walk("email", true));
+        assertEquals(candidates.stream().map(Candidate::getId).sorted().toList(), walk("id", false));
+        assertEquals(candidates.stream().map(Candidate::getId).sorted(Comparator.reverseOrder()).toList(), walk("id", true));
+
+        CandidateListItemDTO aliceItem = candidateRepository.findListItemsAfter("id", false, null, alice.getId() - 1, 1).get(0);
+        assertEquals("Java, SQL", aliceItem.getSkills());
+        assertEquals(2, aliceItem.getWorkExperienceCount());
+        assertEquals(1, aliceItem.getEducationCount());
+    }
+
+    /**
+     * Ids of every candidate, read two at a time after the last row of the previous page
+     */
+    private List<Long> walk(String sortField, boolean descending) {
+        List<Long> ids = new ArrayList<>();
+        String afterKey = null;
+        Long afterId = null;
+        while (true) {
+            List<CandidateListItemDTO> page = candidateRepository.findListItemsAfter(sortField, descending, afterKey, afterId, 2);
+            if (page.isEmpty()) {
+                return ids;
+            }
+            page.forEach(item -> ids.add(item.getId()));
+            CandidateListItemDTO last = page.get(page.size() - 1);
+            afterKey = switch (sortField) {
+                case "name" -> last.getName();
+                case "email" -> last.getEmail();
+                default -> null;
+            };
+            afterId = last.getId();
+        }
+    }
+}
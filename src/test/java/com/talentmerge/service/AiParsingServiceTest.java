@@ -1,15 +1,29 @@
 package com.talentmerge.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talentmerge.model.Candidate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,7 +39,19 @@ class AiParsingServiceTest {
 
     @BeforeEach
     void setUp() {
-        aiParsingService = new AiParsingService(chatModel, promptService);
+        PromptCompactionService promptCompactionService = new PromptCompactionService(
+            new SectionSplittingService(),
+            new HybridAnonymizationService(new SectionSplittingService(), new PersonalInfoDetectionService()));
+        aiParsingService = new AiParsingService(chatModel, promptService, promptCompactionService,
+            new SectionSplittingService(), new ModelRoutingService(new SectionSplittingService()), new LlmUsageService(), new ObjectMapper());
+    }
+
+    private static Prompt promptWith(String text) {
+        return argThat(prompt -> prompt != null && text.equals(prompt.getContents()));
+    }
+
+    private static ChatResponse chatResponse(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
     }
 
     @Test
@@ -34,7 +60,7 @@ class AiParsingServiceTest {
         String resumeText = "John Doe\nSoftware Engineer\njohn@email.com\n+1234567890\nJava, Python, Spring Boot";
         
         String mockPrompt = "Parse this resume: " + resumeText;
-        when(promptService.createResumeParsingPrompt(resumeText)).thenReturn(mockPrompt);
+        when(promptService.createResumeParsingMessages(resumeText)).thenReturn(List.of(new UserMessage(mockPrompt)));
         
         String mockAiResponse = """
             {
@@ -61,7 +87,7 @@ class AiParsingServiceTest {
             }
             """;
         
-        when(chatModel.call(mockPrompt)).thenReturn(mockAiResponse);
+        when(chatModel.call(promptWith(mockPrompt))).thenReturn(chatResponse(mockAiResponse));
 
         // When
         Candidate result = aiParsingService.parseCandidateFromText(resumeText);
@@ -81,7 +107,7 @@ class AiParsingServiceTest {
         // Given
         String resumeText = "Simple resume text";
         String mockPrompt = "Parse resume";
-        when(promptService.createResumeParsingPrompt(resumeText)).thenReturn(mockPrompt);
+        when(promptService.createResumeParsingMessages(resumeText)).thenReturn(List.of(new UserMessage(mockPrompt)));
         
         String mockAiResponseWithMarkdown = """
             ```json
@@ -96,7 +122,7 @@ class AiParsingServiceTest {
             ```
             """;
         
-        when(chatModel.call(mockPrompt)).thenReturn(mockAiResponseWithMarkdown);
+        when(chatModel.call(promptWith(mockPrompt))).thenReturn(chatResponse(mockAiResponseWithMarkdown));
 
         // When
         Candidate result = aiParsingService.parseCandidateFromText(resumeText);
@@ -116,8 +142,8 @@ class AiParsingServiceTest {
         // Given
         String resumeText = "Some resume text";
         String mockPrompt = "Parse resume";
-        when(promptService.createResumeParsingPrompt(resumeText)).thenReturn(mockPrompt);
-        when(chatModel.call(mockPrompt)).thenThrow(new RuntimeException("API Error"));
+        when(promptService.createResumeParsingMessages(resumeText)).thenReturn(List.of(new UserMessage(mockPrompt)));
+        when(chatModel.call(promptWith(mockPrompt))).thenThrow(new RuntimeException("API Error"));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, 
@@ -131,8 +157,8 @@ class AiParsingServiceTest {
         // Given
         String resumeText = "Some resume text";
         String mockPrompt = "Parse resume";
-        when(promptService.createResumeParsingPrompt(resumeText)).thenReturn(mockPrompt);
-        when(chatModel.call(mockPrompt)).thenReturn("Invalid JSON response");
+        when(promptService.createResumeParsingMessages(resumeText)).thenReturn(List.of(new UserMessage(mockPrompt)));
+        when(chatModel.call(promptWith(mockPrompt))).thenReturn(chatResponse("Invalid JSON response"));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, 
@@ -140,4 +166,91 @@ class AiParsingServiceTest {
         
         assertTrue(exception.getMessage().contains("Failed to parse resume with AI"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseCandidateFromText_TruncatedResponseIsRepaired() {
+        // Given
+        String resumeText = "Some resume text";
+        String mockPrompt = "Parse resume";
+        when(promptService.createResumeParsingMessages(resumeText)).thenReturn(List.of(new UserMessage(mockPrompt)));
+        when(chatModel.call(promptWith(mockPrompt))).thenReturn(chatResponse("""
+            Here is the parsed resume:
+            {"name": "John Doe", "email": "john@email.com", "phone": null, "skills": "Java",
+             "workExperiences": [{"jobTitle": "Developer", "company": "Tech Corp", "startDate": "2020-01",
+               "endDate": null, "description": "Built APIs and maint"""));
+
+        // When
+        Candidate result = aiParsingService.parseCandidateFromText(resumeText);
+
+        // Then
+        assertEquals("John Doe", result.getName());
+        assertEquals(1, result.getWorkExperiences().size());
+        assertEquals(LocalDate.of(2020, 1, 1), result.getWorkExperiences().get(0).getStartDate());
+        assertEquals("Built APIs and maint", result.getWorkExperiences().get(0).getDescription());
+        // The repaired response is complete enough, so no follow-up is asked
+        verify(chatModel, times(1)).call(any(Prompt.class));
+    }
+
+    @Test
+    void testParseCandidateFromText_FollowUpOnlyForIncompleteFields() {
+        // Given
+        ReflectionTestUtils.setField(aiParsingService, "followUpEnabled", true);
+        String resumeText = "Some resume text";
+        String mockPrompt = "Parse resume";
+        when(promptService.createResumeParsingMessages(resumeText)).thenReturn(List.of(new UserMessage(mockPrompt)));
+        when(chatModel.call(promptWith(mockPrompt))).thenReturn(chatResponse("""
+            {"name": "John Doe", "email": null, "phone": null, "skills": "Java",
+             "workExperiences": [{"jobTitle": "Developer", "company": "Tech Corp",
+               "startDate": "Spring 2020", "endDate": "Present", "description": null}],
+             "educations": [{"institution": "MIT", "degree": "BSc", "graduationDate": "2019-06-01"}],
+            }
+            """));
+        when(promptService.createFollowUpMessages(resumeText, List.of("workExperiences[0].startDate")))
+            .thenReturn(List.of(new UserMessage("Follow up")));
+        when(chatModel.call(promptWith("Follow up"))).thenReturn(chatResponse("{\"workExperiences[0].startDate\": \"2020-03-01\"}"));
+
+        // When
+        Candidate result = aiParsingService.parseCandidateFromText(resumeText);
+
+        // Then
+        assertEquals(LocalDate.of(2020, 3, 1), result.getWorkExperiences().get(0).getStartDate());
+        assertNull(result.getWorkExperiences().get(0).getEndDate());
+        assertEquals(LocalDate.of(2019, 6, 1), result.getEducations().get(0).getGraduationDate());
+        verify(chatModel, times(2)).call(any(Prompt.class));
+    }
+
+    @Test
+    void testParseCandidateFromText_FollowUpForTheRestOfATruncatedArray() {
+        // Given
+        ReflectionTestUtils.setField(aiParsingService, "followUpEnabled", true);
+        String resumeText = """
+            John Doe
+
+            Experience
+            Developer - Tech Corp
+            Engineer - Startup Inc
+
+            Skills
+            Java""";
+        String experienceText = "EXPERIENCE\nDeveloper - Tech Corp\nEngineer - Startup Inc";
+        when(promptService.createResumeParsingMessages(resumeText)).thenReturn(List.of(new UserMessage("Parse resume")));
+        when(chatModel.call(promptWith("Parse resume"))).thenReturn(chatResponse("""
+            {"name": "John Doe", "email": "john@email.com", "phone": "+1234567890", "skills": "Java",
+             "workExperiences": [{"jobTitle": "Developer", "company": "Tech Corp", "startDate": null,
+               "endDate": null, "description": null}, {"jobTitle": "Engin"""));
+        when(promptService.createFollowUpMessages(
+                eq(experienceText), eq(List.of("educations", "workExperiences[1:]"))))
+            .thenReturn(List.of(new UserMessage("Follow up")));
+        when(chatModel.call(promptWith("Follow up"))).thenReturn(chatResponse("""
+            {"educations": [], "workExperiences[1:]": [{"jobTitle": "Engineer", "company": "Startup Inc"}]}"""));
+
+        // When
+        Candidate result = aiParsingService.parseCandidateFromText(resumeText);
+
+        // Then
+        assertEquals(2, result.getWorkExperiences().size());
+        assertEquals("Tech Corp", result.getWorkExperiences().get(0).getCompany());
+        assertEquals("Startup Inc", result.getWorkExperiences().get(1).getCompany());
+        assertTrue(result.getEducations().isEmpty());
+    }
+}
@@ -0,0 +1,117 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchParsingServiceTest {
+
+    private ManualParsingService manualParsingService;
+    private BatchParsingService batchParsingService;
+
+    @BeforeEach
+    void setUp() {
+        DictionaryService dictionaryService = new DictionaryService();
+        manualParsingService = new ManualParsingService(new SectionSplittingService(),
+                new WorkExperienceParsingService(dictionaryService), new PersonalInfoDetectionService(),
+                dictionaryService);
+        batchParsingService = new BatchParsingService(manualParsingService, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchParsingService.shutdown();
+    }
+
+    private static String resume(int i) {
+        return "Candidate " + i + "\n"
+                + "candidate" + i + "@example.com\n"
+                + "Experience\n"
+                + "Software Engineer\n"
+                + "Jan 2020 - Dec 2022\n"
+                + "Built services in Java\n"
+                + "Skills\n"
+                + (i % 2 == 0 ? "Java, Docker" : "Python");
+    }
+
+    @Test
+    @DisplayName("Should parse a batch like the single-document parser, in input order")
+    void testParseBatch_MatchesSequential() {
+        List<String> documents = IntStream.range(0, 200).mapToObj(BatchParsingServiceTest::resume).toList();
+
+        List<BatchParsingService.BatchResult> results = batchParsingService.parseBatch(documents);
+
+        assertEquals(documents.size(), results.size());
+        for (int i = 0; i < documents.size(); i++) {
+            BatchParsingService.BatchResult result = results.get(i);
+            Candidate expected = manualParsingService.parseCandidateFromText(documents.get(i));
+            assertEquals(i, result.index());
+            assertTrue(result.isSuccess());
+            assertEquals(expected.getName(), result.candidate().getName());
+            assertEquals(expected.getEmail(), result.candidate().getEmail());
+            assertEquals(expected.getSkills(), result.candidate().getSkills());
+            assertEquals(expected.getWorkExperiences().size(), result.candidate().getWorkExperiences().size());
+        }
+        assertEquals(documents.size(), batchParsingService.getDocumentsParsed());
+        assertTrue(batchParsingService.getLastThroughput() > 0);
+    }
+
+    @Test
+    @DisplayName("Should pull documents lazily and keep only a bounded window in flight")
+    void testParseAll_Lazy() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<String> documents = IntStream.range(0, 100_000)
+                .mapToObj(i -> {
+                    pulled.incrementAndGet();
+                    return resume(i);
+                });
+
+        List<String> names = batchParsingService.parseAll(documents)
+                .limit(10)
+                .map(result -> result.candidate().getName())
+                .toList();
+
+        assertEquals("Candidate 0", names.get(0));
+        assertEquals("Candidate 9", names.get(9));
+        assertTrue(pulled.get() <= 10 + batchParsingService.getParallelism() * 4, "pulled " + pulled.get());
+    }
+
+    @Test
+    @DisplayName("Should report a failing document in its result and go on with the next ones")
+    void testParseAll_Failure() {
+        ManualParsingService failingParser = new ManualParsingService(new SectionSplittingService(),
+                new WorkExperienceParsingService(new DictionaryService()), new PersonalInfoDetectionService(),
+                new DictionaryService()) {
+            @Override
+            public Candidate parseCandidateFromText(String text) {
+                if (text.startsWith("corrupt")) {
+                    throw new IllegalStateException("Unreadable document");
+                }
+                return super.parseCandidateFromText(text);
+            }
+        };
+        BatchParsingService failingBatch = new BatchParsingService(failingParser, 2);
+        try {
+            List<BatchParsingService.BatchResult> results =
+                    failingBatch.parseBatch(List.of(resume(0), "corrupt", resume(2)));
+
+            assertTrue(results.get(0).isSuccess());
+            assertFalse(results.get(1).isSuccess());
+            assertEquals("Unreadable document", results.get(1).error());
+            assertEquals("Candidate 2", results.get(2).candidate().getName());
+            assertEquals(2, failingBatch.getDocumentsParsed());
+            assertEquals(1, failingBatch.getDocumentsFailed());
+        } finally {
+            failingBatch.shutdown();
+        }
+    }
+}
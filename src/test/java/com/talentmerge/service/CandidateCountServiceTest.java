@@ -0,0 +1,51 @@
+package com.talentmerge.service;
+
+import com.talentmerge.repository.CandidateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CandidateCountServiceTest {
+
+    private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    @DisplayName("Should count the candidates once per TTL")
+    void testCountCandidates_Cached() {
+        when(candidateRepository.count()).thenReturn(42L);
+        CandidateCountService countService = new CandidateCountService(candidateRepository, jdbcTemplate, 60);
+
+        assertEquals(42, countService.countCandidates());
+        assertEquals(42, countService.countCandidates());
+
+        verify(candidateRepository, times(1)).count();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should use the catalog estimate, and fall back to count(*) without PostgreSQL objects")
+    void testEstimateCandidates() {
+        when(jdbcTemplate.queryForList(contains("pg_class"), eq(Long.class))).thenReturn(List.of(1_000_000L));
+        CandidateCountService countService = new CandidateCountService(candidateRepository, jdbcTemplate, 0);
+        assertEquals(1_000_000, countService.estimateCandidates());
+
+        // Never analyzed
+        when(jdbcTemplate.queryForList(contains("pg_class"), eq(Long.class))).thenReturn(List.of(-1L));
+        when(candidateRepository.count()).thenReturn(7L);
+        assertEquals(7, countService.estimateCandidates());
+
+        // Not PostgreSQL
+        when(jdbcTemplate.queryForList(contains("pg_class"), eq(Long.class)))
+                .thenThrow(new DataAccessResourceFailureException("relation does not exist"));
+        assertEquals(7, countService.estimateCandidates());
+    }
+}
@@ -0,0 +1,94 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import com.talentmerge.model.CandidateDocument;
+import com.talentmerge.repository.CandidateDocumentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandidateDocumentServiceTest {
+
+    @Mock
+    private CandidateDocumentRepository documentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private CandidateDocumentService documentService;
+
+    private static Candidate candidate(long id) {
+        Candidate candidate = new Candidate();
+        candidate.setId(id);
+        return candidate;
+    }
+
+    @Test
+    @DisplayName("Should store compressed text and skip the write when text and extractor are unchanged")
+    void testSaveText() {
+        when(documentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(documentService.saveText(candidate(1L), "Senior Java Developer", "v1"));
+
+        ArgumentCaptor<CandidateDocument> saved = ArgumentCaptor.forClass(CandidateDocument.class);
+        verify(documentRepository).save(saved.capture());
+        CandidateDocument document = saved.getValue();
+        assertEquals(21, document.getTextLength());
+        assertEquals(64, document.getContentHash().length());
+
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        assertFalse(documentService.saveText(candidate(1L), "Senior Java Developer", "v1"));
+        assertTrue(documentService.saveText(candidate(1L), "Senior Java Developer", "v2"));
+        verify(documentRepository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("Should pass each streamed document to the action and detach it")
+    void testForEachText() {
+        List<CandidateDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            when(documentRepository.findById(id)).thenReturn(Optional.empty());
+            documentService.saveText(candidate(id), "Resume " + id, "v1");
+        }
+        ArgumentCaptor<CandidateDocument> saved = ArgumentCaptor.forClass(CandidateDocument.class);
+        verify(documentRepository, times(3)).save(saved.capture());
+        for (CandidateDocument document : saved.getAllValues()) {
+            document.setCandidateId(document.getCandidate().getId());
+            documents.add(document);
+        }
+        when(documentRepository.streamAll()).thenReturn(documents.stream());
+
+        List<String> texts = new ArrayList<>();
+        long count = documentService.forEachText(document -> texts.add(document.candidateId() + ": " + document.text()));
+
+        assertEquals(3, count);
+        assertEquals(List.of("1: Resume 1", "2: Resume 2", "3: Resume 3"), texts);
+        verify(entityManager, times(3)).detach(any(CandidateDocument.class));
+    }
+
+    @Test
+    @DisplayName("Should decompress the text of one candidate")
+    void testFindText() {
+        when(documentRepository.findById(7L)).thenReturn(Optional.empty());
+        documentService.saveText(candidate(7L), "Ingénieur logiciel", "v1");
+        ArgumentCaptor<CandidateDocument> saved = ArgumentCaptor.forClass(CandidateDocument.class);
+        verify(documentRepository).save(saved.capture());
+        when(documentRepository.findById(7L)).thenReturn(Optional.of(saved.getValue()));
+
+        assertEquals(Optional.of("Ingénieur logiciel"), documentService.findText(7L));
+    }
+}
@@ -1,7 +1,9 @@
 package com.talentmerge.service;
 
 import com.talentmerge.dto.CandidateCreateRequestDTO;
+import com.talentmerge.dto.CandidateListItemDTO;
 import com.talentmerge.dto.CandidateResponseDTO;
+import com.talentmerge.dto.CandidateScrollResponseDTO;
 import com.talentmerge.dto.EducationCreateDTO;
 import com.talentmerge.dto.WorkExperienceCreateDTO;
 import com.talentmerge.exception.CandidateValidationException;
@@ -9,6 +11,8 @@ import com.talentmerge.model.Candidate;
 import com.talentmerge.model.Education;
 import com.talentmerge.model.WorkExperience;
 import com.talentmerge.repository.CandidateRepository;
+import com.talentmerge.repository.EducationRepository;
+import com.talentmerge.repository.WorkExperienceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +24,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -28,6 +34,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +45,15 @@ class CandidateServiceTest {
     @Mock
     private CandidateRepository candidateRepository;
 
+    @Mock
+    private WorkExperienceRepository workExperienceRepository;
+
+    @Mock
+    private EducationRepository educationRepository;
+
+    @Mock
+    private CandidateCountService candidateCountService;
+
     @InjectMocks
     private CandidateService candidateService;
 
@@ -206,6 +223,108 @@ class CandidateServiceTest {
         verify(candidateRepository, times(1)).findAll(pageable);
     }
 
+    @Test
+    void getAllCandidates_WithSearch_ShouldUseRankedFullTextSearch() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "id"));
+        Page<Candidate> candidatePage = new PageImpl<>(List.of(mockCandidate), PageRequest.of(2, 10), 21);
+
+        when(candidateRepository.search("java:* & spring:*", PageRequest.of(2, 10))).thenReturn(candidatePage);
+
+        // When
+        Page<?> result = candidateService.getAllCandidates(pageable, true, " Java, Spring!");
+
+        // Then
+        assertEquals(21, result.getTotalElements());
+        assertEquals("John Doe", ((CandidateResponseDTO) result.getContent().get(0)).getName());
+        verify(candidateRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void scrollCandidates_ShouldSeekAfterTheCursorWithoutCounting() {
+        // Given
+        List<CandidateListItemDTO> items = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            items.add(new CandidateListItemDTO(id, id == 2 ? "Jane | Doe" : "Name " + id, null, null, null, 0, 0));
+        }
+        when(candidateRepository.findListItemsAfter("name", false, null, null, 3)).thenReturn(items);
+        when(candidateRepository.findListItemsAfter("name", false, "Jane | Doe", 2L, 3)).thenReturn(items.subList(2, 3));
+
+        // When
+        CandidateScrollResponseDTO first = candidateService.scrollCandidates("name", false, 2, null, false);
+        CandidateScrollResponseDTO second = candidateService.scrollCandidates("name", false, 2, first.getNextCursor(), true);
+
+        // Then
+        assertEquals(2, first.getSize());
+        assertTrue(first.isHasNext());
+        assertNull(first.getTotalElements());
+        assertEquals(1, second.getSize());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        assertEquals(3L, second.getContent().get(0).getId());
+        verify(candidateCountService, times(1)).countCandidates();
+        verify(candidateRepository, never()).count();
+    }
+
+    @Test
+    void scrollCandidates_WithForeignOrInvalidCursor_ShouldThrowException() {
+        String byName = new CandidateCursor("name", false, "Jane", 2L).encode();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> candidateService.scrollCandidates("email", false, 10, byName, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> candidateService.scrollCandidates("name", true, 10, byName, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> candidateService.scrollCandidates("name", false, 10, "not a cursor!", false));
+        verify(candidateRepository, never()).findListItemsAfter(any(), anyBoolean(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllCandidates_ListItems_ShouldUseOneProjectionQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        CandidateListItemDTO item = new CandidateListItemDTO(1L, "John Doe", "john.doe@example.com", null, null, 2, 1);
+        when(candidateRepository.findListItems(pageable)).thenReturn(new PageImpl<>(List.of(item), pageable, 1));
+
+        // When
+        Page<?> result = candidateService.getAllCandidates(pageable, false);
+
+        // Then
+        assertEquals(List.of(item), result.getContent());
+        verify(candidateRepository, never()).findAll(any(Pageable.class));
+        verifyNoInteractions(workExperienceRepository, educationRepository);
+    }
+
+    @Test
+    void getAllCandidates_WithEstimatedTotal_ShouldNotCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        CandidateListItemDTO item = new CandidateListItemDTO(1L, "John Doe", "john.doe@example.com", null, null, 0, 0);
+        when(candidateRepository.findListItemSlice(pageable)).thenReturn(new SliceImpl<>(List.of(item), pageable, false));
+        Pageable secondPage = PageRequest.of(1, 10);
+        when(candidateRepository.findListItemSlice(secondPage)).thenReturn(new SliceImpl<>(List.of(item), secondPage, true));
+        when(candidateCountService.estimateCandidates()).thenReturn(1_000L);
+
+        // When
+        Page<?> lastPage = candidateService.getAllCandidates(pageable, false, null, true);
+        Page<?> middlePage = candidateService.getAllCandidates(secondPage, false, null, true);
+
+        // Then
+        assertEquals(1, lastPage.getTotalElements()); // Exact on the last page
+        assertEquals(1_000, middlePage.getTotalElements());
+        verify(candidateCountService, times(1)).estimateCandidates();
+        verify(candidateRepository, never()).findListItems(any(Pageable.class));
+        verify(candidateRepository, never()).count();
+    }
+
+    @Test
+    void toPrefixQuery_ShouldKeepOnlyWordsAsPrefixTerms() {
+        assertEquals("c:* & développeur:* & 2020:*", CandidateService.toPrefixQuery("C++ Développeur 2020"));
+        assertEquals("drop:* & table:*", CandidateService.toPrefixQuery("'); drop table --"));
+        assertNull(CandidateService.toPrefixQuery(" &|!:* "));
+        assertNull(CandidateService.toPrefixQuery(null));
+    }
+
     @Test
     void getCandidateById_WithExistingId_ShouldReturnCandidate() {
         // Given
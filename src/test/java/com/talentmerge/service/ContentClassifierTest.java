@@ -0,0 +1,133 @@
+package com.talentmerge.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentClassifierTest {
+
+    private final ContentClassifier classifier = new ContentClassifier();
+
+    private static final List<String> LINES = List.of(
+            "Senior Java Developer at Tech Corp", "John Smith", "john@example.com", "+1 (555) 123-4567",
+            "Experience", "skills", "About", "2018 - 2020", "2019–present", "Since 2015 - current role",
+            "8+ years of experience", "experience of many years", "years of experience since 2010",
+            "I love hiking and photography", "Based in Paris", "Ingénieur logiciel chez ACME SARL",
+            "Master in Computer Science, MIT", "Room 12 34", "call 555 123 45", "555 123 456 is mine",
+            "Hello", "abc", "Jean\tDupont", "Jean  Dupont Jr", "Worked on 2017-2019 projects",
+            "1999 - 2001", "20201 - 20222", "Hobbies: guitar", "Led a team of 5", "ordinary text here");
+
+    private static final List<String> SENTENCES = List.of(
+            "Experienced software engineer", "I am 30 years old", "Born in Lyon and skilled at Java",
+            "Call +33 6 12 34 56 78 for my expertise", "Manager with a focus on delivery",
+            "I come from a professional background", "Short one", "Specializing in cloud platforms",
+            "Expertise in 1 2 3 systems", "Expertise: 12-34-56 is a code", "Married, two kids",
+            "Developer skilled in Go");
+
+    @Test
+    @DisplayName("Should classify lines as the regular expression rules did")
+    void testIsProfessionalLine() {
+        for (String line : LINES) {
+            String lower = line.toLowerCase();
+            assertEquals(legacyIsProfessionalLine(lower), classifier.isProfessionalLine(lower), line);
+        }
+    }
+
+    @Test
+    @DisplayName("Should classify sentences as the regular expression rules did")
+    void testIsProfessionalSentence() {
+        for (String sentence : SENTENCES) {
+            assertEquals(legacyIsProfessionalSentence(sentence), classifier.isProfessionalSentence(sentence), sentence);
+        }
+    }
+
+    @Test
+    @DisplayName("Should split and classify a summary as split(\"[.!?]+\") would, whole or in chunks")
+    void testClassifySentences() {
+        String summary = "..Experienced software engineer! I am 30 years old?? Developer skilled in Go.  . "
+                + "Manager with a focus on delivery... Expertise in code 123456 ! Expertise in code 123456 7? "
+                + "Call me at 12-34-56-78, skilled developer.";
+
+        List<String> kept = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (ContentClassifier.Sentence sentence : classifier.classifySentences(summary)) {
+            (sentence.professional() ? kept : removed).add(sentence.text());
+        }
+
+        // Chunks that cut sentences and runs of sentence ends
+        List<ContentClassifier.Sentence> chunked = new ArrayList<>();
+        ContentClassifier.SentenceSplitter splitter = classifier.sentenceSplitter();
+        for (int i = 0; i < summary.length(); i += 7) {
+            chunked.addAll(splitter.append(summary.substring(i, Math.min(i + 7, summary.length()))));
+        }
+        chunked.addAll(splitter.finish());
+
+        List<String> expectedKept = new ArrayList<>();
+        List<String> expectedRemoved = new ArrayList<>();
+        for (String sentence : summary.split("[.!?]+")) {
+            (legacyIsProfessionalSentence(sentence.trim()) ? expectedKept : expectedRemoved).add(sentence.trim());
+        }
+        assertEquals(expectedKept, kept);
+        assertEquals(expectedRemoved, removed);
+        assertEquals(classifier.classifySentences(summary), chunked);
+    }
+
+    @Test
+    @DisplayName("Should classify a large summary in linear time")
+    void testClassifySentences_LargeInput() {
+        StringBuilder summary = new StringBuilder();
+        while (summary.length() < 1_000_000) {
+            summary.append(" Experienced engineer skilled in Java. I live in Paris. 0123456789 ")
+                    .append("9".repeat(200)).append('!');
+        }
+
+        List<ContentClassifier.Sentence> sentences =
+                assertTimeoutPreemptively(Duration.ofSeconds(2), () -> classifier.classifySentences(summary));
+        long professional = sentences.stream().filter(ContentClassifier.Sentence::professional).count();
+        assertEquals(professional * 2, sentences.size() - professional);
+    }
+
+    private static boolean legacyIsProfessionalLine(String lower) {
+        if (lower.length() < 5) return false;
+        for (String phrase : List.of("@", "linkedin", "years old", "born", "live in", "based in", "living in",
+                "love hiking", "love playing", "free time", "hobbies", "guitar", "photography")) {
+            if (lower.contains(phrase)) return false;
+        }
+        if (Pattern.compile("[0-9][0-9 ()-]{8,}").matcher(lower).find()
+                || Pattern.compile("[a-zA-Z]+\\s+[a-zA-Z]+").matcher(lower).matches()) {
+            return false;
+        }
+        if (Pattern.compile("summary|profile|experience|education|skills|about").matcher(lower).matches()) {
+            return false;
+        }
+        for (String keyword : List.of("engineer", "developer", "manager", "analyst", "director", "consultant",
+                "senior", "lead", "developed", "led", "managed", "implemented", "microservices", "team",
+                "university", "college", "degree", "bachelor", "master", "phd", "gpa", "mit", "computer science",
+                "java", "python", "javascript", "react", "spring", "aws", "docker", "sql",
+                "corp", "inc", "ltd", "llc", "tech corp",
+                "ingénieur", "développeur", "université", "diplôme", "sarl", "sas")) {
+            if (lower.contains(keyword)) return true;
+        }
+        return Pattern.compile("\\d{4}\\s*[-–]\\s*(\\d{4}|present|current)").matcher(lower).find()
+                || (lower.contains("experience") && Pattern.compile("\\d.*years").matcher(lower).find());
+    }
+
+    private static boolean legacyIsProfessionalSentence(String sentence) {
+        if (sentence.length() < 10) return false;
+        String lower = sentence.toLowerCase();
+        if (lower.contains("years old") || lower.contains("born") || lower.contains("married")
+                || lower.contains("live in") || lower.contains("based in") || lower.contains("from")
+                || lower.contains("@") || lower.matches(".*\\+?[0-9][0-9 ()-]{6,}.*")) {
+            return false;
+        }
+        return lower.contains("experience") || lower.contains("skilled") || lower.contains("expertise")
+                || lower.contains("developer") || lower.contains("engineer") || lower.contains("manager")
+                || lower.contains("professional") || lower.contains("specializ") || lower.contains("focus");
+    }
+}
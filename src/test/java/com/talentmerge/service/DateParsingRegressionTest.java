@@ -0,0 +1,386 @@
+package com.talentmerge.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regression corpus for the shared date scanner: the three date parsers must give the same dates as
+ * the regex implementations they replaced, kept below as the reference.
+ */
+class DateParsingRegressionTest {
+
+    private static final List<String> RANGE_CORPUS = List.of(
+            "Jan 2020 - Dec 2022",
+            "January 2019 – March 2021",
+            "December 2019 - February 2020",
+            "Oct 2015 - Dec 2017",
+            "Acme Corp | Mar 2016 - Aug 2019",
+            "Sep 2018 - Present",
+            "sept 2017 - Current",
+            "avril 2018 - mai 2020",
+            "sept 2019 - juil 2021",
+            "janv 2020 - Aujourd'hui",
+            "mars 2021 - actuel",
+            "du janv 2020 au juil 2022",
+            "01/2020 - 12/2022",
+            "03/2015 – 06/2018",
+            "de 01/2020 à 12/2022",
+            "2018 - 2021",
+            "2019 - Present",
+            "Jan 1940 - Dec 1945",
+            "13/2020 - 14/2022",
+            "Software Engineer at Acme",
+            "Managed a team of 12 engineers across 3 sites",
+            "");
+
+    private static final List<String> GRADUATION_CORPUS = List.of(
+            "Jan 2020", "janv. 2019", "Sept 2015", "mai 2021", "août 2019",
+            "12/2020", "06/2018", "13/2020", "2017", "Dec 2150", "Present", "Aujourd'hui", "");
+
+    private final DateParsingService dateParsingService = new DateParsingService();
+    private final WorkExperienceParsingService workExperienceParsingService = new WorkExperienceParsingService(new DictionaryService());
+    private final ManualParsingService manualParsingService = new ManualParsingService(new SectionSplittingService(),
+            workExperienceParsingService, new PersonalInfoDetectionService(), new DictionaryService());
+
+    @Test
+    @DisplayName("DateParsingService should parse the corpus to the same ranges as the regex patterns")
+    void testDateParsingService_MatchesLegacy() {
+        for (String line : RANGE_CORPUS) {
+            LocalDate[] expected = LegacyDateParsing.parseDateRange(line);
+            DateParsingService.DateRangeResult actual = dateParsingService.parseDateRange(line);
+
+            assertEquals(expected != null, actual.isValid, line);
+            if (expected != null) {
+                assertEquals(expected[0], actual.startDate, line);
+                assertEquals(expected[1], actual.endDate, line);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("WorkExperienceParsingService should find the same date lines and ranges as the regex patterns")
+    void testWorkExperienceDates_MatchesLegacy() {
+        for (String line : RANGE_CORPUS) {
+            LocalDate[] expected = LegacyWorkExperienceDates.parseDateLine(line);
+            WorkExperienceParsingService.DateRange actual = workExperienceParsingService.parseDateLine(line);
+
+            assertEquals(LegacyWorkExperienceDates.containsDatePattern(line), actual != null, line);
+            if (expected != null) {
+                assertEquals(expected[0], actual.startDate, line);
+                assertEquals(expected[1], actual.endDate, line);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ManualParsingService should parse graduation dates like the regex implementation")
+    void testGraduationDates_MatchesLegacy() {
+        for (String date : GRADUATION_CORPUS) {
+            assertEquals(LegacyManualDates.parseDate(date), manualParsingService.parseDate(date), date);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fix the forms the regex patterns misread or missed")
+    void testFixedForms() {
+        // Quarters used to become the quarter's number as a month (Q4 -> April)
+        DateParsingService.DateRangeResult quarters = dateParsingService.parseDateRange("Q1 2020 - Q4 2022");
+        assertEquals(LocalDate.of(2020, 1, 1), quarters.startDate);
+        assertEquals(LocalDate.of(2022, 10, 1), quarters.endDate);
+
+        // The start month used to be dropped when a numeric date ran to an ongoing word
+        assertEquals(LocalDate.of(2020, 5, 1), dateParsingService.parseDateRange("05/2020 - Aujourd'hui").startDate);
+
+        // "now" inside an unrelated word used to mark the range as ongoing
+        assertEquals(LocalDate.of(2022, 12, 1),
+                dateParsingService.parseDateRange("Jan 2020 - Dec 2022 at Snowflake").endDate);
+
+        // YYYY-MM ranges used to parse to year 1 in work experience
+        WorkExperienceParsingService.DateRange yearMonth = workExperienceParsingService.parseDateLine("2020-01 - 2022-12");
+        assertEquals(LocalDate.of(2020, 1, 1), yearMonth.startDate);
+        assertEquals(LocalDate.of(2022, 12, 1), yearMonth.endDate);
+
+        // Accented French months used to be skipped or read as January in work experience
+        WorkExperienceParsingService.DateRange french = workExperienceParsingService.parseDateLine("juin 2016 - août 2018");
+        assertEquals(LocalDate.of(2018, 8, 1), french.endDate);
+        assertEquals(LocalDate.of(2022, 12, 1),
+                workExperienceParsingService.parseDateLine("janvier 2020 - décembre 2022").endDate);
+
+        // Connector words and abbreviation dots are now accepted by every parser
+        assertNotNull(workExperienceParsingService.parseDateLine("Jan 2020 to Dec 2022"));
+        assertEquals(LocalDate.of(2021, 2, 1),
+                workExperienceParsingService.parseDateLine("Jan. 2020 - Feb. 2021").endDate);
+    }
+
+    @Test
+    @DisplayName("Should reject lines without a year before scanning them")
+    void testDatePrefilter() {
+        for (String line : List.of("Software Engineer at Acme", "Managed a team of 12 engineers across 3 sites", "Jan - Dec")) {
+            assertFalse(dateParsingService.parseDateRange(line).isValid);
+            assertNull(workExperienceParsingService.parseDateLine(line));
+        }
+    }
+
+    /**
+     * DateParsingService before the shared scanner; returns {start, end}, or null when invalid
+     */
+    private static class LegacyDateParsing {
+        private record DatePattern(Pattern pattern, String type, List<Integer> groupOrder) {
+        }
+
+        private static final List<DatePattern> DATE_PATTERNS = Arrays.asList(
+                new DatePattern(Pattern.compile("(\\w{3,9})\\s+(\\d{4})\\s*[-–—]\\s*(\\w{3,9})\\s+(\\d{4})", Pattern.CASE_INSENSITIVE),
+                        "MONTH_YEAR_TO_MONTH_YEAR", Arrays.asList(1, 2, 3, 4)),
+                new DatePattern(Pattern.compile("(\\d{1,2})/(\\d{4})\\s*[-–—]\\s*(\\d{1,2})/(\\d{4})", Pattern.CASE_INSENSITIVE),
+                        "MM_YYYY_TO_MM_YYYY", Arrays.asList(1, 2, 3, 4)),
+                new DatePattern(Pattern.compile("(\\d{4})[-.]?(\\d{2})\\s*[-–—]\\s*(\\d{4})[-.]?(\\d{2})", Pattern.CASE_INSENSITIVE),
+                        "YYYY_MM_TO_YYYY_MM", Arrays.asList(1, 2, 3, 4)),
+                new DatePattern(Pattern.compile("(\\w{3,9})\\s+(\\d{4})\\s*[-–—]\\s*(present|current|now)", Pattern.CASE_INSENSITIVE),
+                        "MONTH_YEAR_TO_PRESENT", Arrays.asList(1, 2, -1, -1)),
+                new DatePattern(Pattern.compile("(janvier|février|mars|avril|mai|juin|juillet|août|septembre|octobre|novembre|décembre|janv|févr|avr|juil|sept|oct|nov|déc)\\s+(\\d{4})\\s*[-–—]\\s*(janvier|février|mars|avril|mai|juin|juillet|août|septembre|octobre|novembre|décembre|janv|févr|avr|juil|sept|oct|nov|déc)\\s+(\\d{4})", Pattern.CASE_INSENSITIVE),
+                        "FRENCH_MONTH_YEAR_TO_MONTH_YEAR", Arrays.asList(1, 2, 3, 4)),
+                new DatePattern(Pattern.compile("(\\w{3,9})\\s+(\\d{4})\\s*[-–—]\\s*(aujourd'hui|actuel|maintenant)", Pattern.CASE_INSENSITIVE),
+                        "FRENCH_MONTH_YEAR_TO_PRESENT", Arrays.asList(1, 2, -1, -1)),
+                new DatePattern(Pattern.compile("du\\s+(\\w{3,9})\\s+(\\d{4})\\s+au\\s+(\\w{3,9})\\s+(\\d{4})", Pattern.CASE_INSENSITIVE),
+                        "FRENCH_DU_AU", Arrays.asList(1, 2, 3, 4)),
+                new DatePattern(Pattern.compile("de\\s+(\\d{1,2})/(\\d{4})\\s+[àa]\\s+(\\d{1,2})/(\\d{4})", Pattern.CASE_INSENSITIVE),
+                        "FRENCH_DE_A", Arrays.asList(1, 2, 3, 4)),
+                new DatePattern(Pattern.compile("(\\d{4})\\s*[-–—]\\s*(\\d{4})", Pattern.CASE_INSENSITIVE),
+                        "YEAR_TO_YEAR", Arrays.asList(-1, 1, -1, 2)),
+                new DatePattern(Pattern.compile("(\\d{4})\\s*[-–—]\\s*(present|current|aujourd'hui|actuel)", Pattern.CASE_INSENSITIVE),
+                        "YEAR_TO_PRESENT", Arrays.asList(-1, 1, -1, -1)),
+                new DatePattern(Pattern.compile("Q(\\d)\\s+(\\d{4})\\s*[-–—]\\s*Q(\\d)\\s+(\\d{4})", Pattern.CASE_INSENSITIVE),
+                        "QUARTER_TO_QUARTER", Arrays.asList(1, 2, 3, 4)));
+
+        private static final Map<String, Integer> MONTH_MAPPINGS = new HashMap<>();
+
+        static {
+            String[][] names = {
+                    {"jan", "january", "janv", "janvier"}, {"feb", "february", "févr", "février", "fev", "fevrier"},
+                    {"mar", "march", "mars"}, {"apr", "april", "avr", "avril"}, {"may", "mai"},
+                    {"jun", "june", "juin"}, {"jul", "july", "juil", "juillet"}, {"aug", "august", "août", "aout"},
+                    {"sep", "september", "sept", "septembre"}, {"oct", "october", "octobre"},
+                    {"nov", "november", "novembre"}, {"dec", "december", "déc", "décembre", "decembre"}};
+            for (int month = 1; month <= 12; month++) {
+                for (String name : names[month - 1]) {
+                    MONTH_MAPPINGS.put(name, month);
+                }
+            }
+        }
+
+        static LocalDate[] parseDateRange(String dateText) {
+            if (dateText == null || dateText.trim().isEmpty()) {
+                return null;
+            }
+            String cleaned = dateText.toLowerCase().replaceAll("[,.]", "").replaceAll("\\s+", " ")
+                    .replaceAll("–", "-").replaceAll("—", "-")
+                    .replaceAll("\\bto\\b", " - ").replaceAll("\\btill?\\b", " - ").trim();
+            for (DatePattern pattern : DATE_PATTERNS) {
+                Matcher matcher = pattern.pattern().matcher(cleaned);
+                if (matcher.find()) {
+                    try {
+                        List<Integer> groups = pattern.groupOrder();
+                        String startMonth = group(matcher, groups.get(0));
+                        String startYear = group(matcher, groups.get(1));
+                        String endMonth = group(matcher, groups.get(2));
+                        String endYear = group(matcher, groups.get(3));
+                        if (pattern.type().equals("YYYY_MM_TO_YYYY_MM")) {
+                            String year = startMonth;
+                            startMonth = startYear;
+                            startYear = year;
+                            year = endMonth;
+                            endMonth = endYear;
+                            endYear = year;
+                        }
+                        boolean ongoing = cleaned.contains("present") || cleaned.contains("current") || cleaned.contains("now")
+                                || cleaned.contains("aujourd'hui") || cleaned.contains("actuel") || cleaned.contains("maintenant");
+                        LocalDate start = parseDate(startMonth, startYear, pattern.type());
+                        LocalDate end = ongoing ? null : parseDate(endMonth, endYear, pattern.type());
+                        return new LocalDate[]{start, end};
+                    } catch (Exception e) {
+                        // Continue to next pattern
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static String group(Matcher matcher, int index) {
+            return index == -1 ? null : matcher.group(index);
+        }
+
+        private static LocalDate parseDate(String monthStr, String yearStr, String patternType) {
+            if (yearStr == null) {
+                throw new IllegalArgumentException("Year is required");
+            }
+            int year = Integer.parseInt(yearStr.trim());
+            if (year < 100) {
+                year += (year < 50) ? 2000 : 1900;
+            }
+            int month = 1;
+            if (monthStr != null && !monthStr.trim().isEmpty()) {
+                if (monthStr.matches("\\d+")) {
+                    month = Integer.parseInt(monthStr.trim());
+                    if (month < 1 || month > 12) {
+                        throw new IllegalArgumentException("Invalid month number");
+                    }
+                } else {
+                    month = parseMonthName(monthStr);
+                }
+            }
+            if (year < 1950 || year > LocalDate.now().getYear() + 1) {
+                throw new IllegalArgumentException("Year out of reasonable range");
+            }
+            return YearMonth.of(year, month).atDay(1);
+        }
+
+        private static int parseMonthName(String monthName) {
+            String cleaned = monthName.toLowerCase().trim().replaceAll("[.,]", "");
+            Integer month = MONTH_MAPPINGS.get(cleaned);
+            if (month != null) {
+                return month;
+            }
+            for (Map.Entry<String, Integer> entry : MONTH_MAPPINGS.entrySet()) {
+                if (entry.getKey().startsWith(cleaned) || cleaned.startsWith(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+            throw new IllegalArgumentException("Unknown month name");
+        }
+    }
+
+    /**
+     * WorkExperienceParsingService date lines before the shared scanner; returns {start, end}, or null
+     */
+    private static class LegacyWorkExperienceDates {
+        private static final List<Pattern> DATE_PATTERNS = Arrays.asList(
+                Pattern.compile("(\\w{3,})\\s+(\\d{4})\\s*[-–]\\s*(\\w{3,})\\s+(\\d{4})", Pattern.CASE_INSENSITIVE),
+                Pattern.compile("(\\d{1,2})/(\\d{4})\\s*[-–]\\s*(\\d{1,2})/(\\d{4})"),
+                Pattern.compile("(\\d{4})[-.]?(\\d{2})\\s*[-–]\\s*(\\d{4})[-.]?(\\d{2})"),
+                Pattern.compile("(\\w{3,})\\s+(\\d{4})\\s*[-–]\\s*(present|current)", Pattern.CASE_INSENSITIVE),
+                Pattern.compile("(\\w{3,})\\s+(\\d{4})\\s*[-–]\\s*(aujourd'hui|actuel)", Pattern.CASE_INSENSITIVE),
+                Pattern.compile("(\\d{1,2})/(\\d{4})\\s*[-–]\\s*(aujourd'hui|actuel)", Pattern.CASE_INSENSITIVE),
+                Pattern.compile("du\\s+(\\w{3,})\\s+(\\d{4})\\s+au\\s+(\\w{3,})\\s+(\\d{4})", Pattern.CASE_INSENSITIVE),
+                Pattern.compile("de\\s+(\\d{1,2})/(\\d{4})\\s+à\\s+(\\d{1,2})/(\\d{4})"));
+
+        static boolean containsDatePattern(String line) {
+            return DATE_PATTERNS.stream().anyMatch(pattern -> pattern.matcher(line).find());
+        }
+
+        static LocalDate[] parseDateLine(String dateLine) {
+            for (Pattern pattern : DATE_PATTERNS) {
+                Matcher matcher = pattern.matcher(dateLine);
+                if (matcher.find()) {
+                    String lowerLine = dateLine.toLowerCase();
+                    boolean ongoing = lowerLine.contains("present") || lowerLine.contains("current")
+                            || lowerLine.contains("aujourd'hui") || lowerLine.contains("actuel");
+                    try {
+                        LocalDate start = parseDate(matcher.group(1), matcher.group(2));
+                        LocalDate end = ongoing ? null : parseDate(matcher.group(3), matcher.group(4));
+                        return new LocalDate[]{start, end};
+                    } catch (Exception e) {
+                        // Continue to next pattern
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static LocalDate parseDate(String monthStr, String yearStr) {
+            try {
+                int year = Integer.parseInt(yearStr);
+                int month = monthStr.matches("\\d+") ? Integer.parseInt(monthStr) : parseMonthName(monthStr);
+                return YearMonth.of(year, month).atDay(1);
+            } catch (Exception e) {
+                return LocalDate.of(Integer.parseInt(yearStr), 1, 1);
+            }
+        }
+
+        private static int parseMonthName(String monthName) {
+            Map<String, Integer> months = new HashMap<>();
+            String[][] names = {
+                    {"jan", "january", "janv", "janvier"}, {"feb", "february", "févr", "février"},
+                    {"mar", "march", "mars"}, {"apr", "april", "avr", "avril"}, {"may", "mai"},
+                    {"jun", "june", "juin"}, {"jul", "july", "juil", "juillet"}, {"aug", "august", "août"},
+                    {"sep", "september", "sept", "septembre"}, {"oct", "october", "octobre"},
+                    {"nov", "november", "novembre"}, {"dec", "december", "déc", "décembre"}};
+            for (int month = 1; month <= 12; month++) {
+                for (String name : names[month - 1]) {
+                    months.put(name, month);
+                }
+            }
+            return months.getOrDefault(monthName.toLowerCase().replaceAll("[.]", ""), 1);
+        }
+    }
+
+    /**
+     * ManualParsingService.parseDate before the shared scanner
+     */
+    private static class LegacyManualDates {
+        static LocalDate parseDate(String dateString) {
+            if (dateString == null || dateString.isEmpty()
+                    || dateString.equalsIgnoreCase("Present") || dateString.equalsIgnoreCase("Aujourd'hui")
+                    || dateString.equalsIgnoreCase("Current") || dateString.equalsIgnoreCase("Actuel")) {
+                return null;
+            }
+            String cleanedDate = dateString.trim().replace(".", "").replaceAll("\\s+", " ");
+
+            Matcher mmYyyyMatcher = Pattern.compile("\\d{1,2}/\\d{4}").matcher(cleanedDate);
+            if (mmYyyyMatcher.find()) {
+                try {
+                    String[] parts = mmYyyyMatcher.group().split("/");
+                    return LocalDate.of(Integer.parseInt(parts[1]), Integer.parseInt(parts[0]), 1);
+                } catch (Exception e) {
+                    // Continue to other patterns
+                }
+            }
+
+            Matcher yearMatcher = Pattern.compile("\\b(19|20)\\d{2}\\b").matcher(cleanedDate);
+            if (yearMatcher.find()) {
+                return LocalDate.of(Integer.parseInt(yearMatcher.group()), 1, 1);
+            }
+
+            Map<String, Integer> monthMap = new HashMap<>();
+            String[] names = {"jan", "january", "feb", "february", "mar", "march", "apr", "april", "may", "jun", "june",
+                    "jul", "july", "aug", "august", "sep", "september", "oct", "october", "nov", "november", "dec", "december"};
+            int[] months = {1, 1, 2, 2, 3, 3, 4, 4, 5, 6, 6, 7, 7, 8, 8, 9, 9, 10, 10, 11, 11, 12, 12};
+            for (int i = 0; i < names.length; i++) {
+                monthMap.put(names[i], months[i]);
+            }
+            String[] frenchNames = {"janv", "janvier", "févr", "février", "mars", "avr", "avril", "mai", "juin", "juil",
+                    "juillet", "août", "sept", "septembre", "octobre", "novembre", "déc", "décembre"};
+            int[] frenchMonths = {1, 1, 2, 2, 3, 4, 4, 5, 6, 7, 7, 8, 9, 9, 10, 11, 12, 12};
+            for (int i = 0; i < frenchNames.length; i++) {
+                monthMap.put(frenchNames[i], frenchMonths[i]);
+            }
+
+            Matcher monthYearMatcher = Pattern.compile("(?i)\\b(\\d{4})\\b|\\b(" + String.join("|", monthMap.keySet()) + ")\\b")
+                    .matcher(cleanedDate.toLowerCase());
+            Integer month = null;
+            Integer year = null;
+            while (monthYearMatcher.find()) {
+                String matched = monthYearMatcher.group().toLowerCase();
+                if (matched.matches("\\d{4}")) {
+                    year = Integer.parseInt(matched);
+                } else if (monthMap.containsKey(matched)) {
+                    month = monthMap.get(matched);
+                }
+            }
+            if (year != null) {
+                return LocalDate.of(year, month != null ? month : 1, 1);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import com.talentmerge.text.DictionarySnapshot;
+import com.talentmerge.text.Lexicon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private DictionaryService dictionaryService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<String> files = new ArrayList<>(List.of(Lexicon.MANIFEST, "skills.lex"));
+        Lexicon.standard().languages().forEach(language -> files.add(language + ".lex"));
+        for (String file : files) {
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream("lexicons/" + file)) {
+                Files.copy(in, directory.resolve(file));
+            }
+        }
+        dictionaryService = new DictionaryService(directory.toString(), 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dictionaryService.shutdown();
+    }
+
+    private void write(String file, String content) throws IOException {
+        Files.writeString(directory.resolve(file), content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should swap in a new snapshot on reload while a held snapshot stays unchanged")
+    void testReload() throws IOException {
+        DictionarySnapshot before = dictionaryService.current();
+        assertEquals(DictionarySnapshot.standard().version(), before.version());
+
+        write(Lexicon.MANIFEST, Files.readString(directory.resolve(Lexicon.MANIFEST))
+                .replaceAll("(?m)^version=.*$", "version=test-2"));
+        write("skills.lex", "[skill]\nJava\nTerraform\n[synonym]\nTF = Terraform\n");
+        DictionarySnapshot after = dictionaryService.reload();
+
+        assertSame(after, dictionaryService.current());
+        assertTrue(after.version().startsWith("test-2+"));
+        assertEquals("Java, Terraform", after.skills().find("Java and TF"));
+        assertEquals("Java", before.skills().find("Java and TF"));
+        assertEquals(1, dictionaryService.getReloads());
+    }
+
+    @Test
+    @DisplayName("Should keep the current snapshot when the new files do not compile")
+    void testReload_Failure() throws IOException {
+        DictionarySnapshot before = dictionaryService.current();
+        write("skills.lex", "[skill]\nJava\n[synonym]\nJDK = OpenJDK\n");
+
+        assertThrows(IllegalArgumentException.class, dictionaryService::reload);
+        assertSame(before, dictionaryService.current());
+        assertEquals(1, dictionaryService.getFailedReloads());
+    }
+
+    @Test
+    @DisplayName("Should record the dictionary version on each parsed candidate")
+    void testParse_RecordsVersion() throws IOException {
+        ManualParsingService parser = new ManualParsingService(new SectionSplittingService(dictionaryService),
+                new WorkExperienceParsingService(dictionaryService), new PersonalInfoDetectionService(),
+                dictionaryService);
+        String resume = "Jane Doe\njane@example.com\nSkills\nJava, Terraform";
+        assertEquals(DictionarySnapshot.standard().version(), parser.parseCandidateFromText(resume).getDictionaryVersion());
+
+        write(Lexicon.MANIFEST, Files.readString(directory.resolve(Lexicon.MANIFEST))
+                .replaceAll("(?m)^version=.*$", "version=test-3"));
+        write("skills.lex", "[skill]\nTerraform\n");
+        dictionaryService.reload();
+
+        Candidate candidate = parser.parseCandidateFromText(resume);
+        assertTrue(candidate.getDictionaryVersion().startsWith("test-3+"));
+        assertEquals("Terraform", candidate.getSkills());
+    }
+
+    @Test
+    @DisplayName("Should change the version when a file changes without a manifest bump")
+    void testReload_VersionFollowsContent() throws IOException {
+        String before = dictionaryService.current().version();
+
+        write("skills.lex", "[skill]\nJava\nTerraform\n");
+        String after = dictionaryService.reload().version();
+
+        assertNotEquals(before, after);
+        assertEquals(before.substring(0, before.indexOf('+')), after.substring(0, after.indexOf('+')));
+    }
+
+    @Test
+    @DisplayName("Should apply reloaded section headers and month names")
+    void testReload_SectionsAndMonths() throws IOException {
+        SectionSplittingService sectionSplittingService = new SectionSplittingService(dictionaryService);
+        DateParsingService dateParsingService = new DateParsingService(dictionaryService);
+        assertNull(sectionSplittingService.matchHeader("Track Record", ""));
+        assertFalse(dateParsingService.parseDateRange("Jnr 2020 - Dec 2021").isValid);
+
+        write("en.lex", Files.readString(directory.resolve("en.lex"))
+                .replace("[section.experience]\n", "[section.experience]\ntrack record\n")
+                .replace("[month.1]\n", "[month.1]\njnr\n"));
+        dictionaryService.reload();
+
+        assertEquals("experience", sectionSplittingService.matchHeader("Track Record", "").key());
+        DateParsingService.DateRangeResult range = dateParsingService.parseDateRange("Jnr 2020 - Dec 2021");
+        assertTrue(range.isValid);
+        assertEquals(LocalDate.of(2020, 1, 1), range.startDate);
+    }
+}
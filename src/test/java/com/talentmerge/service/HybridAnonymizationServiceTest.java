@@ -1,9 +1,15 @@
 package com.talentmerge.service;
 
+import com.talentmerge.text.BoundedLineReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class HybridAnonymizationServiceTest {
@@ -327,4 +333,111 @@ class HybridAnonymizationServiceTest {
             assertTrue(educationPos < skillsPos, "Education should come before Skills");
         }
     }
-}
\ No newline at end of file
+
+    private static final List<String> STREAMING_CORPUS = List.of(
+            """
+            John Doe
+            john.doe@example.com
+            Summary
+            Experienced developer with 8 years in the field. I am 35 years old! Focus on backend engineering.
+            Experience
+            Senior Developer - TechCorp
+            2020 - Present
+            • Contact me at john.doe@techcorp.com or +1 234 567 8900
+            • LinkedIn: https://www.linkedin.com/in/johndoe/
+            Work
+            Experience
+            Lead Engineer - MegaCorp Inc
+            • Reach me at lead@megacorp.com, tel. 06.12.34.56.78
+            Skills
+            Java, Python, React
+            Hobbies
+            Guitar and photography
+            Skills
+            
+            """,
+            """
+            Jean Dupont
+            Profil
+            Ingénieur passionné vivant à Paris.
+            Expérience Professionnelle
+            Ingénieur Senior - TechFrench SARL
+            2018 - Présent
+            Formation
+            Master en Informatique
+            Compétences
+            Java, Spring, PostgreSQL, Git""",
+            """
+            Summary
+            Jane Roe
+            jane.roe@example.com
+            Senior Software Engineer at Acme Corp since 2019 - present
+            Developed microservices in Java and Spring for the payments team
+            I love hiking and playing guitar in my free time
+            Master of Computer Science, Example University\\nBachelor degree in mathematics
+            Based in Lyon, born 1990
+            """,
+            """
+            Summary
+            Free text without anything that looks like work, only a long description of hobbies and
+            everyday life written on several lines so that it goes well beyond two hundred characters,
+            with no job, no school and no dates at all in it, only words and more words.
+            """,
+            "...Only punctuation? And nothing else!",
+            "   \n\t   ");
+
+    private String anonymizeStreaming(String text, HybridAnonymizationService.AnonymizationConfig config,
+                                      int chunkSize) throws IOException {
+        StringWriter out = new StringWriter();
+        hybridAnonymizationService.anonymize(
+                new BoundedLineReader(new StringReader(text), chunkSize, BoundedLineReader.DEFAULT_MAX_LINE_LENGTH),
+                out, config);
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("Should stream the same text and statistics as the in-memory path, whatever the chunk size")
+    void testStreaming_MatchesInMemory() throws IOException {
+        List<HybridAnonymizationService.AnonymizationConfig> configs = List.of(
+                HybridAnonymizationService.AnonymizationConfig.standard(),
+                HybridAnonymizationService.AnonymizationConfig.conservative());
+        for (String text : STREAMING_CORPUS) {
+            for (HybridAnonymizationService.AnonymizationConfig config : configs) {
+                HybridAnonymizationService.AnonymizationResult expected = hybridAnonymizationService.anonymize(text, config);
+                for (int chunkSize : new int[]{1, 7, BoundedLineReader.DEFAULT_CHUNK_SIZE}) {
+                    StringWriter out = new StringWriter();
+                    HybridAnonymizationService.AnonymizationStats stats = hybridAnonymizationService.anonymize(
+                            new BoundedLineReader(new StringReader(text), chunkSize, BoundedLineReader.DEFAULT_MAX_LINE_LENGTH),
+                            out, config);
+
+                    assertEquals(expected.anonymizedText, out.toString(), text);
+                    assertEquals(expected.stats.keptSections, stats.keptSections);
+                    assertEquals(expected.stats.removedSections, stats.removedSections);
+                    assertEquals(expected.stats.removedCharacterCount, stats.removedCharacterCount);
+                    assertEquals(expected.stats.anonymizedItems, stats.anonymizedItems);
+                    assertEquals(expected.stats.removedSummaryElements, stats.removedSummaryElements);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream a multi-megabyte export through temporary spools with the same result")
+    void testStreaming_LargeText() throws IOException {
+        StringBuilder text = new StringBuilder("Jane Roe\njane@example.com\nExperience\n");
+        for (int i = 0; text.length() < 2_000_000; i++) {
+            text.append("Project ").append(i).append(": developed Java services, contact ops").append(i)
+                    .append("@example.com or +33 6 12 34 ").append(String.format("%02d", i % 100)).append(" 00\n");
+            if (i % 5000 == 0) {
+                text.append("Skills\nJava, Docker\nExperience\n");
+            }
+        }
+        HybridAnonymizationService.AnonymizationConfig config = HybridAnonymizationService.AnonymizationConfig.standard();
+
+        String streamed = anonymizeStreaming(text.toString(), config, BoundedLineReader.DEFAULT_CHUNK_SIZE);
+
+        assertTrue(streamed.length() > StreamingAnonymizer.SPOOL_MEMORY_CHARS);
+        assertFalse(streamed.contains("@example.com"));
+        assertEquals(hybridAnonymizationService.anonymize(text.toString(), config).anonymizedText, streamed);
+    }
+}
@@ -0,0 +1,168 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import com.talentmerge.model.Education;
+import com.talentmerge.model.WorkExperience;
+import com.talentmerge.repository.CandidateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalReparseServiceTest {
+
+    private static final String RESUME_V1 = """
+        John Doe
+        john@email.com
+
+        Experience
+        Software Engineer - Tech Corp
+        2020 - Present
+
+        Education
+        BSc Computer Science
+        MIT 2019
+
+        Skills
+        Java, Python
+        """;
+
+    @Mock
+    private SectionedAiParsingService sectionedAiParsingService;
+
+    @Mock
+    private AiParsingService aiParsingService;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private CandidateDocumentService candidateDocumentService;
+
+    private IncrementalReparseService incrementalReparseService;
+
+    @BeforeEach
+    void setUp() {
+        incrementalReparseService = new IncrementalReparseService(new SectionSplittingService(), sectionedAiParsingService,
+                aiParsingService, "full", candidateRepository, candidateDocumentService,
+                TransactionOperations.withoutTransaction());
+    }
+
+    private Candidate parsedCandidate() {
+        Candidate candidate = new Candidate();
+        candidate.setName("John Doe");
+        candidate.setEmail("john@email.com");
+        candidate.setSkills("Java, Python");
+        WorkExperience experience = new WorkExperience();
+        experience.setCompany("Tech Corp");
+        candidate.addWorkExperience(experience);
+        Education education = new Education();
+        education.setInstitution("MIT");
+        candidate.addEducation(education);
+        incrementalReparseService.recordSectionHashes(candidate, RESUME_V1);
+        return candidate;
+    }
+
+    @Test
+    @DisplayName("Should only reparse the experience section when only the latest job changed")
+    void testReparse_OnlyChangedSection() {
+        Candidate candidate = parsedCandidate();
+        Education previousEducation = candidate.getEducations().get(0);
+        String resumeV2 = RESUME_V1.replace("Software Engineer - Tech Corp\n2020 - Present",
+                "Staff Engineer - New Corp\n2024 - Present\n\nSoftware Engineer - Tech Corp\n2020 - 2024");
+
+        WorkExperience newExperience = new WorkExperience();
+        newExperience.setCompany("New Corp");
+        when(sectionedAiParsingService.parseExperienceSection(contains("New Corp"))).thenReturn(List.of(newExperience));
+
+        IncrementalReparseService.ReparseResult result = incrementalReparseService.reparse(candidate, resumeV2);
+
+        assertEquals(List.of("experience"), result.reparsedSections);
+        assertEquals(List.of("profile", "education"), result.reusedSections);
+        assertEquals("New Corp", candidate.getWorkExperiences().get(0).getCompany());
+        assertSame(candidate, candidate.getWorkExperiences().get(0).getCandidate());
+        assertSame(previousEducation, candidate.getEducations().get(0));
+        verify(sectionedAiParsingService, never()).parseEducationSection(anyString());
+        verify(sectionedAiParsingService, never()).parseProfileSection(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should not call the model when nothing changed")
+    void testReparse_Unchanged() {
+        Candidate candidate = parsedCandidate();
+
+        IncrementalReparseService.ReparseResult result = incrementalReparseService.reparse(candidate, RESUME_V1);
+
+        assertTrue(result.reparsedSections.isEmpty());
+        assertEquals("Tech Corp", candidate.getWorkExperiences().get(0).getCompany());
+        verifyNoInteractions(sectionedAiParsingService);
+    }
+
+    @Test
+    @DisplayName("Should reparse everything when no previous section hashes are stored")
+    void testReparse_WithoutPreviousHashes() {
+        Candidate candidate = new Candidate();
+        Candidate parsed = new Candidate();
+        parsed.setName("John Doe");
+        when(aiParsingService.parseCandidateFromText(RESUME_V1)).thenReturn(parsed);
+
+        IncrementalReparseService.ReparseResult result = incrementalReparseService.reparse(candidate, RESUME_V1);
+
+        assertEquals(List.of("all"), result.reparsedSections);
+        assertEquals("John Doe", candidate.getName());
+        assertFalse(candidate.getSectionHashes().isEmpty());
+        verify(sectionedAiParsingService, never()).parseCandidateFromText(anyString());
+    }
+
+    @Test
+    @DisplayName("Should save the reparsed candidate and its text, or report a missing candidate")
+    void testReparseAndSave() {
+        Candidate candidate = parsedCandidate();
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(candidate));
+        when(candidateRepository.findById(2L)).thenReturn(Optional.empty());
+        when(candidateRepository.save(candidate)).thenReturn(candidate);
+
+        Optional<Candidate> saved = incrementalReparseService.reparseAndSave(1L, RESUME_V1, "uploads/v2.pdf", "v1");
+
+        assertTrue(saved.isPresent());
+        assertEquals("uploads/v2.pdf", saved.get().getOriginalFilePath());
+        verify(candidateDocumentService).saveText(candidate, RESUME_V1, "v1");
+        assertTrue(incrementalReparseService.reparseAndSave(2L, RESUME_V1, "uploads/v2.pdf", "v1").isEmpty());
+        verifyNoInteractions(sectionedAiParsingService, aiParsingService);
+    }
+
+    @Test
+    @DisplayName("Should parse again when another version was saved while the model was called")
+    void testReparseAndSave_CandidateChangedMeanwhile() {
+        String resumeV2 = RESUME_V1.replace("MIT 2019", "MIT 2020");
+        Candidate candidate = parsedCandidate();
+        // A concurrent upload stored the hashes of the new version's experience section
+        Candidate updated = parsedCandidate();
+        updated.getSectionHashes().put("experience", "concurrent");
+        when(candidateRepository.findById(1L))
+                .thenReturn(Optional.of(candidate), Optional.of(updated), Optional.of(updated), Optional.of(updated));
+        when(candidateRepository.save(updated)).thenReturn(updated);
+        when(sectionedAiParsingService.parseEducationSection(contains("2020"))).thenReturn(List.of(new Education()));
+        when(sectionedAiParsingService.parseExperienceSection(contains("Tech Corp"))).thenReturn(List.of(new WorkExperience()));
+
+        Optional<Candidate> saved = incrementalReparseService.reparseAndSave(1L, resumeV2, "uploads/v2.pdf", "v1");
+
+        // The first parse only covered education; the second also reparses the experience stored meanwhile
+        assertSame(updated, saved.orElseThrow());
+        verify(sectionedAiParsingService, times(2)).parseEducationSection(anyString());
+        verify(sectionedAiParsingService, times(1)).parseExperienceSection(anyString());
+        verify(candidateRepository, never()).save(candidate);
+    }
+}
@@ -0,0 +1,174 @@
+package com.talentmerge.service;
+
+import com.talentmerge.model.Candidate;
+import com.talentmerge.model.Education;
+import com.talentmerge.model.WorkExperience;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManualParsingServiceTest {
+
+    private static final List<String> SKILL_DICTIONARY = List.of(
+            "Java", "Python", "JavaScript", "C++", "C#", "Ruby", "Go", "TypeScript", "PHP", "Swift",
+            "React", "Angular", "Vue.js", "Node.js", "Spring Boot", "Django", "Flask", "Ruby on Rails",
+            "SQL", "PostgreSQL", "MySQL", "MongoDB", "Redis", "Oracle",
+            "AWS", "Azure", "Google Cloud", "Docker", "Kubernetes",
+            "HTML", "CSS", "Sass", "Less",
+            "Agile", "Scrum", "JIRA", "Git", "Jenkins"
+    );
+
+    private ManualParsingService manualParsingService;
+
+    @BeforeEach
+    void setUp() {
+        DictionaryService dictionaryService = new DictionaryService();
+        manualParsingService = new ManualParsingService(new SectionSplittingService(),
+                new WorkExperienceParsingService(dictionaryService), new PersonalInfoDetectionService(),
+                dictionaryService);
+    }
+
+    /**
+     * The previous per-skill regex implementation, kept as the reference
+     */
+    private static String legacyParseSkills(String text) {
+        List<String> foundSkills = new ArrayList<>();
+        for (String skill : SKILL_DICTIONARY) {
+            Pattern pattern = Pattern.compile("\\b" + Pattern.quote(skill) + "\\b", Pattern.CASE_INSENSITIVE);
+            Matcher matcher = pattern.matcher(text);
+            if (matcher.find() && !foundSkills.contains(skill)) {
+                foundSkills.add(skill);
+            }
+        }
+        return String.join(", ", foundSkills);
+    }
+
+    @Test
+    @DisplayName("Should find the same skills as the regex implementation, in dictionary order")
+    void testParseSkills_MatchesLegacy() {
+        List<String> corpus = List.of(
+                "Java, Python, Spring Boot, PostgreSQL, Docker, Kubernetes",
+                "javascript typescript react node.js mongodb redis",
+                "Ruby on Rails developer; Agile/Scrum; JIRA; Git; Jenkins",
+                "Compétences : Java, SQL, HTML/CSS, Angular, Azure",
+                "Experience with AWS and Google Cloud, plus less known tools",
+                "Lead developer (Django, Flask, MySQL) - Oracle certified",
+                "Nothing relevant here at all");
+
+        for (String text : corpus) {
+            assertEquals(legacyParseSkills(text), manualParsingService.parseSkills(text), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match symbol-terminated skills and synonyms")
+    void testParseSkills_SymbolsAndSynonyms() {
+        assertEquals("C++, C#, Go, PostgreSQL, Kubernetes",
+                manualParsingService.parseSkills("C++ and C# developer, Golang, Postgres, K8s"));
+        assertEquals("", manualParsingService.parseSkills("Gopher at Google"));
+    }
+
+    @Test
+    @DisplayName("Should parse every degree, institution and graduation date block, skipping detail lines")
+    void testParseEducation_Blocks() {
+        String section = "Master of Science in Computer Science\n" +
+                "Stanford University\n" +
+                "Graduated: June 2019\n" +
+                "Thesis on distributed systems\n" +
+                "GPA 3.9\n" +
+                "Diplôme d'ingénieur\n" +
+                "École Centrale\n" +
+                "Obtenu en 09/2016\n" +
+                "Baccalauréat\n" +
+                "Lycée Henri IV\n" +
+                "2012-2013";
+
+        List<Education> educations = manualParsingService.parseEducation(section);
+
+        assertEquals(3, educations.size());
+        assertEquals("Master of Science in Computer Science", educations.get(0).getDegree());
+        assertEquals("Stanford University", educations.get(0).getInstitution());
+        assertEquals(LocalDate.of(2019, 1, 1), educations.get(0).getGraduationDate());
+        assertEquals("École Centrale", educations.get(1).getInstitution());
+        assertEquals(LocalDate.of(2016, 9, 1), educations.get(1).getGraduationDate());
+        assertEquals("Baccalauréat", educations.get(2).getDegree());
+        assertEquals(LocalDate.of(2012, 1, 1), educations.get(2).getGraduationDate());
+    }
+
+    @Test
+    @DisplayName("Should parse a German resume with the German lexicon")
+    void testParseCandidate_German() {
+        String resume = "Anna Schmidt\n" +
+                "anna.schmidt@example.de\n" +
+                "Berufserfahrung\n" +
+                "Entwickler bei der Acme GmbH\n" +
+                "März 2019 bis heute\n" +
+                "Entwicklung von Diensten mit Java für das Team\n" +
+                "Ausbildung\n" +
+                "Master Informatik\n" +
+                "TU München\n" +
+                "Abschluss: 2018\n" +
+                "Kenntnisse\n" +
+                "Java, Docker";
+
+        Candidate candidate = manualParsingService.parseCandidateFromText(resume);
+
+        assertEquals(1, candidate.getWorkExperiences().size());
+        WorkExperience experience = candidate.getWorkExperiences().get(0);
+        assertEquals("Entwickler bei der Acme GmbH", experience.getJobTitle());
+        assertEquals("der Acme GmbH", experience.getCompany());
+        assertEquals(LocalDate.of(2019, 3, 1), experience.getStartDate());
+        assertNull(experience.getEndDate());
+        assertEquals(1, candidate.getEducations().size());
+        assertEquals(LocalDate.of(2018, 1, 1), candidate.getEducations().get(0).getGraduationDate());
+        assertEquals("Java, Docker", candidate.getSkills());
+    }
+
+    @Test
+    @DisplayName("Should parse education in linear time on fuzzed and adversarial sections")
+    void testParseEducation_LinearRuntime() {
+        String[] tokens = {"Jan ", "janv. ", "2020", "12/", "\n", "\n", "a", " ", "Graduated: ", "Sept", "x".repeat(40)};
+        Random random = new Random(42);
+
+        for (int round = 0; round < 20; round++) {
+            StringBuilder fuzz = new StringBuilder();
+            while (fuzz.length() < 5_000) {
+                fuzz.append(tokens[random.nextInt(tokens.length)]);
+            }
+            assertDoesNotThrow(() -> manualParsingService.parseEducation(fuzz.toString()));
+        }
+
+        // Long lines of month names and newlines drove the previous regex superlinear
+        long small = bestTimeNanos(adversarialEducation(20_000));
+        long large = bestTimeNanos(adversarialEducation(160_000));
+        assertTrue(large < 8 * 5 * small + 50_000_000L,
+                "8x the input took " + (large / 1_000_000) + " ms vs " + (small / 1_000_000) + " ms");
+    }
+
+    private static String adversarialEducation(int length) {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) {
+            text.append("Jan Feb Mar ".repeat(20)).append('\n').append("a\n");
+        }
+        return text.toString();
+    }
+
+    private long bestTimeNanos(String section) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long started = System.nanoTime();
+            manualParsingService.parseEducation(section);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        return best;
+    }
+}
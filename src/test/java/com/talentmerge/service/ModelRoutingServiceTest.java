@@ -0,0 +1,78 @@
+package com.talentmerge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelRoutingServiceTest {
+
+    private ModelRoutingService modelRoutingService;
+
+    @BeforeEach
+    void setUp() {
+        modelRoutingService = new ModelRoutingService(new SectionSplittingService());
+        ReflectionTestUtils.setField(modelRoutingService, "enabled", true);
+        ReflectionTestUtils.setField(modelRoutingService, "smallModel", "small-model");
+        ReflectionTestUtils.setField(modelRoutingService, "smallMaxTokens", 1500);
+        ReflectionTestUtils.setField(modelRoutingService, "largeModel", "large-model");
+        ReflectionTestUtils.setField(modelRoutingService, "largeMaxTokens", 4000);
+        ReflectionTestUtils.setField(modelRoutingService, "maxSmallChars", 500);
+        ReflectionTestUtils.setField(modelRoutingService, "maxSmallSections", 3);
+    }
+
+    @Test
+    @DisplayName("Should route a short English resume to the small model")
+    void testRoute_ShortResume() {
+        String resumeText = "John Doe\n\nExperience\nDeveloper at Tech Corp with a focus on the backend\n\nSkills\nJava";
+
+        Prompt prompt = modelRoutingService.routedPrompt(List.of(new UserMessage("Parse: " + resumeText)), resumeText);
+
+        assertEquals("small-model", prompt.getOptions().getModel());
+        assertEquals(1500, prompt.getOptions().getMaxTokens());
+    }
+
+    @Test
+    @DisplayName("Should route long or unknown-language resumes to the large model")
+    void testRoute_LongOrUnknownLanguage() {
+        String longResume = "Experience\n" + "Led the migration of the platform to the cloud. ".repeat(20);
+        assertEquals(ModelRoutingService.TIER_LARGE, modelRoutingService.route(longResume).tier);
+        assertEquals(ModelRoutingService.TIER_LARGE, modelRoutingService.route("Erfahrung\nEntwickler bei Firma").tier);
+    }
+
+    @Test
+    @DisplayName("Should detect English and French")
+    void testDetectLanguage() {
+        assertEquals("en", modelRoutingService.detectLanguage("Developer with experience in the design of APIs"));
+        assertEquals("fr", modelRoutingService.detectLanguage("Développeur avec une expérience de la conception des API"));
+        assertEquals("unknown", modelRoutingService.detectLanguage("Java Python Kubernetes"));
+    }
+
+    @Test
+    @DisplayName("Should fit the largest thresholds that keep the target accuracy")
+    void testFitThresholds() {
+        List<ModelRoutingService.CorpusSample> samples = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            // The small model handles resumes up to 3000 chars and 4 sections, then starts failing
+            int chars = i * 100;
+            int sections = i % 6;
+            samples.add(new ModelRoutingService.CorpusSample(chars, sections, "en", chars <= 3000 && sections <= 4));
+        }
+        samples.add(new ModelRoutingService.CorpusSample(100, 1, "de", false));
+
+        ModelRoutingService.RoutingThresholds thresholds =
+                ModelRoutingService.fitThresholds(samples, Set.of("en", "fr"), 1.0);
+
+        assertEquals(3000, thresholds.maxChars);
+        assertEquals(4, thresholds.maxSections);
+        assertEquals(1.0, thresholds.accuracy);
+    }
+}
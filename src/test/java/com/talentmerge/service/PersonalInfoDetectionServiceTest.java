@@ -5,8 +5,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 class PersonalInfoDetectionServiceTest {
 
@@ -49,4 +52,16 @@ class PersonalInfoDetectionServiceTest {
         String actual = personalInfoDetectionService.extractLinkedInUrl(text);
         assertNull(actual);
     }
+
+    @Test
+    @DisplayName("Should give up on text that makes the email regex backtrack instead of pinning a CPU")
+    void testDetectPersonalInfo_PathologicalText() {
+        String resumeText = "John Doe\n" + "a".repeat(200_000);
+
+        Candidate candidate = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> personalInfoDetectionService.detectPersonalInfo(resumeText));
+
+        assertEquals("John Doe", candidate.getName());
+        assertNull(candidate.getEmail());
+    }
 }
@@ -0,0 +1,137 @@
+package com.talentmerge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PromptCompactionServiceTest {
+
+    private PromptCompactionService promptCompactionService;
+
+    @BeforeEach
+    void setUp() {
+        SectionSplittingService sectionSplittingService = new SectionSplittingService();
+        promptCompactionService = new PromptCompactionService(sectionSplittingService,
+            new HybridAnonymizationService(sectionSplittingService, new PersonalInfoDetectionService()));
+    }
+
+    @Test
+    @DisplayName("Should normalize whitespace and drop extraction artifacts")
+    void testCompact_NormalizesWhitespace() {
+        String resumeText = "John   Doe\r\n\r\n\r\n\tSoftware Engineer  \n(cid:12)\n-----\n\n\nJava,  Python ";
+
+        PromptCompactionService.CompactionResult result =
+            promptCompactionService.compact(resumeText, new PromptCompactionService.CompactionConfig());
+
+        assertEquals("John Doe\n\nSoftware Engineer\n\nJava, Python", result.text);
+        assertTrue(result.getTokensSaved() > 0);
+    }
+
+    @Test
+    @DisplayName("Should remove page numbers and repeated headers and footers")
+    void testCompact_RemovesPageFurniture() {
+        String resumeText = """
+            John Doe
+            john.doe@example.com | +1 234 567 8900
+            Experience
+            Senior Developer - Tech Corp
+            Page 1 of 2
+            John Doe
+            john.doe@example.com | +1 234 567 8900
+            Developer - Startup Inc
+            Senior Developer - Tech Corp
+            Page 2 of 2
+            """;
+
+        PromptCompactionService.CompactionResult result =
+            promptCompactionService.compact(resumeText, new PromptCompactionService.CompactionConfig());
+
+        assertEquals("""
+            John Doe
+            john.doe@example.com | +1 234 567 8900
+            Experience
+            Senior Developer - Tech Corp
+            Developer - Startup Inc
+            Senior Developer - Tech Corp""", result.text);
+    }
+
+    @Test
+    @DisplayName("Should trim the least valuable sections first to fit the token budget")
+    void testCompact_EnforcesTokenBudget() {
+        String resumeText = "John Doe\n\n"
+            + "Summary\n" + "Passionate engineer who loves building things. ".repeat(20) + "\n\n"
+            + "Experience\nSenior Developer - Tech Corp\n2020 - Present\n\n"
+            + "Skills\nJava, Python";
+
+        PromptCompactionService.CompactionConfig config = new PromptCompactionService.CompactionConfig();
+        config.tokenBudget = 40;
+        PromptCompactionService.CompactionResult result = promptCompactionService.compact(resumeText, config);
+
+        assertTrue(result.compactedTokens <= 40);
+        assertTrue(result.text.contains("John Doe"));
+        assertTrue(result.text.contains("Senior Developer - Tech Corp"));
+        assertTrue(result.text.contains("Java, Python"));
+        assertFalse(result.text.contains("Passionate engineer"));
+        assertEquals(List.of("summary"), result.trimmedSections);
+    }
+
+    @Test
+    @DisplayName("Should keep a share of every section when one of them is far over the budget")
+    void testCompact_SharesBudgetBetweenSections() {
+        StringBuilder experience = new StringBuilder("Experience\n");
+        for (int i = 1; i <= 60; i++) {
+            experience.append("Developer ").append(i).append(" - Company ").append(i).append("\n2010 - 2011\n");
+        }
+        String resumeText = "John Doe\n\n" + experience
+            + "\nEducation\nBSc Computer Science - MIT\n\n"
+            + "Skills\nJava, Python";
+
+        PromptCompactionService.CompactionConfig config = new PromptCompactionService.CompactionConfig();
+        config.tokenBudget = 150;
+        PromptCompactionService.CompactionResult result = promptCompactionService.compact(resumeText, config);
+
+        assertTrue(result.compactedTokens <= 150);
+        assertTrue(result.text.contains("Developer 1 - Company 1"));
+        assertFalse(result.text.contains("Developer 60 - Company 60"));
+        assertTrue(result.text.contains("BSc Computer Science - MIT"));
+        assertTrue(result.text.contains("Java, Python"));
+        assertTrue(result.isTrimmed());
+        assertEquals(List.of("experience"), result.trimmedSections);
+    }
+
+    @Test
+    @DisplayName("Should drop personal sections when configured")
+    void testCompact_DropsPersonalSections() {
+        String resumeText = """
+            Summary
+            I love hiking in my free time.
+
+            Experience
+            Senior Developer - Tech Corp
+            """;
+
+        PromptCompactionService.CompactionConfig config = new PromptCompactionService.CompactionConfig();
+        config.dropPersonalSections = true;
+        PromptCompactionService.CompactionResult result = promptCompactionService.compact(resumeText, config);
+
+        assertFalse(result.text.contains("hiking"));
+        assertTrue(result.text.contains("Senior Developer - Tech Corp"));
+    }
+
+    @Test
+    @DisplayName("Should pass text through untouched when disabled")
+    void testCompact_Disabled() {
+        String resumeText = "John   Doe\n\n\n\nJava";
+
+        PromptCompactionService.CompactionConfig config = new PromptCompactionService.CompactionConfig();
+        config.enabled = false;
+        PromptCompactionService.CompactionResult result = promptCompactionService.compact(resumeText, config);
+
+        assertEquals(resumeText, result.text);
+        assertEquals(0, result.getTokensSaved());
+    }
+}
@@ -0,0 +1,39 @@
+package com.talentmerge.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PromptServiceTest {
+
+    private final PromptService promptService = new PromptService();
+
+    @Test
+    @DisplayName("Should keep the system prefix byte-identical across resumes and anonymization variants")
+    void testCreateResumeParsingMessages_StablePrefix() {
+        List<Message> plain = promptService.createResumeParsingMessages("John Doe\nJava developer");
+        List<Message> other = promptService.createResumeParsingMessages("Jane Smith\nData analyst");
+        List<Message> anonymized = promptService.createAnonymizedResumeParsingMessages("PERSON_1\nCOMPANY_1");
+
+        assertEquals(MessageType.SYSTEM, plain.get(0).getMessageType());
+        assertEquals(plain.get(0).getText(), other.get(0).getText());
+        assertEquals(plain.get(0).getText(), anonymized.get(0).getText());
+        assertTrue(anonymized.get(1).getText().endsWith("PERSON_1\nCOMPANY_1"));
+    }
+
+    @Test
+    @DisplayName("Should keep variable text out of the system message")
+    void testCreateFollowUpMessages_FieldsInUserMessage() {
+        List<Message> messages = promptService.createFollowUpMessages("John Doe", List.of("educations"));
+
+        assertEquals(PromptService.FOLLOW_UP_INSTRUCTIONS, messages.get(0).getText());
+        assertEquals(MessageType.USER, messages.get(1).getMessageType());
+        assertTrue(messages.get(1).getText().contains("educations"));
+        assertTrue(messages.get(1).getText().endsWith("John Doe"));
+    }
+}
@@ -3,6 +3,7 @@ package com.talentmerge.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import java.util.List;
 import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -96,4 +97,46 @@ class SectionSplittingServiceTest {
         assertEquals("Ingénieur Logiciel chez Google\n2020 - Présent", sections.get("experience").trim());
         assertEquals("M.Sc. en Informatique\n2018-2020", sections.get("education").trim());
     }
+
+    @Test
+    @DisplayName("Should return sections as offsets into the original text")
+    void testFindSections_Offsets() {
+        String resumeText = "Jean Dupont\r\n" +
+                "  ÉDUCATION ET\r\n" +
+                "FORMATION  \r\n" +
+                "M.Sc. en Informatique\r\n" +
+                "\r\n" +
+                "Skills\r\n" +
+                "Java";
+
+        List<SectionSplittingService.SectionSpan> spans = sectionSplittingService.findSections(resumeText);
+
+        assertEquals(2, spans.size());
+        SectionSplittingService.SectionSpan education = spans.get(0);
+        assertEquals("education", education.key());
+        assertEquals(resumeText.indexOf("  ÉDUCATION"), education.headerStart());
+        assertEquals("M.Sc. en Informatique\r\n\r\n",
+                resumeText.substring(education.contentStart(), education.contentEnd()));
+        assertEquals("Java", resumeText.substring(spans.get(1).contentStart(), spans.get(1).contentEnd()));
+
+        Map<String, String> sections = sectionSplittingService.splitTextIntoSections(resumeText);
+        assertEquals("M.Sc. en Informatique", sections.get("education"));
+        assertEquals("Jean Dupont", sectionSplittingService.extractHeaderBlock(resumeText));
+    }
+
+    @Test
+    @DisplayName("Should only accept whole header lines, ignoring case and accents")
+    void testFindSections_WholeLinesOnly() {
+        String resumeText = "Experience in Java\n" +
+                "EXPERIENCES\n" +
+                "Acme\n" +
+                "Compe\u0301tences\n" +
+                "Java\n" +
+                "Skills and more\n" +
+                "Summary of qualifications";
+
+        Map<String, String> sections = sectionSplittingService.splitTextIntoSections(resumeText);
+
+        assertEquals(Map.of("experience", "Acme", "skills", "Java\nSkills and more\nSummary of qualifications"), sections);
+    }
 }
@@ -0,0 +1,198 @@
+package com.talentmerge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentmerge.model.Candidate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SectionedAiParsingServiceTest {
+
+    private static final String EXPERIENCE_JSON = """
+        {"workExperiences": [{"jobTitle": "Software Engineer", "company": "Tech Corp",
+          "startDate": "2020-01-01", "endDate": null, "description": "Built services"}]}
+        """;
+    private static final String EDUCATION_JSON = """
+        {"educations": [{"institution": "MIT", "degree": "BSc Computer Science", "graduationDate": "2019-06-01"}]}
+        """;
+    private static final String PROFILE_JSON = """
+        {"name": "John Doe", "email": "john@email.com", "phone": "+1234567890", "skills": "Java, Python"}
+        """;
+
+    @Mock
+    private ChatModel chatModel;
+
+    private SectionedAiParsingService sectionedAiParsingService;
+
+    @BeforeEach
+    void setUp() {
+        PromptService promptService = new PromptService();
+        SectionSplittingService sectionSplittingService = new SectionSplittingService();
+        PromptCompactionService promptCompactionService = new PromptCompactionService(sectionSplittingService,
+                new HybridAnonymizationService(sectionSplittingService, new PersonalInfoDetectionService()));
+        ModelRoutingService modelRoutingService = new ModelRoutingService(sectionSplittingService);
+        LlmUsageService llmUsageService = new LlmUsageService();
+        AiParsingService aiParsingService = new AiParsingService(chatModel, promptService, promptCompactionService,
+                sectionSplittingService, modelRoutingService, llmUsageService, new ObjectMapper());
+        sectionedAiParsingService = new SectionedAiParsingService(chatModel, promptService, sectionSplittingService,
+                aiParsingService, modelRoutingService, llmUsageService, 3, 10);
+    }
+
+    private static Prompt promptContaining(String text) {
+        return argThat(prompt -> prompt != null && prompt.getContents().contains(text));
+    }
+
+    private static ChatResponse chatResponse(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sectionedAiParsingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send one prompt per section and merge the partial results")
+    void testParseCandidateFromText_MergesSections() {
+        String resumeText = """
+            John Doe
+            john@email.com
+
+            Experience
+            Software Engineer - Tech Corp
+            2020 - Present
+
+            Education
+            BSc Computer Science
+            MIT 2019
+
+            Skills
+            Java, Python
+            """;
+
+        when(chatModel.call(any(Prompt.class))).thenAnswer(invocation -> {
+            String prompt = invocation.<Prompt>getArgument(0).getContents();
+            if (prompt.contains("work experience section")) return chatResponse(EXPERIENCE_JSON);
+            if (prompt.contains("education section")) return chatResponse(EDUCATION_JSON);
+            return chatResponse(PROFILE_JSON);
+        });
+
+        Candidate result = sectionedAiParsingService.parseCandidateFromText(resumeText);
+
+        assertEquals("John Doe", result.getName());
+        assertEquals("john@email.com", result.getEmail());
+        assertEquals("Java, Python", result.getSkills());
+        assertEquals(1, result.getWorkExperiences().size());
+        assertEquals("Tech Corp", result.getWorkExperiences().get(0).getCompany());
+        assertSame(result, result.getWorkExperiences().get(0).getCandidate());
+        assertEquals(1, result.getEducations().size());
+        assertEquals("MIT", result.getEducations().get(0).getInstitution());
+        verify(chatModel, times(3)).call(any(Prompt.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the model call for empty sections")
+    void testParseCandidateFromText_SkipsEmptySections() {
+        String resumeText = """
+            Jane Smith
+
+            Experience
+            Developer - Startup Inc
+            2021 - Present
+            """;
+
+        when(chatModel.call(any(Prompt.class))).thenAnswer(invocation -> {
+            String prompt = invocation.<Prompt>getArgument(0).getContents();
+            return chatResponse(prompt.contains("work experience section") ? EXPERIENCE_JSON : PROFILE_JSON);
+        });
+
+        Candidate result = sectionedAiParsingService.parseCandidateFromText(resumeText);
+
+        assertEquals(1, result.getWorkExperiences().size());
+        assertTrue(result.getEducations().isEmpty());
+        verify(chatModel, never()).call(promptContaining("education section"));
+        verify(chatModel, times(2)).call(any(Prompt.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to full-document parsing when no sections are detected")
+    void testParseCandidateFromText_FallsBackWithoutSections() {
+        String resumeText = "John Doe\nJava developer with five years of experience";
+        when(chatModel.call(any(Prompt.class))).thenReturn(chatResponse(PROFILE_JSON));
+
+        Candidate result = sectionedAiParsingService.parseCandidateFromText(resumeText);
+
+        assertEquals("John Doe", result.getName());
+        verify(chatModel, times(1)).call(promptContaining("Parse the following resume text"));
+    }
+
+    @Test
+    @DisplayName("Should surface section failures as AI parsing errors")
+    void testParseCandidateFromText_SectionFailure() {
+        String resumeText = "Experience\nDeveloper - Startup Inc\n2021 - Present";
+        when(chatModel.call(any(Prompt.class))).thenThrow(new RuntimeException("API Error"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> sectionedAiParsingService.parseCandidateFromText(resumeText));
+
+        assertTrue(exception.getMessage().contains("Failed to parse resume with AI"));
+    }
+
+    @Test
+    @DisplayName("Should give all sections one shared deadline and cancel the ones still running")
+    void testParseCandidateFromText_SharedDeadlineCancelsPendingSections() throws InterruptedException {
+        ModelRoutingService modelRoutingService = new ModelRoutingService(new SectionSplittingService());
+        LlmUsageService llmUsageService = new LlmUsageService();
+        SectionedAiParsingService shortDeadline = new SectionedAiParsingService(chatModel, new PromptService(),
+                new SectionSplittingService(), mock(AiParsingService.class), modelRoutingService, llmUsageService, 3, 1);
+        String resumeText = """
+            John Doe
+
+            Experience
+            Developer - Startup Inc
+            2021 - Present
+
+            Education
+            BSc Computer Science
+            MIT 2019
+            """;
+        CountDownLatch interrupted = new CountDownLatch(2);
+        when(chatModel.call(any(Prompt.class))).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(30_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return chatResponse(PROFILE_JSON);
+        });
+
+        long start = System.nanoTime();
+        try {
+            assertThrows(RuntimeException.class, () -> shortDeadline.parseCandidateFromText(resumeText));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        } finally {
+            shortDeadline.shutdown();
+        }
+    }
+}
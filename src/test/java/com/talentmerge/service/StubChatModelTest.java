@@ -0,0 +1,108 @@
+package com.talentmerge.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StubChatModelTest {
+
+    private StubChatModel stub(String distribution, double errorRate, double truncateRate) {
+        return new StubChatModel(7, distribution, 0, 0, 0, errorRate, truncateRate, 16);
+    }
+
+    private static String text(ChatResponse response) {
+        return response.getResult().getOutput().getText();
+    }
+
+    @Test
+    @DisplayName("Should report the repeated system prefix as cached prompt tokens")
+    void testCall_ReportsCachedPrefix() {
+        StubChatModel stubChatModel = stub("fixed", 0, 0);
+        PromptService promptService = new PromptService();
+
+        ChatResponse first = stubChatModel.call(new Prompt(promptService.createResumeParsingMessages("John Doe")));
+        ChatResponse second = stubChatModel.call(new Prompt(promptService.createResumeParsingMessages("Jane Smith")));
+
+        assertEquals(0, LlmUsageService.cachedTokens(first.getMetadata().getUsage()));
+        assertTrue(LlmUsageService.cachedTokens(second.getMetadata().getUsage()) > 0);
+    }
+
+    @Test
+    @DisplayName("Should answer the same prompt identically for the same seed")
+    void testCall_Deterministic() {
+        Prompt prompt = new Prompt(new PromptService().createResumeParsingMessages("John Doe\nJava developer"));
+
+        String first = text(stub("fixed", 0, 0).call(prompt));
+        String second = text(stub("fixed", 0, 0).call(prompt));
+
+        assertEquals(first, second);
+        assertTrue(first.trim().startsWith("{"));
+    }
+
+    @Test
+    @DisplayName("Should answer each system prompt with its canned JSON")
+    void testCall_SectionPrompts() {
+        StubChatModel stubChatModel = stub("fixed", 0, 0);
+        PromptService promptService = new PromptService();
+
+        assertTrue(text(stubChatModel.call(new Prompt(promptService.createExperienceParsingMessages("Developer"))))
+                .contains("workExperiences"));
+        assertTrue(text(stubChatModel.call(new Prompt(promptService.createEducationParsingMessages("MIT"))))
+                .contains("educations"));
+        assertEquals("{}", text(stubChatModel.call(new Prompt(promptService.createFollowUpMessages("MIT", List.of("email"))))));
+        // Section wording in the resume itself does not change the kind of prompt
+        String full = text(stubChatModel.call(new Prompt(
+                promptService.createResumeParsingMessages("Details in the work experience section below"))));
+        assertTrue(full.contains("\"name\"") && full.contains("workExperiences"));
+    }
+
+    @Test
+    @DisplayName("Should fail every call when the error rate is 1")
+    void testCall_InjectedErrors() {
+        StubChatModel stubChatModel = stub("fixed", 1.0, 0);
+
+        assertThrows(TransientAiException.class, () -> stubChatModel.call("Parse this resume"));
+        assertEquals(1, stubChatModel.getInjectedErrors());
+    }
+
+    @Test
+    @DisplayName("Should stream the canned answer in chunks")
+    void testStream_Chunks() {
+        StubChatModel stubChatModel = stub("fixed", 0, 0);
+        Prompt prompt = new Prompt(new PromptService().createProfileParsingMessages("Michael Johnson"));
+
+        List<ChatResponse> chunks = stubChatModel.stream(prompt).collectList().block();
+
+        assertNotNull(chunks);
+        assertTrue(chunks.size() > 1);
+        String streamed = chunks.stream().map(ChatResponse::getResult).filter(Objects::nonNull)
+                .map(result -> result.getOutput().getText()).collect(Collectors.joining());
+        assertEquals(text(stubChatModel.call(prompt)), streamed);
+    }
+
+    @Test
+    @DisplayName("Should fit the log-normal latency to the configured median and p99")
+    void testSampleLatency_LogNormal() {
+        StubChatModel stubChatModel = new StubChatModel(7, "lognormal", 0, 1000, 5000, 0, 0, 16);
+        SplittableRandom random = new SplittableRandom(1);
+
+        long[] samples = new long[10_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = stubChatModel.sampleLatencyMs(random);
+        }
+        Arrays.sort(samples);
+
+        assertEquals(1000, samples[samples.length / 2], 100);
+        assertEquals(5000, samples[(int) (samples.length * 0.99)], 750);
+    }
+}
@@ -0,0 +1,43 @@
+package com.talentmerge.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedLineReaderTest {
+
+    private static List<String> readAll(String text, int chunkSize, int maxLineLength) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BoundedLineReader reader = new BoundedLineReader(new StringReader(text), chunkSize, maxLineLength)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("Should read lines across chunk edges, without line breaks")
+    void testReadLine() throws IOException {
+        assertEquals(List.of("first", "", "third\r", "last"), readAll("first\r\n\r\nthird\r\r\nlast", 3, 100));
+        assertEquals(List.of("only"), readAll("only\n", 1, 100));
+        assertEquals(List.of(), readAll("", 4, 100));
+    }
+
+    @Test
+    @DisplayName("Should wrap long lines at a space outside phone numbers and keep the rest")
+    void testReadLine_Wrap() throws IOException {
+        String line = "call +33 6 12 34 56 78 or mail jane@example.com today";
+
+        List<String> wrapped = readAll(line, 5, 30);
+
+        assertEquals(List.of("call +33 6 12 34 56 78 or", "mail jane@example.com today"), wrapped);
+        assertEquals(List.of("x".repeat(10), "x".repeat(10), "xxx"), readAll("x".repeat(23), 4, 10));
+    }
+}
@@ -0,0 +1,37 @@
+package com.talentmerge.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedTextTest {
+
+    private static final String RESUME = "Jean Dupont — Ingénieur logiciel\n"
+            + "EXPERIENCE\nSenior Java Developer, Tech Corp (2018 - 2020)\n".repeat(200);
+
+    @Test
+    @DisplayName("Should restore the exact text, accents included, and store it smaller")
+    void testRoundTrip() {
+        byte[] compressed = CompressedText.compress(RESUME);
+
+        assertEquals(RESUME, CompressedText.decompress(compressed));
+        assertTrue(compressed.length < RESUME.length() / 3);
+        assertEquals("", CompressedText.decompress(CompressedText.compress("")));
+    }
+
+    @Test
+    @DisplayName("Should read compressed text as a stream")
+    void testReader() throws IOException {
+        StringWriter text = new StringWriter();
+        try (Reader in = CompressedText.reader(CompressedText.compress(RESUME))) {
+            in.transferTo(text);
+        }
+
+        assertEquals(RESUME, text.toString());
+    }
+}
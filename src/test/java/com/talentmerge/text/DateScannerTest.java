@@ -0,0 +1,109 @@
+package com.talentmerge.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateScannerTest {
+
+    @Test
+    @DisplayName("Should look up English and French month names in place, ignoring case")
+    void testMonthLookup() {
+        String text = "Since JANV. and Décembre, not Janus";
+
+        assertEquals(1, DateLexicon.standard().month(text, 6, 10));
+        assertEquals(12, DateLexicon.standard().month(text, 16, 24));
+        assertEquals(0, DateLexicon.standard().month(text, 30, 35));
+    }
+
+    @Test
+    @DisplayName("Should recognize every date form and give its offsets")
+    void testFindRange_Forms() {
+        DateScanner.ScannedRange range = DateScanner.findRange("Acme | janv. 2019 – déc 2021", DateScanner.ALL_FORMS);
+        assertEquals(DateScanner.Form.MONTH_YEAR, range.from().form());
+        assertEquals(2019, range.from().year());
+        assertEquals(1, range.from().month());
+        assertEquals(12, range.to().month());
+        assertEquals(7, range.start());
+        assertEquals(28, range.end());
+
+        assertEquals(DateScanner.Form.MONTH_SLASH_YEAR,
+                DateScanner.findRange("de 01/2020 à 12/2022", DateScanner.ALL_FORMS).from().form());
+        assertEquals(DateScanner.Form.YEAR_MONTH,
+                DateScanner.findRange("2020-01 - 2022.12", DateScanner.ALL_FORMS).to().form());
+        assertEquals(DateScanner.Form.YEAR,
+                DateScanner.findRange("2018 to 2020", DateScanner.ALL_FORMS).from().form());
+
+        DateScanner.ScannedRange quarters = DateScanner.findRange("Q2 2020 - Q3 2021", DateScanner.ALL_FORMS);
+        assertEquals(4, quarters.from().month());
+        assertEquals(7, quarters.to().month());
+    }
+
+    @Test
+    @DisplayName("Should end a range on an ongoing word")
+    void testFindRange_Ongoing() {
+        assertTrue(DateScanner.findRange("Sep 2018 - Present", DateScanner.ALL_FORMS).isOngoing());
+        assertTrue(DateScanner.findRange("janv 2020 - Aujourd'hui", DateScanner.ALL_FORMS).isOngoing());
+        assertTrue(DateScanner.findRange("2019 au aujourd’hui", DateScanner.ALL_FORMS).isOngoing());
+    }
+
+    @Test
+    @DisplayName("Should read month names and range words of every lexicon language")
+    void testFindRange_OtherLanguages() {
+        DateScanner.ScannedRange german = DateScanner.findRange("März 2019 bis heute", DateScanner.ALL_FORMS);
+        assertEquals(3, german.from().month());
+        assertTrue(german.isOngoing());
+
+        DateScanner.ScannedRange spanish = DateScanner.findRange("enero 2018 hasta dic 2020", DateScanner.ALL_FORMS);
+        assertEquals(1, spanish.from().month());
+        assertEquals(12, spanish.to().month());
+
+        assertEquals(6, DateScanner.findRange("giu 2017 - lug 2019", DateScanner.ALL_FORMS).from().month());
+        assertTrue(DateScanner.findRange("mei 2021 tot heden", DateScanner.ALL_FORMS).isOngoing());
+    }
+
+    @Test
+    @DisplayName("Should only join dates of the same form and only return the requested forms")
+    void testFindRange_Rejections() {
+        assertNull(DateScanner.findRange("Jan 2020 - 12/2022", DateScanner.ALL_FORMS));
+        assertNull(DateScanner.findRange("Developer 2018 - Engineer 2020", DateScanner.ALL_FORMS));
+        assertNull(DateScanner.findRange("Jan2020 - Dec2022", DateScanner.ALL_FORMS));
+        assertNull(DateScanner.findRange("12345 - 67890", DateScanner.ALL_FORMS));
+        assertNull(DateScanner.findRange("2018 - 2020", EnumSet.of(DateScanner.Form.MONTH_YEAR)));
+    }
+
+    @Test
+    @DisplayName("Should find single dates from an offset")
+    void testFindDate() {
+        String text = "Graduated June 2015, thesis 2016";
+        DateScanner.ScannedDate first = DateScanner.findDate(text, 0, DateScanner.ALL_FORMS);
+        assertEquals(DateScanner.Form.MONTH_YEAR, first.form());
+        assertEquals(6, first.month());
+
+        DateScanner.ScannedDate second = DateScanner.findDate(text, first.end(), DateScanner.ALL_FORMS);
+        assertEquals(DateScanner.Form.YEAR, second.form());
+        assertEquals(2016, second.year());
+        assertNull(DateScanner.findDate(text, second.end(), DateScanner.ALL_FORMS));
+    }
+
+    @Test
+    @DisplayName("Should only let text with four digits in a row through the prefilter")
+    void testMayContainDate() {
+        assertTrue(DateScanner.mayContainDate("2020"));
+        assertTrue(DateScanner.mayContainDate("Acme | 01/2020 - 12/2022"));
+        assertTrue(DateScanner.mayContainDate("12 3 45 202001"));
+        assertFalse(DateScanner.mayContainDate("Managed a team of 12 engineers across 3 sites"));
+        assertFalse(DateScanner.mayContainDate("123 456 78"));
+        assertFalse(DateScanner.mayContainDate("Jan - Dec"));
+        assertFalse(DateScanner.mayContainDate(""));
+
+        // Never rejects a text the scanner finds a date in, whatever the digit positions
+        for (int shift = 0; shift < 8; shift++) {
+            String text = "x".repeat(shift) + "1 22 333 Q1 2020";
+            assertEquals(DateScanner.findDate(text, 0, DateScanner.ALL_FORMS) != null, DateScanner.mayContainDate(text), text);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.talentmerge.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeywordMatcherTest {
+
+    private static List<String> matches(KeywordMatcher matcher, String text) {
+        List<String> found = new ArrayList<>();
+        matcher.scan(text, (id, start, end) -> found.add(text.substring(start, end)));
+        return found;
+    }
+
+    @Test
+    @DisplayName("Should find all keywords case-insensitively in one pass, including overlapping ones")
+    void testScan_OverlappingKeywords() {
+        KeywordMatcher.Builder builder = KeywordMatcher.builder();
+        builder.add("Ruby");
+        builder.add("Ruby on Rails");
+        builder.add("Rails");
+        KeywordMatcher matcher = builder.build();
+
+        assertEquals(List.of("ruby", "RUBY", "RUBY on rails", "rails"), matches(matcher, "ruby, RUBY on rails"));
+    }
+
+    @Test
+    @DisplayName("Should only check word boundaries on sides that start or end with a word character")
+    void testScan_WordBoundaries() {
+        KeywordMatcher.Builder builder = KeywordMatcher.builder();
+        int go = builder.add("Go");
+        int cpp = builder.add("C++");
+        int java = builder.add("Java");
+        int net = builder.add(".NET");
+        KeywordMatcher matcher = builder.build();
+
+        assertArrayEquals(new int[0], matcher.findDistinct("Google Cloud, Gopher, JavaScript"));
+        assertArrayEquals(new int[]{go, cpp, java, net}, matcher.findDistinct("C++ and Go, Java/ASP.NET"));
+    }
+
+    @Test
+    @DisplayName("Should find substring keywords one character at a time as scan does")
+    void testAdvance_MatchesScan() {
+        KeywordMatcher.Builder builder = KeywordMatcher.builder();
+        int he = builder.addSubstring("he");
+        int she = builder.addSubstring("she");
+        int hers = builder.addSubstring("hers");
+        KeywordMatcher matcher = builder.build();
+        String text = "uSHErs and ushers";
+
+        List<Integer> scanned = new ArrayList<>();
+        matcher.scan(text, (id, start, end) -> scanned.add(id));
+        List<Integer> advanced = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = matcher.advance(state, text.charAt(i));
+            matcher.forEachKeywordEndingAt(state, advanced::add);
+        }
+
+        assertEquals(List.of(she, he, hers, she, he, hers), scanned);
+        assertEquals(scanned, advanced);
+    }
+
+    @Test
+    @DisplayName("Should fold non-ASCII letters")
+    void testScan_NonAsciiCaseFolding() {
+        KeywordMatcher.Builder builder = KeywordMatcher.builder();
+        builder.add("Génie Logiciel");
+        KeywordMatcher matcher = builder.build();
+
+        assertEquals(List.of("GÉNIE LOGICIEL"), matches(matcher, "Master GÉNIE LOGICIEL"));
+    }
+
+    @Test
+    @DisplayName("Should handle a dictionary of 20k keywords")
+    void testScan_LargeDictionary() {
+        KeywordMatcher.Builder builder = KeywordMatcher.builder();
+        for (int i = 0; i < 20_000; i++) {
+            builder.add("skill" + Integer.toString(i, 36) + "x");
+        }
+        int kotlin = builder.add("Kotlin");
+        KeywordMatcher matcher = builder.build();
+        String text = "Experienced with skill1x, SKILLZZX and Kotlin. ".repeat(1_000);
+
+        int[] found = matcher.findDistinct(text);
+
+        assertEquals(20_001, matcher.keywordCount());
+        assertArrayEquals(new int[]{1, Integer.parseInt("zz", 36), kotlin}, found);
+    }
+
+    @Test
+    @DisplayName("Should reject empty keywords")
+    void testAdd_EmptyKeyword() {
+        assertThrows(IllegalArgumentException.class, () -> KeywordMatcher.builder().add(""));
+    }
+}
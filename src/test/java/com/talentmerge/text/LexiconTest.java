@@ -0,0 +1,76 @@
+package com.talentmerge.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LexiconTest {
+
+    private final Lexicon lexicon = Lexicon.standard();
+
+    @Test
+    @DisplayName("Should load the versioned resource files of every language")
+    void testStandard() {
+        assertEquals(List.of("en", "fr", "de", "es", "it", "nl"), lexicon.languages());
+        assertFalse(lexicon.version().isBlank());
+        assertTrue(lexicon.entries(Lexicon.MONTH_PREFIX + 3).containsAll(List.of("march", "mars", "märz", "marzo", "maart")));
+    }
+
+    @Test
+    @DisplayName("Should detect the language of a text from its stopwords")
+    void testDetectLanguage() {
+        assertEquals("en", lexicon.detectLanguage("Developer with experience in the design of APIs"));
+        assertEquals("fr", lexicon.detectLanguage("Développeur avec une expérience de la conception des API"));
+        assertEquals("de", lexicon.detectLanguage("Entwickler mit Erfahrung in der Entwicklung von Diensten für das Team"));
+        assertEquals("es", lexicon.detectLanguage("Desarrollador con experiencia en el diseño de los servicios para la empresa"));
+        assertEquals("it", lexicon.detectLanguage("Sviluppatore con esperienza nel design di servizi per il team della azienda"));
+        assertEquals("nl", lexicon.detectLanguage("Ontwikkelaar met ervaring in het ontwerp van diensten voor een team"));
+        assertEquals(Lexicon.UNKNOWN_LANGUAGE, lexicon.detectLanguage("Java Python Kubernetes"));
+    }
+
+    @Test
+    @DisplayName("Should recognize section headers of every language")
+    void testSectionHeaders() {
+        assertEquals("experience", lexicon.sectionHeaders().match("BERUFSERFAHRUNG", 0, 15));
+        assertEquals("education", lexicon.sectionHeaders().match("Formación académica", 0, 19));
+        assertEquals("skills", lexicon.sectionHeaders().match("Vaardigheden", 0, 12));
+        assertEquals("experience", lexicon.sectionHeaders().match("Work Experience", 0, 15));
+    }
+
+    @Test
+    @DisplayName("Should only use the keywords of the active languages")
+    void testLanguageMasks() {
+        String german = "Leitender Entwickler bei Acme GmbH";
+        int base = lexicon.activeLanguages("Java Python");
+        int withGerman = lexicon.activeLanguages("Entwickler bei der Acme GmbH und für das Team");
+
+        assertFalse(lexicon.containsJobTitle("Entwickler", base));
+        assertTrue(lexicon.containsJobTitle("Entwickler", withGerman));
+        assertTrue(lexicon.containsJobTitle("Technical leadership", base));
+        assertEquals(List.of("gmbh"), lexicon.companyIndicatorsIn(german, withGerman));
+        // Indicators match inside words too, as "sa" does in "SARL"
+        assertEquals(List.of("inc", "sarl", "sa"), lexicon.companyIndicatorsIn("Acme Inc, Dupont SARL", Lexicon.ALL_LANGUAGES));
+    }
+
+    @Test
+    @DisplayName("Should compile a lexicon from entries and reject unknown base languages")
+    void testOf() {
+        Lexicon custom = Lexicon.of("test", List.of("en", "pt"), Set.of("en"), Map.of(
+                "en", Map.of(Lexicon.JOB_TITLE, List.of("engineer"), Lexicon.STOPWORD, List.of("the")),
+                "pt", Map.of(Lexicon.JOB_TITLE, List.of("engenheiro"), Lexicon.STOPWORD, List.of("o", "com"),
+                        Lexicon.SECTION_PREFIX + "experience", List.of("experiência profissional"))));
+
+        assertEquals("pt", custom.detectLanguage("Engenheiro com o time"));
+        assertTrue(custom.containsJobTitle("Engenheiro", custom.activeLanguages("com o time")));
+        assertFalse(custom.containsJobTitle("Engenheiro", custom.activeLanguages("the team")));
+        assertEquals("experience", custom.sectionHeaders().match("Experiencia Profissional", 0, 24));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Lexicon.of("test", List.of("en"), Set.of("fr"), Map.of()));
+    }
+}
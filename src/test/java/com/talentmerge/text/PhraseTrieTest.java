@@ -0,0 +1,45 @@
+package com.talentmerge.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhraseTrieTest {
+
+    private final PhraseTrie<String> trie = PhraseTrie.<String>builder()
+            .add("expérience professionnelle", "experience")
+            .add("formation", "education")
+            .build();
+
+    @Test
+    @DisplayName("Should match whole phrases ignoring case and accents")
+    void testMatch() {
+        assertEquals("experience", trie.match("EXPERIENCE PROFESSIONNELLE", 0, 26));
+        assertEquals("education", trie.match("Formátion", 0, 9));
+        assertNull(trie.match("formations", 0, 10));
+        assertNull(trie.match("form", 0, 4));
+    }
+
+    @Test
+    @DisplayName("Should continue a walk across separate regions")
+    void testWalk_AcrossRegions() {
+        String text = "Expérience\nProfessionnelle";
+        int state = trie.walk(PhraseTrie.ROOT, text, 0, 10);
+        state = trie.walk(state, ' ');
+        state = trie.walk(state, text, 11, text.length());
+
+        assertEquals("experience", trie.valueAt(state));
+        assertEquals(PhraseTrie.NO_MATCH, trie.walk(PhraseTrie.ROOT, text, 11, text.length()));
+    }
+
+    @Test
+    @DisplayName("Should fold ASCII, Latin and decomposed accents the same way")
+    void testFold() {
+        assertEquals('e', PhraseTrie.fold('E'));
+        assertEquals('e', PhraseTrie.fold('É'));
+        assertEquals('c', PhraseTrie.fold('ç'));
+        assertEquals(0, PhraseTrie.fold('\u0301'));
+        assertEquals('\u03C9', PhraseTrie.fold('\u038F'));
+    }
+}
@@ -0,0 +1,87 @@
+package com.talentmerge.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiiScannerTest {
+
+    private static List<String> texts(String text, List<PiiScanner.Span> spans) {
+        return spans.stream().map(span -> span.type() + " " + span.text(text)).toList();
+    }
+
+    @Test
+    @DisplayName("Should find every kind of personal info in one pass, in text order")
+    void testScan() {
+        String text = "Jane Doe <jane.doe@example.co.uk>\n"
+                + "Tel: +33 6 12 34 56 78, (555) 123-4567\n"
+                + "https://www.linkedin.com/in/jane-doe?locale=fr, www.janedoe.dev.\n"
+                + "Profile: linkedin.com/in/janedoe/ and 0612345678@sms.example.com";
+
+        assertEquals(List.of(
+                "EMAIL jane.doe@example.co.uk",
+                "PHONE +33 6 12 34 56 78",
+                "PHONE (555) 123-4567",
+                "LINKEDIN https://www.linkedin.com/in/jane-doe?locale=fr",
+                "URL www.janedoe.dev",
+                "LINKEDIN linkedin.com/in/janedoe/",
+                "EMAIL 0612345678@sms.example.com"), texts(text, PiiScanner.scan(text)));
+    }
+
+    @Test
+    @DisplayName("Should not take years, date ranges or short numbers for phone numbers")
+    void testScan_PhoneFalsePositives() {
+        String text = "2018 - 2020\n01.02.2020 to 12/2021\n(2015-2019)\nRoom 1234 567\nID 1234567890123456789\nv2.0.1";
+
+        assertEquals(List.of(), PiiScanner.scan(text, EnumSet.of(PiiScanner.Type.PHONE)));
+    }
+
+    @Test
+    @DisplayName("Should only report the requested types")
+    void testScan_Types() {
+        String text = "a@b.io +1 234 567 8900 https://example.com";
+
+        assertEquals(List.of("EMAIL a@b.io"), texts(text, PiiScanner.scan(text, EnumSet.of(PiiScanner.Type.EMAIL))));
+        assertEquals(List.of("URL https://example.com"),
+                texts(text, PiiScanner.scan(text, EnumSet.of(PiiScanner.Type.URL))));
+        assertNull(PiiScanner.first(text, PiiScanner.Type.LINKEDIN));
+    }
+
+    @Test
+    @DisplayName("Should redact in a single pass and keep spans without a replacement")
+    void testRedact() {
+        String text = "Mail a@b.io or see www.example.com, call +1 234 567 8900.";
+
+        String redacted = PiiScanner.redact(text, PiiScanner.scan(text), Map.of(
+                PiiScanner.Type.EMAIL, "[EMAIL]", PiiScanner.Type.PHONE, "[PHONE]"));
+
+        assertEquals("Mail [EMAIL] or see www.example.com, call [PHONE].", redacted);
+    }
+
+    @Test
+    @DisplayName("Should scan 50 KB resumes in linear time, including pathological text")
+    void testScan_LargeInputs() {
+        StringBuilder resume = new StringBuilder();
+        int contacts = 0;
+        while (resume.length() < 50_000) {
+            resume.append("Worked on Java services from 2018 - 2020 for client").append(contacts)
+                    .append("@example.com, tel +1 234 567 ").append(String.format("%04d", contacts % 10_000))
+                    .append(", see https://example.com/p/").append(contacts).append('\n');
+            contacts++;
+        }
+        String pathological = "a".repeat(50_000) + "@" + "b.".repeat(25_000);
+
+        int expected = contacts * 3;
+        List<PiiScanner.Span> spans = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertEquals(List.of(), PiiScanner.scan(pathological));
+            return PiiScanner.scan(resume);
+        });
+        assertEquals(expected, spans.size());
+    }
+}
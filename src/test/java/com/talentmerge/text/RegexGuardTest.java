@@ -0,0 +1,62 @@
+package com.talentmerge.text;
+
+import com.talentmerge.exception.RegexTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegexGuardTest {
+
+    @Test
+    @DisplayName("Should match normally within the budget")
+    void testMatcher_NormalMatch() {
+        Matcher matcher = RegexGuard.matcher(Pattern.compile("\\d{4}"), "Graduated in 2019");
+
+        assertTrue(matcher.find());
+        assertEquals("2019", matcher.group());
+    }
+
+    @Test
+    @DisplayName("Should abort runaway backtracking once the time budget is spent")
+    void testMatcher_AbortsRunawayBacktracking() {
+        // Retries the whole run of letters from every start position: quadratic in the input length
+        Pattern quadratic = Pattern.compile("[a-z]+@");
+        String input = "a".repeat(100_000);
+
+        long started = System.nanoTime();
+        assertThrows(RegexTimeoutException.class,
+                () -> RegexGuard.matcher(quadratic, input, 100_000, Duration.ofMillis(50)).find());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 2000);
+    }
+
+    @Test
+    @DisplayName("Should ignore input beyond the length cap")
+    void testMatcher_LengthCap() {
+        String input = "x".repeat(10) + "@";
+
+        assertFalse(RegexGuard.matcher(Pattern.compile("@"), input, 10, Duration.ofSeconds(1)).find());
+        assertTrue(RegexGuard.matcher(Pattern.compile("@"), input, 11, Duration.ofSeconds(1)).find());
+    }
+
+    @Test
+    @DisplayName("Should treat a timeout or an overlong input as no match, and rewrite whole inputs")
+    void testShortcuts() {
+        Pattern quadratic = Pattern.compile("[a-z]+@");
+        String runaway = "a".repeat(RegexGuard.DEFAULT_MAX_INPUT_LENGTH);
+
+        assertFalse(RegexGuard.find(quadratic, runaway));
+        assertEquals(runaway, RegexGuard.replaceAll(quadratic, runaway, ""));
+        assertFalse(RegexGuard.matches(Pattern.compile("x+"), "x".repeat(RegexGuard.DEFAULT_MAX_INPUT_LENGTH + 1)));
+        assertTrue(RegexGuard.matches(Pattern.compile("x+"), "x".repeat(RegexGuard.DEFAULT_MAX_INPUT_LENGTH)));
+
+        // Replacement covers the input past the cap
+        String input = "(cid:1)" + "y".repeat(RegexGuard.DEFAULT_MAX_INPUT_LENGTH) + "(cid:2)";
+        assertEquals("y".repeat(RegexGuard.DEFAULT_MAX_INPUT_LENGTH),
+                RegexGuard.replaceAll(Pattern.compile("\\(cid:\\d+\\)"), input, ""));
+    }
+}
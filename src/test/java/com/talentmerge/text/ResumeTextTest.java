@@ -0,0 +1,54 @@
+package com.talentmerge.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeTextTest {
+
+    @Test
+    @DisplayName("Should index lines once, without their line breaks")
+    void testLines() {
+        ResumeText resume = ResumeText.of("  Jane Doe \r\n\r\nEXPERIENCE\nDéveloppeuse Java");
+
+        assertEquals(4, resume.lineCount());
+        assertEquals("  Jane Doe ", resume.line(0).toString());
+        assertEquals("Jane Doe", resume.trimmedLine(0).toString());
+        assertTrue(resume.isBlank(1));
+        assertEquals("", resume.trimmedLine(1).toString());
+        assertEquals(resume.text().indexOf("EXPERIENCE"), resume.lineStart(2));
+        assertEquals(resume.text().length(), resume.lineStart(resume.lineCount()));
+        assertEquals("Doe", resume.trimmedLine(0).subSequence(5, 8).toString());
+    }
+
+    @Test
+    @DisplayName("Should give lower-cased and accent-free views with the same offsets")
+    void testViews() {
+        ResumeText resume = ResumeText.of("EXPERIENCE\nDéveloppeuse Java");
+
+        assertEquals(resume.text().length(), resume.lowerCase().length());
+        assertEquals(resume.text().length(), resume.folded().length());
+        assertEquals("développeuse java", resume.lowerCaseLine(1).toString());
+        assertEquals("developpeuse java", resume.foldedLine(1).toString());
+        assertTrue(resume.lineContains(1, "développeuse"));
+        assertFalse(resume.lineContains(0, "java"));
+        assertTrue(resume.lineContainsFolded(1, ResumeText.fold("DÉVELOPPEUSE")));
+        assertSame(resume.folded(), resume.folded());
+    }
+
+    @Test
+    @DisplayName("Should share the document index with views over a range of lines")
+    void testLineRanges() {
+        ResumeText resume = ResumeText.of("Header\nfirst \n\n  second\nFooter");
+        ResumeText middle = resume.lines(1, 4);
+
+        assertEquals(3, middle.lineCount());
+        assertEquals("first\nsecond", middle.joinTrimmedLines());
+        assertEquals("first \n\n  second", middle.toString());
+        assertEquals(resume.lineStart(4), middle.lineStart(middle.lineCount()));
+        assertTrue(resume.lines(2, 3).isBlank());
+        assertEquals(0, resume.lines(5, 9).lineCount());
+        assertSame(resume.lowerCase(), middle.lowerCase());
+    }
+}
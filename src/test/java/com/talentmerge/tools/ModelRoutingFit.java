@@ -0,0 +1,54 @@
+package com.talentmerge.tools;
+
+import com.talentmerge.service.ModelRoutingService;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Offline fit of the model routing thresholds, without starting the application.
+ * Reads a recorded corpus CSV with the header {@code chars,sections,language,small_model_ok}
+ * (one line per resume, small_model_ok = the small model's extraction matched the large model's)
+ * and prints the thresholds to put under {@code app.ai.routing.thresholds}.
+ *
+ * Arguments: corpus file [target accuracy, default 0.98] [small languages, default en,fr], e.g.
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.talentmerge.tools.ModelRoutingFit
+ * -Dexec.args="routing-corpus.csv 0.98 en,fr"}
+ */
+public final class ModelRoutingFit {
+
+    private ModelRoutingFit() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: ModelRoutingFit <corpus.csv> [target-accuracy] [small-languages]");
+            System.exit(2);
+        }
+        double targetAccuracy = args.length > 1 ? Double.parseDouble(args[1]) : 0.98;
+        Set<String> smallLanguages = Set.of((args.length > 2 ? args[2] : "en,fr").split(","));
+
+        List<String> lines = Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8);
+        List<ModelRoutingService.CorpusSample> samples = new ArrayList<>();
+        for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            if (line.isBlank()) continue;
+            String[] columns = line.split(",");
+            samples.add(new ModelRoutingService.CorpusSample(
+                    Integer.parseInt(columns[0].trim()),
+                    Integer.parseInt(columns[1].trim()),
+                    columns[2].trim(),
+                    Boolean.parseBoolean(columns[3].trim())));
+        }
+
+        ModelRoutingService.RoutingThresholds thresholds =
+                ModelRoutingService.fitThresholds(samples, smallLanguages, targetAccuracy);
+        System.out.printf("Fitted routing thresholds on %d resumes: max-chars=%d, max-sections=%d "
+                        + "(%d routed to the small model, %.1f%% acceptable)%n",
+                samples.size(), thresholds.maxChars, thresholds.maxSections, thresholds.routedSamples,
+                thresholds.accuracy * 100);
+    }
+}